@@ -59,6 +59,8 @@ public class Constants {
 
     public static final AttributeKey<Boolean> LAZY_COLLECTIONS_INIT_ENABLED = new AttributeKey<Boolean>("LAZY_COLLECTIONS_INIT_ENABLED", Boolean.class);
     public static final AttributeKey<Boolean> LAZY_MAP_INIT_ENABLED = new AttributeKey<Boolean>("LAZY_MAPS_INIT_ENABLED", Boolean.class);
+    public static final AttributeKey<Boolean> PRIMITIVE_BUFFERS_ENABLED = new AttributeKey<Boolean>("PRIMITIVE_BUFFERS_ENABLED", Boolean.class);
+    public static final AttributeKey<Boolean> UNMODIFIABLE_COLLECTIONS_ENABLED = new AttributeKey<Boolean>("UNMODIFIABLE_COLLECTIONS_ENABLED", Boolean.class);
 
     public static final AttributeKey<Boolean> EDITABLE_ENABLED = new AttributeKey<Boolean>("EDITABLE_ENABLED", Boolean.class);
     public static final AttributeKey<Boolean> BUILDABLE_ENABLED =  new AttributeKey<Boolean>("BUILDABLE_ENABLED", Boolean.class);
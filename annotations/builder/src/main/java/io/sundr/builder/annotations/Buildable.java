@@ -24,13 +24,15 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 @Target({ElementType.CONSTRUCTOR, ElementType.TYPE})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Buildable {
 
     boolean editableEnabled() default true;
     boolean validationEnabled() default false;
     boolean lazyCollectionInitEnabled() default true;
     boolean lazyMapInitEnabled() default true;
+    boolean primitiveBuffersEnabled() default false;
+    boolean unmodifiableCollectionsEnabled() default false;
     boolean generateBuilderPackage() default false;
     String builderPackage() default Constants.DEFAULT_BUILDER_PACKAGE;
     BuildableReference[] refs() default {};
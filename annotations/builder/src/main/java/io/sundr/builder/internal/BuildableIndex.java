@@ -0,0 +1,270 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder.internal;
+
+import io.sundr.builder.internal.functions.Descendants;
+import io.sundr.codegen.model.AttributeKey;
+import io.sundr.codegen.model.ClassRef;
+import io.sundr.codegen.model.Method;
+import io.sundr.codegen.model.Property;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeRef;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Keeps a fingerprint of each buildable that was generated by a previous compilation.
+ * The fingerprint of a buildable covers its own definition and the definitions of all the buildables reachable
+ * through its properties, super classes, interfaces and the buildable descendants of those, so a buildable is considered
+ * changed if anything in its property graph changed.
+ * It also covers the processor version, the processor options and the set of known buildables, so any change to those
+ * regenerates all buildables.
+ */
+public class BuildableIndex {
+
+    private static final String INDEX_DIRECTORY = "META-INF/sundrio/";
+    private static final String INDEX_SUFFIX = ".index";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    //Identifies the processor code. Null if it can't be determined, in which case nothing is considered unchanged.
+    private static final String VERSION = versionOf(BuildableIndex.class);
+
+    private final Map<String, String> options;
+    private final Map<String, String> previous = new TreeMap<String, String>();
+    private final Map<String, String> current = new TreeMap<String, String>();
+
+    BuildableIndex(Map<String, String> options) {
+        this.options = new TreeMap<String, String>(options);
+    }
+
+    /**
+     * Loads the index stored by a previous compilation.
+     * A missing or unreadable index results in an empty one.
+     * @param filer     The filer.
+     * @param name      The name of the index.
+     * @param options   The processor options.
+     * @return          The index.
+     */
+    public static BuildableIndex load(Filer filer, String name, Map<String, String> options) {
+        BuildableIndex index = new BuildableIndex(options);
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_DIRECTORY + name + INDEX_SUFFIX);
+            try (InputStream is = file.openInputStream()) {
+                Properties properties = new Properties();
+                properties.load(is);
+                for (String key : properties.stringPropertyNames()) {
+                    index.previous.put(key, properties.getProperty(key));
+                }
+            }
+        } catch (Exception e) {
+            //No index from a previous compilation.
+        }
+        return index;
+    }
+
+    /**
+     * Stores the fingerprints recorded during this compilation, along with those of buildables that were not processed.
+     * @param filer     The filer.
+     * @param name      The name of the index.
+     * @param elements  The originating elements.
+     */
+    public void store(Filer filer, String name, Element... elements) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(previous);
+        properties.putAll(current);
+        FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_DIRECTORY + name + INDEX_SUFFIX, elements);
+        try (OutputStream os = file.openOutputStream()) {
+            properties.store(os, null);
+        }
+    }
+
+    /**
+     * Returns the state that all buildables of the specified context depend on:
+     * the processor version, the processor and context options and the names of all known buildables.
+     * @param context   The builder context.
+     * @return          The environment, to be passed to {@link #update(BuilderContext, String, TypeDef)}.
+     */
+    public String environmentOf(BuilderContext context) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append('\n');
+        for (Map.Entry<String, String> entry : options.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        sb.append(context.getGenerateBuilderPackage()).append(':')
+                .append(context.isValidationEnabled()).append(':')
+                .append(context.isExternalvalidatorSupported()).append(':')
+                .append(context.getBuilderPackage()).append(':')
+                .append(Arrays.toString(context.getInlineables())).append('\n');
+
+        Set<String> names = new TreeSet<String>();
+        for (TypeDef buildable : context.getBuildableRepository().getBuildables()) {
+            names.add(buildable.getFullyQualifiedName());
+        }
+        for (String name : names) {
+            sb.append(name).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Records the fingerprint of the specified buildable and checks it against the previous compilation.
+     * @param context       The builder context.
+     * @param environment   The environment of the context, as returned by {@link #environmentOf(BuilderContext)}.
+     * @param buildable     The buildable.
+     * @return              True if the fingerprint is the same as in the previous compilation.
+     */
+    public boolean update(BuilderContext context, String environment, TypeDef buildable) {
+        String fingerprint = fingerprint(context.getBuildableRepository(), environment, buildable);
+        current.put(buildable.getFullyQualifiedName(), fingerprint);
+        return VERSION != null && fingerprint.equals(previous.get(buildable.getFullyQualifiedName()));
+    }
+
+    public boolean isEmpty() {
+        return current.isEmpty();
+    }
+
+    static String fingerprint(BuildableRepository repository, String environment, TypeDef buildable) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            update(digest, environment);
+            digest(repository, buildable, digest, new HashSet<String>());
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void digest(BuildableRepository repository, TypeDef type, MessageDigest digest, Set<String> visited) {
+        if (type == null || !visited.add(type.getFullyQualifiedName())) {
+            return;
+        }
+
+        update(digest, type.toString());
+        update(digest, type.getAttributes());
+        for (Property property : type.getProperties()) {
+            update(digest, property.toString());
+            update(digest, property.getAttributes());
+        }
+        for (Method constructor : type.getConstructors()) {
+            update(digest, constructor.toString());
+        }
+        for (Method method : type.getMethods()) {
+            update(digest, method.toString());
+        }
+
+        for (ClassRef superClass : type.getExtendsList()) {
+            digestReferences(repository, superClass, digest, visited);
+        }
+        for (ClassRef superInterface : type.getImplementsList()) {
+            digestReferences(repository, superInterface, digest, visited);
+        }
+        for (Property property : type.getProperties()) {
+            digestReferences(repository, property.getTypeRef(), digest, visited);
+        }
+    }
+
+    private static void digestReferences(BuildableRepository repository, TypeRef typeRef, MessageDigest digest, Set<String> visited) {
+        if (!(typeRef instanceof ClassRef)) {
+            return;
+        }
+        ClassRef classRef = (ClassRef) typeRef;
+        if (repository.isBuildable(classRef)) {
+            digest(repository, repository.getBuildable(classRef), digest, visited);
+        }
+        //Fluents use the buildable descendants of referenced types too (buildable or not), e.g. for withNewX and addToX methods.
+        if (classRef.getDefinition() != null) {
+            for (TypeDef descendant : Descendants.BUILDABLE_DECENDANTS.apply(classRef.getDefinition())) {
+                digest(repository, descendant, digest, visited);
+            }
+        }
+        for (TypeRef argument : classRef.getArguments()) {
+            digestReferences(repository, argument, digest, visited);
+        }
+    }
+
+    private static void update(MessageDigest digest, Map<AttributeKey, Object> attributes) {
+        Map<String, Object> sorted = new TreeMap<String, Object>();
+        for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+            sorted.put(entry.getKey().getName(), entry.getValue());
+        }
+        for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+            update(digest, entry.getKey() + "=" + entry.getValue());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Returns the implementation version of the specified class, along with the size and modification time of
+     * the jar or the class files it was loaded from, or null if the location of the class is unknown.
+     */
+    static String versionOf(Class type) {
+        try {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            URL location = codeSource != null ? codeSource.getLocation() : null;
+            if (location == null || !"file".equals(location.getProtocol())) {
+                return null;
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append(type.getPackage() != null ? type.getPackage().getImplementationVersion() : null);
+            appendFiles(sb, new File(location.toURI()));
+            return sb.toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void appendFiles(StringBuilder sb, File file) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                Arrays.sort(children);
+                for (File child : children) {
+                    appendFiles(sb, child);
+                }
+            }
+        } else {
+            sb.append(':').append(file.getPath()).append(':').append(file.length()).append(':').append(file.lastModified());
+        }
+    }
+}
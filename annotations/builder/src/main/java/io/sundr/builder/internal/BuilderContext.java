@@ -32,6 +32,7 @@ import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static io.sundr.builder.Constants.INLINEABLE;
 
@@ -53,9 +54,11 @@ public class BuilderContext {
     private final TypeDef visitableInterface;
     private final TypeDef visitableBuilderInterface;
     private final TypeDef visitableMapClass;
+    private final TypeDef visitorDispatchClass;
     private final TypeDef inlineableBase;
     private final TypeDef validationUtils;
     private final TypeDef baseFluentClass;
+    private final List<TypeDef> primitiveBufferClasses;
     private final Boolean generateBuilderPackage;
     private final Boolean validationEnabled;
     private final Boolean externalValidatorSupported;
@@ -135,10 +138,21 @@ public class BuilderContext {
                 .accept(new ReplacePackage("io.sundr.builder", builderPackage))
                 .build();
 
+        visitorDispatchClass = new TypeDefBuilder(Sources.FROM_CLASSPATH_TO_SINGLE_TYPEDEF.apply("io/sundr/builder/VisitorDispatch.java"))
+                .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+                .build();
+
         baseFluentClass  = new TypeDefBuilder(Sources.FROM_CLASSPATH_TO_SINGLE_TYPEDEF.apply("io/sundr/builder/BaseFluent.java"))
                 .accept(new ReplacePackage("io.sundr.builder", builderPackage))
                 .build();
 
+        primitiveBufferClasses = new ArrayList<>();
+        for (String primitive : new String[]{"Int", "Long", "Double", "Boolean"}) {
+            primitiveBufferClasses.add(new TypeDefBuilder(Sources.FROM_CLASSPATH_TO_SINGLE_TYPEDEF.apply("io/sundr/builder/" + primitive + "ArrayBuffer.java"))
+                    .accept(new ReplacePackage("io.sundr.builder", builderPackage))
+                    .build());
+        }
+
         validationUtils = new TypeDefBuilder(Sources.FROM_INPUTSTEAM_TO_SINGLE_TYPEDEF.apply(BuilderContext.class.getResourceAsStream("/io/sundr/builder/internal/resources/ValidationUtils.java")))
                 .accept(new ReplacePackage("io.sundr.builder.internal.resources", builderPackage))
                 .withAnnotations(new ArrayList<>())
@@ -197,6 +211,22 @@ public class BuilderContext {
         return baseFluentClass;
     }
 
+    public List<TypeDef> getPrimitiveBufferClasses() {
+        return primitiveBufferClasses;
+    }
+
+    /**
+     * Returns the buffer class for the specified primitive type, or null if there is no such buffer.
+     */
+    public TypeDef getPrimitiveBufferClass(String primitive) {
+        for (TypeDef buffer : primitiveBufferClasses) {
+            if (buffer.getName().equalsIgnoreCase(primitive + "ArrayBuffer")) {
+                return buffer;
+            }
+        }
+        return null;
+    }
+
     public TypeDef getFluentInterface() {
         return fluentInterface;
     }
@@ -229,6 +259,10 @@ public class BuilderContext {
         return visitableMapClass;
     }
 
+    public TypeDef getVisitorDispatchClass() {
+        return visitorDispatchClass;
+    }
+
     public TypeDef getVisitorInterface() {
         return visitorInterface;
     }
@@ -18,6 +18,7 @@ package io.sundr.builder.internal;
 
 import io.sundr.builder.Builder;
 import io.sundr.builder.annotations.Inline;
+import io.sundr.codegen.CodegenContext;
 
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -26,16 +27,18 @@ public class BuilderContextManager {
     
     private BuilderContextManager() {}
 
-    private static BuilderContext context = null;
-
+    //The builder context is kept per compilation, as an extension of the codegen context.
     public synchronized static BuilderContext create(Elements elements, Types types) {
-        context = new BuilderContext(elements, types, false, false, Builder.class.getPackage().getName());
+        BuilderContext context = new BuilderContext(elements, types, false, false, Builder.class.getPackage().getName());
+        CodegenContext.getContext().setExtension(BuilderContext.class, context);
         return context;
     }
 
-    public static BuilderContext create(Elements elements, Types types, Boolean validationEnabled, Boolean generateBuilderPackage, String packageName, Inline... inlineables) {
+    public synchronized static BuilderContext create(Elements elements, Types types, Boolean validationEnabled, Boolean generateBuilderPackage, String packageName, Inline... inlineables) {
+        BuilderContext context = CodegenContext.create(elements, types).getExtension(BuilderContext.class);
         if (context == null) {
             context = new BuilderContext(elements, types, generateBuilderPackage, validationEnabled, packageName, inlineables);
+            CodegenContext.getContext().setExtension(BuilderContext.class, context);
             return context;
         } else {
             if (!packageName.equals(context.getBuilderPackage())) {
@@ -50,8 +53,10 @@ public class BuilderContextManager {
         }
     }
 
-    public static synchronized BuilderContext getContext() {
-        if (context== null) {
+    public static BuilderContext getContext() {
+        CodegenContext codegenContext = CodegenContext.current();
+        BuilderContext context = codegenContext != null ? codegenContext.getExtension(BuilderContext.class) : null;
+        if (context == null) {
             throw new IllegalStateException("Builder context not available.");
         }
         return context;
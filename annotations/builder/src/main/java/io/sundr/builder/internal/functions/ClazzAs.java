@@ -62,9 +62,11 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Pattern;
@@ -73,6 +75,7 @@ import java.util.stream.Collectors;
 import static io.sundr.builder.Constants.*;
 import static io.sundr.builder.internal.utils.BuilderUtils.*;
 import static io.sundr.codegen.model.Attributeable.ALSO_IMPORT;
+import static io.sundr.codegen.model.Attributeable.INIT;
 import static io.sundr.codegen.utils.TypeUtils.isAbstract;
 import static io.sundr.codegen.utils.TypeUtils.isPrimitive;
 import static io.sundr.codegen.utils.TypeUtils.modifiersToInt;
@@ -121,7 +124,10 @@ public class ClazzAs {
                 Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(toAdd);
                 toAdd = new PropertyBuilder(toAdd).addToAttributes(DESCENDANTS, descendants).accept(new InitEnricher()).build();
 
-                if (isArray) {
+                if (isArray && primitiveBufferOf(toAdd) != null) {
+                    methods.addAll(ToMethod.PRIMITIVE_BUFFER.apply(toAdd));
+                    toAdd = primitiveBufferField(toAdd);
+                } else if (isArray) {
                     Property asList = arrayAsList(toAdd);
                     methods.add(ToMethod.WITH_ARRAY.apply(toAdd));
                     methods.addAll(ToMethod.GETTER_ARRAY.apply(toAdd));
@@ -271,7 +277,10 @@ public class ClazzAs {
                 Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(toAdd);
                 toAdd = new PropertyBuilder(toAdd).addToAttributes(DESCENDANTS, descendants).build();
 
-                if (isArray) {
+                if (isArray && primitiveBufferOf(toAdd) != null) {
+                    methods.addAll(ToMethod.PRIMITIVE_BUFFER.apply(toAdd));
+                    toAdd = primitiveBufferField(toAdd);
+                } else if (isArray) {
                     Property asList = arrayAsList(toAdd);
                     methods.add(ToMethod.WITH_ARRAY.apply(toAdd));
                     methods.addAll(ToMethod.GETTER_ARRAY.apply(toAdd));
@@ -364,10 +373,36 @@ public class ClazzAs {
 
             methods.add(equals);
 
+            Method hashCode = new MethodBuilder()
+                    .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(ClassTo.TYPEREF.apply(int.class))
+                    .withName("hashCode")
+                    .addToAttributes(ALSO_IMPORT, Collections.singletonList(ClassTo.TYPEDEF.apply(Objects.class).toReference()))
+                    .withBlock(new Block(new Provider<List<Statement>>() {
+                        @Override
+                        public List<Statement> get() {
+                            return toHashCode(fluentImplType, properties);
+                        }
+                    })).build();
+
+            methods.add(hashCode);
+
+            List<Property> fields = new ArrayList<Property>(properties);
+            if (properties.stream().anyMatch(BuilderUtils::isHandedOutUnmodifiable)) {
+                ClassRef sharedRef = ClassTo.TYPEDEF.apply(HashSet.class).toReference(io.sundr.codegen.Constants.STRING_REF);
+                fields.add(new PropertyBuilder()
+                        .withName("_shared")
+                        .withTypeRef(io.sundr.codegen.functions.Collections.SET.toReference(io.sundr.codegen.Constants.STRING_REF))
+                        .withModifiers(TypeUtils.modifiersToInt(Modifier.PRIVATE, Modifier.FINAL))
+                        .addToAttributes(INIT, "new " + sharedRef + "()")
+                        .addToAttributes(ALSO_IMPORT, Collections.singletonList(sharedRef))
+                        .build());
+            }
+
             return BuilderContextManager.getContext().getDefinitionRepository().register(new TypeDefBuilder(fluentImplType)
                     .withAnnotations()
                     .withConstructors(constructors)
-                    .withProperties(properties)
+                    .withProperties(fields)
                     .withInnerTypes(nestedClazzes)
                     .withMethods(methods)
                     .build());
@@ -558,6 +593,20 @@ public class ClazzAs {
 
             methods.add(equals);
 
+            Method hashCode = new MethodBuilder()
+                    .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(ClassTo.TYPEREF.apply(int.class))
+                    .withName("hashCode")
+                    .addToAttributes(ALSO_IMPORT, Collections.singletonList(ClassTo.TYPEDEF.apply(Objects.class).toReference()))
+                    .withBlock(new Block(new Provider<List<Statement>>() {
+                        @Override
+                        public List<Statement> get() {
+                            return toHashCode(builderType, fields);
+                        }
+                    })).build();
+
+            methods.add(hashCode);
+
 
             if (validationEnabled) {
                 ClassRef validatorRef = new ClassRefBuilder()
@@ -729,6 +778,7 @@ public class ClazzAs {
         TypeRef unwrapped = TypeAs.UNWRAP_ARRAY_OF.apply(property.getTypeRef());
         return new PropertyBuilder(property)
                 .withTypeRef(TypeAs.ARRAY_AS_LIST.apply(TypeAs.BOXED_OF.apply(unwrapped)))
+                .addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, false)
                 .build();
     }
 
@@ -933,6 +983,29 @@ public class ClazzAs {
 
 
 
+    /**
+     * Creates a hashCode() consistent with the equals() created by {@link #toEquals(TypeDef, Collection)}.
+     */
+    private static List<Statement> toHashCode(TypeDef type, Collection<Property> properties) {
+        List<String> values = new ArrayList<>();
+        for (Property property : properties) {
+            String name = property.getName();
+            if (property.getTypeRef() instanceof ClassRef && Descendants.isDescendant(type, ((ClassRef) property.getTypeRef()).getDefinition())) {
+                //equals() ignores a self reference, so it should not be hashed either.
+                values.add(name + " != this ? " + name + " : null");
+            } else {
+                values.add(name);
+            }
+        }
+
+        ClassRef superClass = type.getExtendsList().isEmpty() ? TypeDef.OBJECT_REF : type.getExtendsList().iterator().next();
+        final String superClassFQN = superClass.getDefinition().getFullyQualifiedName();
+        if (!BuilderContextManager.getContext().getBaseFluentClass().getFullyQualifiedName().equals(superClassFQN) && !OBJECT_FULLY_QUALIFIED_NAME.equals(superClassFQN)) {
+            values.add("super.hashCode()");
+        }
+        return Collections.<Statement>singletonList(new StringStatement("return Objects.hash(" + StringUtils.join(values, ", ") + ");"));
+    }
+
     private static Method superConstructorOf(Method constructor, TypeDef constructorType) {
         List<AnnotationRef> annotations = new ArrayList<AnnotationRef>();
         for (AnnotationRef candidate : constructor.getAnnotations()) {
@@ -24,6 +24,7 @@ import io.sundr.builder.internal.BuildableRepository;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.visitors.InitEnricher;
+import io.sundr.codegen.ScopedCaches;
 import io.sundr.codegen.model.AnnotationRef;
 import io.sundr.codegen.model.ClassRef;
 
@@ -52,7 +53,7 @@ public class Descendants {
 
     private static final String VALUE = "value";
 
-    public static final Function<TypeDef, Set<TypeDef>> BUILDABLE_DECENDANTS = FunctionFactory.cache(new Function<TypeDef, Set<TypeDef>>() {
+    public static final Function<TypeDef, Set<TypeDef>> BUILDABLE_DECENDANTS = ScopedCaches.cache(new Function<TypeDef, Set<TypeDef>>() {
         public Set<TypeDef> apply(TypeDef item) {
             if (item.equals(TypeDef.OBJECT)) {
                 return new LinkedHashSet<TypeDef>();
@@ -17,11 +17,12 @@
 package io.sundr.builder.internal.functions;
 
 import io.sundr.Function;
-import io.sundr.FunctionFactory;
 import io.sundr.builder.Constants;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.utils.BuilderUtils;
 import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.ScopedCaches;
+import io.sundr.codegen.functions.ClassTo;
 import io.sundr.codegen.functions.Singularize;
 import io.sundr.codegen.model.*;
 import io.sundr.codegen.utils.Getter;
@@ -190,7 +191,7 @@ class ToMethod {
         private final String nonMatch;
     }
 
-    static final Function<Property, Method> WITH = FunctionFactory.cache(new Function<Property, Method>() {
+    static final Function<Property, Method> WITH = ScopedCaches.concurrentCache(new Function<Property, Method>() {
 
         public Method apply(Property property) {
             TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
@@ -229,10 +230,13 @@ class ToMethod {
 
             if (IS_COLLECTION.apply(type) || IS_MAP.apply(type)) {
 
+                if (BuilderUtils.isHandedOutUnmodifiable(property)) {
+                    statements.add(new StringStatement("_shared.remove(\"" + fieldName + "\");"));
+                }
                 if (IS_MAP.apply(type)) {
                     statements.add(new StringStatement("if (" + fieldName + " == null) { this." + fieldName + " =  null;} else {this." + fieldName + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.singletonList(fieldName)) + ";} return (" + returnType + ") this;"));
                 } else if (IS_LIST.apply(type) || IS_SET.apply(type)) {
-                    statements.add(new StringStatement("if (this." + fieldName + " != null) { _visitables.get(\"" + fieldName + "\").removeAll(this." + fieldName + ");}"));
+                    statements.add(new StringStatement("if (this." + fieldName + " != null) { removeSame(_visitables.get(\"" + fieldName + "\"), this." + fieldName + ");}"));
 
                     String addToMethodName = "addTo" + property.getNameCapitalized();
                     statements.add(new StringStatement("if (" + argumentName + " != null) {this." + fieldName + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; for (" + unwrapped.toString() + " item : " + argumentName + "){this." + addToMethodName + "(item);}} else { this." + fieldName + " = null;} return (" + returnType + ") this;"));
@@ -266,7 +270,7 @@ class ToMethod {
         }
     });
 
-    static final Function<Property, Method> WITH_ARRAY = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> WITH_ARRAY = ScopedCaches.concurrentCache(property -> {
         TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
 
         String methodName = "with" + property.getNameCapitalized();
@@ -283,13 +287,13 @@ class ToMethod {
                 .withArguments(arrayProperty)
                 .withVarArgPreferred(true)
                 .withNewBlock()
-                .addNewStringStatementStatement("if (this." + property.getName() + " != null) {this." + property.getName() + ".clear();}")
+                .addNewStringStatementStatement(discardShared(property) + "if (this." + property.getName() + " != null) {this." + property.getName() + ".clear();}")
                 .addNewStringStatementStatement("if (" + property.getName() + " != null) {for (" + unwraped.toString() + " item :" + property.getName() + "){ this." + addToMethodName + "(item);}} return (" + returnType + ") this;")
                 .endBlock()
                 .build();
     });
 
-    static final Function<Property, List<Method>> WITH_OPTIONAL = FunctionFactory.cache(property -> {
+    static final Function<Property, List<Method>> WITH_OPTIONAL = ScopedCaches.concurrentCache(property -> {
         List<Method> methods = new ArrayList<>();
         TypeRef unwrapped = combine(UNWRAP_OPTIONAL_OF).apply(property.getTypeRef());
 
@@ -337,14 +341,14 @@ class ToMethod {
         return methods;
     });
 
-    static final Function<Property, Method> HAS = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> HAS = ScopedCaches.concurrentCache(property -> {
         String prefix = "has";
         String methodName = prefix + property.getNameCapitalized();
         List<Statement> statements = new ArrayList<>();
 
         if (isPrimitive(property.getTypeRef())) {
             statements.add(new StringStatement("return true;"));
-        } else if (isList(property.getTypeRef()) || isSet(property.getTypeRef())) {
+        } else if (isList(property.getTypeRef()) || isSet(property.getTypeRef()) || BuilderUtils.isPrimitiveBuffer(property.getTypeRef())) {
             statements.add(new StringStatement("return " + property.getName() + " != null && !" + property.getName() + ".isEmpty();"));
         } else if (isOptional(property.getTypeRef()) || isOptionalInt(property.getTypeRef()) || isOptionalLong(property.getTypeRef()) || isOptionalDouble(property.getTypeRef())) {
             statements.add(new StringStatement("return " + property.getName() + " != null && " + property.getName() + ".isPresent();"));
@@ -363,7 +367,7 @@ class ToMethod {
                 .build();
     });
 
-    static final Function<Property, List<Method>> GETTER = FunctionFactory.cache(property -> {
+    static final Function<Property, List<Method>> GETTER = ScopedCaches.concurrentCache(property -> {
         List<Method> methods = new ArrayList<>();
         TypeRef unwrapped = combine(UNWRAP_COLLECTION_OF, UNWRAP_ARRAY_OF, UNWRAP_OPTIONAL_OF).apply(property.getTypeRef());
 
@@ -382,7 +386,11 @@ class ToMethod {
         TreeSet<Property> descendants = new TreeSet<>(Comparator.comparing(Property::getName));
         descendants.addAll(Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property));
 
-        if (isMap) {
+        if (BuilderUtils.isHandedOutUnmodifiable(property)) {
+            String view = isMap ? "unmodifiableMap" : isList ? "unmodifiableList" : "unmodifiableSet";
+            statements.add(new StringStatement("if (this." + property.getName() + " != null && _shared.add(\"" + property.getName() + "\")) {this." + property.getName() + " = Collections." + view + "(this." + property.getName() + ");}"));
+            statements.add(new StringStatement("return this." + property.getName() + ";"));
+        } else if (isMap) {
             statements.add(new StringStatement("return this." + property.getName() + ";"));
         } else if (isBuildable(unwrapped)) {
             isNested = true;
@@ -421,6 +429,7 @@ class ToMethod {
                 .withNewBlock()
                 .withStatements(statements)
                 .endBlock()
+                .addToAttributes(ALSO_IMPORT, BuilderUtils.isHandedOutUnmodifiable(property) ? Collections.singletonList(ClassTo.TYPEDEF.apply(Collections.class).toReference()) : Collections.EMPTY_LIST)
                 .build();
 
         methods.add(getter);
@@ -453,7 +462,7 @@ class ToMethod {
         return methods;
     });
 
-    static final Function<Property, List<Method>> GETTER_ARRAY = FunctionFactory.cache(property -> {
+    static final Function<Property, List<Method>> GETTER_ARRAY = ScopedCaches.concurrentCache(property -> {
         List<Method> methods = new ArrayList<>();
         List<AnnotationRef> annotations = new ArrayList<>();
         List<String> comments = new ArrayList<>();
@@ -514,7 +523,149 @@ class ToMethod {
         return methods;
     });
 
-    static final Function<Property, List<Method>> ADD_TO_COLLECTION = FunctionFactory.cache(new Function<Property, List<Method>>() {
+    /**
+     * Initializes the collection of the property if needed, and copies it if it has been handed out.
+     */
+    private static String lazyInit(Property property, String propertyName) {
+        return unshare(property) + "if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}";
+    }
+
+    /**
+     * Replaces a collection that has been handed out as an unmodifiable view with a copy, so that the fluent can modify it.
+     */
+    private static String unshare(Property property) {
+        if (!BuilderUtils.isHandedOutUnmodifiable(property)) {
+            return "";
+        }
+        String name = property.getName();
+        return "if (_shared.remove(\"" + name + "\")) {this." + name + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.singletonList("this." + name)) + ";} ";
+    }
+
+    /**
+     * Replaces a collection that has been handed out with an empty one, for methods that are going to clear it anyway.
+     */
+    private static String discardShared(Property property) {
+        if (!BuilderUtils.isHandedOutUnmodifiable(property)) {
+            return "";
+        }
+        String name = property.getName();
+        return "if (_shared.remove(\"" + name + "\")) {this." + name + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + ";} ";
+    }
+
+    /**
+     * The methods of an array property that is held in a primitive buffer.
+     * They mirror the methods of array properties that are held in lists, but accept primitives where possible.
+     */
+    static final Function<Property, List<Method>> PRIMITIVE_BUFFER = ScopedCaches.concurrentCache(property -> {
+        List<Method> methods = new ArrayList<>();
+        TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
+        TypeRef unwrapped = UNWRAP_ARRAY_OF.apply(property.getTypeRef());
+        TypeRef boxed = BOXED_OF.apply(unwrapped);
+        ClassRef bufferRef = BuilderUtils.primitiveBufferOf(property).toInternalReference();
+        List<ClassRef> alsoImport = Collections.singletonList(bufferRef);
+
+        String name = property.getName();
+        String init = "if (this." + name + " == null) {this." + name + " = new " + bufferRef + "();}";
+        Property items = new PropertyBuilder(property).withName("items").build();
+        Property item = new PropertyBuilder(property).withName("item").withTypeRef(unwrapped).build();
+        Property collection = new PropertyBuilder(property).withName("items").withTypeRef(COLLECTION.toReference(boxed)).build();
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("with" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(property)
+                .withVarArgPreferred(true)
+                .withNewBlock()
+                .addNewStringStatementStatement("if (this." + name + " != null) {this." + name + ".clear();}")
+                .addNewStringStatementStatement("if (" + name + " != null) {" + init + " this." + name + ".addAll(" + name + ");} return (" + returnType + ") this;")
+                .endBlock()
+                .addToAttributes(ALSO_IMPORT, alsoImport)
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName(Getter.name(property))
+                .withReturnType(property.getTypeRef())
+                .withArguments()
+                .withNewBlock()
+                .addNewStringStatementStatement("return " + name + " != null ? " + name + ".toArray() : new " + unwrapped + "[0];")
+                .endBlock()
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("addTo" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(INDEX, item)
+                .withNewBlock()
+                .addNewStringStatementStatement(init)
+                .addNewStringStatementStatement("this." + name + ".add(index, item); return (" + returnType + ")this;")
+                .endBlock()
+                .addToAttributes(ALSO_IMPORT, alsoImport)
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("setTo" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(INDEX, item)
+                .withNewBlock()
+                .addNewStringStatementStatement(init)
+                .addNewStringStatementStatement("this." + name + ".set(index, item); return (" + returnType + ")this;")
+                .endBlock()
+                .addToAttributes(ALSO_IMPORT, alsoImport)
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("addTo" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(items)
+                .withVarArgPreferred(true)
+                .withNewBlock()
+                .addNewStringStatementStatement(init)
+                .addNewStringStatementStatement("this." + name + ".addAll(items); return (" + returnType + ")this;")
+                .endBlock()
+                .addToAttributes(ALSO_IMPORT, alsoImport)
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("addAllTo" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(collection)
+                .withNewBlock()
+                .addNewStringStatementStatement(init)
+                .addNewStringStatementStatement("for (" + boxed + " item : items) {this." + name + ".add(item);} return (" + returnType + ")this;")
+                .endBlock()
+                .addToAttributes(ALSO_IMPORT, alsoImport)
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("removeFrom" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(items)
+                .withVarArgPreferred(true)
+                .withNewBlock()
+                .addNewStringStatementStatement("if (this." + name + " != null) {for (" + unwrapped + " item : items) {this." + name + ".removeValue(item);}} return (" + returnType + ")this;")
+                .endBlock()
+                .build());
+
+        methods.add(new MethodBuilder()
+                .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
+                .withName("removeAllFrom" + property.getNameCapitalized())
+                .withReturnType(returnType)
+                .withArguments(collection)
+                .withNewBlock()
+                .addNewStringStatementStatement("if (this." + name + " != null) {for (" + boxed + " item : items) {this." + name + ".removeValue(item);}} return (" + returnType + ")this;")
+                .endBlock()
+                .build());
+        return methods;
+    });
+
+    static final Function<Property, List<Method>> ADD_TO_COLLECTION = ScopedCaches.concurrentCache(new Function<Property, List<Method>>() {
         public List<Method> apply(final Property property) {
             List<Method> methods = new ArrayList<>();
             TypeRef baseType = UNWRAP_COLLECTION_OF.apply(property.getTypeRef());
@@ -561,7 +712,7 @@ class ToMethod {
                     .addToArguments(INDEX)
                     .addToArguments(unwrappedProperty)
                     .withNewBlock()
-                    .withStatements(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                    .withStatements(new StringStatement(lazyInit(property, propertyName)),
                             new StringStatement("this." + propertyName + ".add(index, item);"),
                             new StringStatement("return (" + returnType + ")this;"))
                     .endBlock()
@@ -577,7 +728,7 @@ class ToMethod {
                     .addToArguments(INDEX)
                     .addToArguments(unwrappedProperty)
                     .withNewBlock()
-                    .withStatements(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                    .withStatements(new StringStatement(lazyInit(property, propertyName)),
                             new StringStatement("this." + propertyName + ".set(index, item); return (" + returnType + ")this;"))
                     .endBlock()
                     .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport)
@@ -598,14 +749,14 @@ class ToMethod {
 
                 //We need to do it more
                 alsoImport.add(BUILDER.apply(targetType.getDefinition()).toInternalReference());
-                statements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"));
+                statements.add(new StringStatement(lazyInit(property, propertyName)));
                 statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName + "\").add(builder);this." + propertyName + ".add(builder);} return (" + returnType + ")this;"));
 
                 addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex)
                         .withParameters(parameters)
                         .editBlock()
                         .withStatements(
-                                new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                                new StringStatement(lazyInit(property, propertyName)),
                                 new StringStatement(builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName + "\").add(index >= 0 ? index : _visitables.get(\"" + propertyName + "\").size(), builder);this." + propertyName + ".add(index >= 0 ? index : " + propertyName + ".size(), builder); return (" + returnType + ")this;"))
                         .endBlock()
                         .build();
@@ -614,7 +765,7 @@ class ToMethod {
                         .withParameters(parameters)
                         .editBlock()
                         .withStatements(
-                                new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                                new StringStatement(lazyInit(property, propertyName)),
                                 new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
                                 new StringStatement("if (index < 0 || index >= _visitables.get(\"" + propertyName + "\").size()) { _visitables.get(\"" + propertyName + "\").add(builder); } else { _visitables.get(\"" + propertyName + "\").set(index, builder);}"),
                                 new StringStatement("if (index < 0 || index >= " + propertyName + ".size()) { " + propertyName + ".add(builder); } else { " + propertyName + ".set(index, builder);}"),
@@ -655,7 +806,7 @@ class ToMethod {
                         .withArguments(builderProperty)
                         .withNewBlock()
                         .addToStatements(
-                                new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                                new StringStatement(lazyInit(property, propertyName)),
                                 new StringStatement("_visitables.get(\"" + propertyName + "\").add(builder);this." + propertyName + ".add(builder); return (" + returnType + ")this;")
                         )
                         .endBlock()
@@ -669,14 +820,14 @@ class ToMethod {
                         .withArguments(INDEX, builderProperty)
                         .withNewBlock()
                         .addToStatements(
-                                new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                                new StringStatement(lazyInit(property, propertyName)),
                                 new StringStatement("_visitables.get(\"" + propertyName + "\").add(index, builder);this." + propertyName + ".add(index, builder); return (" + returnType + ")this;")
                         )
                         .endBlock()
                         .build());
 
             } else {
-                statements.add(new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"));
+                statements.add(new StringStatement(lazyInit(property, propertyName)));
                 statements.add(new StringStatement("for (" + unwrapped.toString() + " item : items) {this." + property.getName() + ".add(item);} return (" + returnType + ")this;"));
             }
 
@@ -732,7 +883,7 @@ class ToMethod {
     });
 
 
-    static final Function<Property, List<Method>> REMOVE_FROM_COLLECTION = FunctionFactory.cache(new Function<Property, List<Method>>() {
+    static final Function<Property, List<Method>> REMOVE_FROM_COLLECTION = ScopedCaches.concurrentCache(new Function<Property, List<Method>>() {
         public List<Method> apply(final Property property) {
             List<Method> methods = new ArrayList<>();
             TypeRef baseType = UNWRAP_COLLECTION_OF.apply(property.getTypeRef());
@@ -759,6 +910,10 @@ class ToMethod {
             String propertyName = property.getName();
             List<Statement> statements = new ArrayList<>();
             Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property);
+            if (isBuildable(unwrapped) || !descendants.isEmpty()) {
+                alsoImport.add(new ClassRefBuilder().withNewFullyQualifiedName("java.util.ArrayList").build());
+                alsoImport.add(new ClassRefBuilder().withNewFullyQualifiedName("java.util.List").build());
+            }
             if (isBuildable(unwrapped) && !isAbstract(unwrapped)) {
                 final ClassRef targetType = (ClassRef) unwrapped;
                 if (property.hasAttribute(Constants.DESCENDANT_OF)) {
@@ -773,19 +928,22 @@ class ToMethod {
 
                 //We need to do it more elegantly
                 alsoImport.add(BUILDER.apply(targetType.getDefinition()).toInternalReference());
-                statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName + "\").remove(builder);if (this." + propertyName + " != null) {this." + propertyName + ".remove(builder);}} return (" + returnType + ")this;"));
+                statements.add(new StringStatement("List<" + builderClass + "> builders = new ArrayList<" + builderClass + ">();"));
+                statements.add(new StringStatement("for (" + targetClass + " item : items) {builders.add(new " + builderClass + "(item));}"));
+                statements.add(new StringStatement("removeEqual(_visitables.get(\"" + propertyName + "\"), builders);if (this." + propertyName + " != null) {removeEqual(this." + propertyName + ", builders);} return (" + returnType + ")this;"));
             } else if (!descendants.isEmpty()) {
                 final ClassRef targetType = (ClassRef) unwrapped;
                 parameters.addAll(targetType.getDefinition().getParameters());
+                statements.add(new StringStatement("List<" + builderType + "> builders = new ArrayList<" + builderType + ">();"));
                 statements.add(new StringStatement("for (" + targetType.toString() + " item : items) {" + StringUtils.join(descendants, item1 -> {
                     TypeRef itemRef = combine(UNWRAP_COLLECTION_OF, ARRAY_OF).apply(item1.getTypeRef());
                     String className = ((ClassRef) itemRef).getName();
-                    String removeFromMethodName = "removeFrom" + item1.getNameCapitalized();
-                    return "if (item instanceof " + className + "){" + removeFromMethodName + "((" + className + ")item);}\n";
+                    return "if (item instanceof " + className + "){builders.add(new " + className + "Builder((" + className + ")item));}\n";
                 }, " else ")));
 
-                statements.add(createRemoveFromDescendantsFallback(targetType.getName(), property.getName()));
-                statements.add(new StringStatement("} return (" + returnType + ")this;"));
+                statements.add(createRemoveFromDescendantsFallback(targetType.getName()));
+                statements.add(new StringStatement("}"));
+                statements.add(new StringStatement("removeEqual(_visitables.get(\"" + propertyName + "\"), builders);if (this." + propertyName + " != null) {removeEqual(this." + propertyName + ", builders);} return (" + returnType + ")this;"));
 
                 methods.add(new MethodBuilder()
                         .withModifiers(TypeUtils.modifiersToInt(Modifier.PUBLIC))
@@ -795,13 +953,13 @@ class ToMethod {
                         .withArguments(builderProperty)
                         .withNewBlock()
                         .addToStatements(
-                                new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = " + property.getAttribute(LAZY_INIT) + ";}"),
+                                new StringStatement(lazyInit(property, propertyName)),
                                 new StringStatement("_visitables.get(\"" + propertyName + "\").remove(builder);this." + propertyName + ".remove(builder); return (" + returnType + ")this;")
                         )
                         .endBlock()
                         .build());
             } else {
-                statements.add(new StringStatement("for (" + unwrapped.toString() + " item : items) {if (this." + property.getName() + "!= null){ this." + property.getName() + ".remove(item);}} return (" + returnType + ")this;"));
+                statements.add(new StringStatement(unshare(property) + "for (" + unwrapped.toString() + " item : items) {if (this." + property.getName() + "!= null){ this." + property.getName() + ".remove(item);}} return (" + returnType + ")this;"));
             }
 
             Method removeVarargFromCollection = new MethodBuilder()
@@ -836,7 +994,6 @@ class ToMethod {
             if (TypeUtils.isConcrete(unwrapped) && !property.hasAttribute(DESCENDANT_OF))  {
                 TypeDef predicate = typeGenericOf(BuilderContextManager.getContext().getPredicateClass(), T);
                 TypeRef builder = BUILDER.apply(((ClassRef) unwrapped).getDefinition()).toInternalReference();
-                alsoImport.add(new ClassRefBuilder().withNewFullyQualifiedName("java.util.Iterator").build());
                 alsoImport.add((ClassRef) builderType);
                 methods.add(new MethodBuilder()
                         .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport)
@@ -850,15 +1007,14 @@ class ToMethod {
                         .endArgument()
                         .withNewBlock()
                         .addNewStringStatementStatement("if (" + propertyName + " == null) return (" + returnType + ") this;")
-                        .addNewStringStatementStatement("final Iterator<" + builder + "> each = " + propertyName + ".iterator();")
-                        .addNewStringStatementStatement("final List visitables = _visitables.get(\"" + propertyName + "\");")
-                        .addNewStringStatementStatement("while (each.hasNext()) {")
-                        .addNewStringStatementStatement("  " + builder + " builder = each.next();")
+                        .addNewStringStatementStatement("final List<" + builder + "> removed = new ArrayList<" + builder + ">();")
+                        .addNewStringStatementStatement("for (" + builder + " builder : " + propertyName + ") {")
                         .addNewStringStatementStatement("  if (predicate.apply(builder)) {")
-                        .addNewStringStatementStatement("    visitables.remove(builder);")
-                        .addNewStringStatementStatement("    each.remove();")
+                        .addNewStringStatementStatement("    removed.add(builder);")
                         .addNewStringStatementStatement("  }")
                         .addNewStringStatementStatement("}")
+                        .addNewStringStatementStatement("removeSame(_visitables.get(\"" + propertyName + "\"), removed);")
+                        .addNewStringStatementStatement("removeSame(" + propertyName + ", removed);")
                         .addNewStringStatementStatement("return (" + returnType + ")this;")
                         .endBlock()
                         .build());
@@ -869,7 +1025,6 @@ class ToMethod {
                     builderType = VISITABLE_BUILDER.apply(property.getAttribute(DESCENDANT_OF).getTypeRef());
                 }
 
-                alsoImport.add(new ClassRefBuilder().withNewFullyQualifiedName("java.util.Iterator").build());
                 alsoImport.add((ClassRef) builderType);
                 methods.add(new MethodBuilder()
                         .addToAttributes(Attributeable.ALSO_IMPORT, alsoImport)
@@ -883,15 +1038,14 @@ class ToMethod {
                         .endArgument()
                         .withNewBlock()
                         .addNewStringStatementStatement("if (" + propertyName + " == null) return (" + returnType + ") this;")
-                        .addNewStringStatementStatement("final Iterator<" + builderType + "> each = " + propertyName + ".iterator();")
-                        .addNewStringStatementStatement("final List visitables = _visitables.get(\"" + propertyName + "\");")
-                        .addNewStringStatementStatement("while (each.hasNext()) {")
-                        .addNewStringStatementStatement("  " + builderType + " builder = each.next();")
+                        .addNewStringStatementStatement("final List<" + builderType + "> removed = new ArrayList<" + builderType + ">();")
+                        .addNewStringStatementStatement("for (" + builderType + " builder : " + propertyName + ") {")
                         .addNewStringStatementStatement("  if (predicate.apply(builder)) {")
-                        .addNewStringStatementStatement("    visitables.remove(builder);")
-                        .addNewStringStatementStatement("    each.remove();")
+                        .addNewStringStatementStatement("    removed.add(builder);")
                         .addNewStringStatementStatement("  }")
                         .addNewStringStatementStatement("}")
+                        .addNewStringStatementStatement("removeSame(_visitables.get(\"" + propertyName + "\"), removed);")
+                        .addNewStringStatementStatement("removeSame(" + propertyName + ", removed);")
                         .addNewStringStatementStatement("return (" + returnType + ")this;")
                         .endBlock()
                         .build());
@@ -901,12 +1055,12 @@ class ToMethod {
             return methods;
         }
 
-        private Statement createRemoveFromDescendantsFallback(String type, String name) {
-            return new StringStatement("else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.get(\"" + name + "\").remove(builder);this." + name + ".remove(builder); }");
+        private Statement createRemoveFromDescendantsFallback(String type) {
+            return new StringStatement("else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); builders.add(builder); }");
         }
     });
 
-    static final Function<Property, Method> ADD_MAP_TO_MAP = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> ADD_MAP_TO_MAP = ScopedCaches.concurrentCache(property -> {
         TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
         TypeRef mapType = property.getTypeRef();
         Property mapProperty = new PropertyBuilder().withName("map").withTypeRef(mapType).build();
@@ -917,7 +1071,7 @@ class ToMethod {
                 .withReturnType(returnType)
                 .withArguments(mapProperty)
                 .withNewBlock()
-                .addNewStringStatementStatement("if(this." + property.getName() + " == null && map != null) { this." + property.getName() + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; }")
+                .addNewStringStatementStatement(unshare(property) + "if(this." + property.getName() + " == null && map != null) { this." + property.getName() + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; }")
                 .addNewStringStatementStatement("if(map != null) { this." + property.getName() + ".putAll(map);} return (" + returnType + ")this;")
                 .endBlock()
                 .build();
@@ -1020,7 +1174,7 @@ class ToMethod {
         return Arrays.asList(addNewValueTo, addNewValueLikeTo, editValueIn, editOrAddValueIn);
     };
 
-    static final Function<Property, Method> ADD_TO_MAP = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> ADD_TO_MAP = ScopedCaches.concurrentCache(property -> {
         TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
         if (!(property.getTypeRef() instanceof ClassRef)) {
             throw new IllegalStateException("Expected Map type and found:" + property.getTypeRef());
@@ -1039,14 +1193,14 @@ class ToMethod {
                 .withReturnType(returnType)
                 .withArguments(new Property[]{keyProperty, valueProperty})
                 .withNewBlock()
-                .addNewStringStatementStatement("if(this." + property.getName() + " == null && key != null && value != null) { this." + property.getName() + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; }")
+                .addNewStringStatementStatement(unshare(property) + "if(this." + property.getName() + " == null && key != null && value != null) { this." + property.getName() + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; }")
                 .addNewStringStatementStatement("if(key != null && value != null) {this." + property.getName() + ".put(key, value);} return (" + returnType + ")this;")
                 .endBlock()
                 .build();
     });
 
 
-    static final Function<Property, Method> REMOVE_MAP_FROM_MAP = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> REMOVE_MAP_FROM_MAP = ScopedCaches.concurrentCache(property -> {
         TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
         TypeRef mapType = property.getTypeRef();
         Property mapProperty = new PropertyBuilder().withName("map").withTypeRef(mapType).build();
@@ -1058,12 +1212,12 @@ class ToMethod {
                 .withArguments(mapProperty)
                 .withNewBlock()
                 .addNewStringStatementStatement("if(this." + property.getName() + " == null) { return (" + returnType + ") this; }")
-                .addNewStringStatementStatement("if(map != null) { for(Object key : map.keySet()) {if (this." + property.getName() + " != null){this." + property.getName() + ".remove(key);}}} return (" + returnType + ")this;")
+                .addNewStringStatementStatement(unshare(property) + "if(map != null) { for(Object key : map.keySet()) {if (this." + property.getName() + " != null){this." + property.getName() + ".remove(key);}}} return (" + returnType + ")this;")
                 .endBlock()
                 .build();
     });
 
-    static final Function<Property, Method> REMOVE_FROM_MAP = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> REMOVE_FROM_MAP = ScopedCaches.concurrentCache(property -> {
         TypeRef returnType = property.hasAttribute(GENERIC_TYPE_REF) ? property.getAttribute(GENERIC_TYPE_REF) : T_REF;
         ClassRef mapType = (ClassRef) property.getTypeRef();
         TypeRef keyType = mapType.getArguments().get(0);
@@ -1077,7 +1231,7 @@ class ToMethod {
                 .withArguments(keyProperty)
                 .withNewBlock()
                 .addNewStringStatementStatement("if(this." + property.getName() + " == null) { return (" + returnType + ") this; }")
-                .addNewStringStatementStatement("if(key != null && this." + property.getName() + " != null) {this." + property.getName() + ".remove(key);} return (" + returnType + ")this;")
+                .addNewStringStatementStatement(unshare(property) + "if(key != null && this." + property.getName() + " != null) {this." + property.getName() + ".remove(key);} return (" + returnType + ")this;")
                 .endBlock()
                 .build();
     });
@@ -1502,7 +1656,7 @@ class ToMethod {
 
     };
 
-    static final Function<Property, Method> END = FunctionFactory.cache(property -> {
+    static final Function<Property, Method> END = ScopedCaches.concurrentCache(property -> {
         TypeDef originTypeDef = property.getAttribute(Constants.ORIGIN_TYPEDEF);
         String methodName = "end" + BuilderUtils.fullyQualifiedNameDiff(property.getTypeRef(), originTypeDef) + capitalizeFirst(IS_COLLECTION.apply(property.getTypeRef())
                 ? Singularize.FUNCTION.apply(property.getNameCapitalized())
@@ -17,9 +17,9 @@
 package io.sundr.builder.internal.functions;
 
 import io.sundr.Function;
-import io.sundr.FunctionFactory;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
+import io.sundr.codegen.ScopedCaches;
 import io.sundr.codegen.functions.Collections;
 import io.sundr.codegen.model.*;
 import io.sundr.codegen.utils.TypeUtils;
@@ -208,9 +208,9 @@ public class TypeAs {
     };
 
     //TODO: Need a home for: .withDefaultImplementation(Constants.ARRAY_LIST)
-    private static final Function<TypeRef, TypeRef> LIST_OF = FunctionFactory.cache(Collections.LIST::toReference);
+    private static final Function<TypeRef, TypeRef> LIST_OF = ScopedCaches.cache(Collections.LIST::toReference);
 
-    static final Function<TypeRef, TypeRef> ARRAY_AS_LIST = FunctionFactory.cache(item -> LIST_OF.apply(UNWRAP_ARRAY_OF.apply(item)));
+    static final Function<TypeRef, TypeRef> ARRAY_AS_LIST = ScopedCaches.cache(item -> LIST_OF.apply(UNWRAP_ARRAY_OF.apply(item)));
 
     public static final Function<TypeRef, TypeRef> UNWRAP_COLLECTION_OF = type -> {
         if (type instanceof ClassRef) {
@@ -258,7 +258,7 @@ public class TypeAs {
         return type;
     };
 
-    static final Function<TypeRef, TypeRef> BOXED_OF = FunctionFactory.cache(type -> {
+    static final Function<TypeRef, TypeRef> BOXED_OF = ScopedCaches.cache(type -> {
         int index = 0;
         for (TypeRef primitive : PRIMITIVE_TYPES) {
             if (primitive.equals(type)) {
@@ -269,7 +269,7 @@ public class TypeAs {
         return type;
     });
 
-    static final Function<TypeRef, String> PARSER_OF = FunctionFactory.cache(type -> {
+    static final Function<TypeRef, String> PARSER_OF = ScopedCaches.cache(type -> {
         int index = 0;
         for (TypeRef primitive : PRIMITIVE_TYPES) {
             if (primitive.equals(type)) {
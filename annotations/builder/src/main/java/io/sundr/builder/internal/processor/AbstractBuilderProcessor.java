@@ -18,12 +18,15 @@ package io.sundr.builder.internal.processor;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 
 import io.sundr.builder.Constants;
@@ -31,6 +34,7 @@ import io.sundr.builder.TypedVisitor;
 import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.annotations.ExternalBuildables;
 import io.sundr.builder.annotations.Inline;
+import io.sundr.builder.internal.BuildableIndex;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.functions.ClazzAs;
@@ -55,11 +59,45 @@ import static io.sundr.builder.Constants.BUILDABLE;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EMPTY_FUNCTION_SNIPPET;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
+import static io.sundr.builder.Constants.PRIMITIVE_BUFFERS_ENABLED;
 import static io.sundr.codegen.Constants.EMPTY;
 import static io.sundr.codegen.utils.StringUtils.loadResourceQuietly;
 
 public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
 
+    public static final String INCREMENTAL_OPTION = "sundrio.incremental";
+
+    private BuildableIndex buildableIndex;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        if (Boolean.parseBoolean(processingEnv.getOptions().get(INCREMENTAL_OPTION))) {
+            buildableIndex = BuildableIndex.load(processingEnv.getFiler(), getClass().getSimpleName(), processingEnv.getOptions());
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new HashSet<String>(super.getSupportedOptions());
+        options.add(INCREMENTAL_OPTION);
+        return options;
+    }
+
+    /**
+     * Stores the fingerprints of the buildables processed during this compilation, if incremental processing is enabled.
+     */
+    void storeBuildableIndexIfNeeded() {
+        if (buildableIndex == null || buildableIndex.isEmpty()) {
+            return;
+        }
+        try {
+            buildableIndex.store(processingEnv.getFiler(), getClass().getSimpleName());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     void generateLocalDependenciesIfNeeded() {
         BuilderContext context = BuilderContextManager.getContext();
             try {
@@ -93,6 +131,9 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
                     generateFromResources(context.getVisitableMapClass(),
                             Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION
                     );
+                    generateFromResources(context.getVisitorDispatchClass(),
+                            Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION
+                    );
                     generateFromResources(context.getBuilderInterface(),
                             Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION
                     );
@@ -115,6 +156,14 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
                     generateFromResources(context.getFunctionInterface(),
                             Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION
                     );
+
+                    if (hasPrimitiveBuffers(context)) {
+                        for (TypeDef buffer : context.getPrimitiveBufferClasses()) {
+                            generateFromResources(buffer,
+                                    Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION
+                            );
+                        }
+                    }
                 }
 
                 if (context.isValidationEnabled() &&  !classExists(context.getBuilderPackage() + ".ValidationUtils") ) {
@@ -128,6 +177,17 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
     }
 
 
+    static boolean hasPrimitiveBuffers(BuilderContext context) {
+        for (TypeDef buildable : context.getBuildableRepository().getBuildables()) {
+            for (Property property : buildable.getProperties()) {
+                if (property.hasAttribute(PRIMITIVE_BUFFERS_ENABLED) && property.getAttribute(PRIMITIVE_BUFFERS_ENABLED)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     static boolean classExists(String c) {
        try {
            Class.forName(c);
@@ -304,53 +364,84 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
     public void generateBuildables(BuilderContext ctx, Set<TypeDef> buildables) {
         int total = ctx.getBuildableRepository().getBuildables().size();
         int count = 0;
+        List<TypeDef> types = new ArrayList<>();
+        String environment = buildableIndex != null ? buildableIndex.environmentOf(ctx) : null;
         for (TypeDef typeDef : buildables) {
-            try {
-                double percentage = 100 * (count++) / total;
-                System.err.println(Math.round(percentage)+"%: " + typeDef.getFullyQualifiedName());
+            double percentage = 100 * (count++) / total;
+            System.err.println(Math.round(percentage)+"%: " + typeDef.getFullyQualifiedName());
 
-                generateFromResources(ClazzAs.FLUENT_INTERFACE.apply(typeDef),
-                        Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
+            List<TypeDef> generated = typesOf(ctx, typeDef);
+            List<Element> origins = Arrays.asList(getOriginatingElements(typeDef.getFullyQualifiedName()));
+            for (TypeDef type : generated) {
+                addOriginatingElements(type.getFullyQualifiedName(), origins);
+            }
 
-                if (typeDef.isInterface() || typeDef.isAnnotation()) {
-                    continue;
-                }
+            if (buildableIndex != null && buildableIndex.update(ctx, environment, typeDef) && allExist(generated)) {
+                System.err.println("Skipping: " + typeDef.getFullyQualifiedName() + ". Buildable is unchanged.");
+                continue;
+            }
+            types.addAll(generated);
+        }
 
-                generateFromResources(ClazzAs.FLUENT_IMPL.apply(typeDef),
-                        Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
+        try {
+            generateFromResources(types, Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                if (typeDef.isAbstract()) {
-                    continue;
-                }
+    /**
+     * Returns the types that need to be generated for the specified buildable.
+     * @param ctx       The builder context.
+     * @param typeDef   The buildable.
+     * @return          The list of types to generate.
+     */
+    private List<TypeDef> typesOf(BuilderContext ctx, TypeDef typeDef) {
+        List<TypeDef> types = new ArrayList<>();
+        types.add(ClazzAs.FLUENT_INTERFACE.apply(typeDef));
 
-                if (typeDef.getAttributes().containsKey(EDITABLE_ENABLED) && (Boolean) typeDef.getAttributes().get(EDITABLE_ENABLED)) {
-                    generateFromResources(ClazzAs.EDITABLE_BUILDER.apply(typeDef),
-                            Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
+        if (typeDef.isInterface() || typeDef.isAnnotation()) {
+            return types;
+        }
 
-                    generateFromResources(ClazzAs.EDITABLE.apply(typeDef),
-                            Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
-                } else {
-                    generateFromResources(ClazzAs.BUILDER.apply(typeDef),
-                            Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
-                }
+        types.add(ClazzAs.FLUENT_IMPL.apply(typeDef));
 
-                Buildable buildable = typeDef.getAttribute(BUILDABLE);
-                ExternalBuildables externalBuildables = typeDef.getAttribute(EXTERNAL_BUILDABLE);
-                if (buildable != null) {
-                    for (final Inline inline : buildable.inline()) {
-                        generateFromResources(inlineableOf(ctx, typeDef, inline),
-                                Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
-                    }
-                } else if (externalBuildables != null) {
-                    for (final Inline inline : externalBuildables.inline()) {
-                        generateFromResources(inlineableOf(ctx, typeDef, inline),
-                                Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
-                    }
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+        if (typeDef.isAbstract()) {
+            return types;
+        }
+
+        if (typeDef.getAttributes().containsKey(EDITABLE_ENABLED) && (Boolean) typeDef.getAttributes().get(EDITABLE_ENABLED)) {
+            types.add(ClazzAs.EDITABLE_BUILDER.apply(typeDef));
+
+            types.add(ClazzAs.EDITABLE.apply(typeDef));
+        } else {
+            types.add(ClazzAs.BUILDER.apply(typeDef));
+        }
+
+        Buildable buildable = typeDef.getAttribute(BUILDABLE);
+        ExternalBuildables externalBuildables = typeDef.getAttribute(EXTERNAL_BUILDABLE);
+        if (buildable != null) {
+            for (final Inline inline : buildable.inline()) {
+                types.add(inlineableOf(ctx, typeDef, inline));
+            }
+        } else if (externalBuildables != null) {
+            for (final Inline inline : externalBuildables.inline()) {
+                types.add(inlineableOf(ctx, typeDef, inline));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Checks if all the specified types are already known to the compiler (e.g. generated by a previous compilation).
+     */
+    private boolean allExist(List<TypeDef> types) {
+        for (TypeDef type : types) {
+            if (processingEnv.getElementUtils().getTypeElement(type.getFullyQualifiedName()) == null) {
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -364,7 +455,9 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
         for (TypeDef typeDef : buildables) {
             try {
                 if (typeDef.isInterface() || typeDef.isAnnotation()) {
+                    List<Element> origins = Arrays.asList(getOriginatingElements(typeDef.getFullyQualifiedName()));
                     typeDef = ClazzAs.POJO.apply(typeDef);
+                    addOriginatingElements(typeDef.getFullyQualifiedName(), origins);
                     builderContext.getDefinitionRepository().register(typeDef);
                     builderContext.getBuildableRepository().register(typeDef);
                     generateFromResources(typeDef,
@@ -373,6 +466,7 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
 
                     if (typeDef.hasAttribute(ADDITIONAL_BUILDABLES)) {
                         for (TypeDef also : typeDef.getAttribute(ADDITIONAL_BUILDABLES)) {
+                             addOriginatingElements(also.getFullyQualifiedName(), origins);
                              builderContext.getDefinitionRepository().register(also);
                              builderContext.getBuildableRepository().register(also);
                              generateFromResources(also, Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
@@ -382,6 +476,7 @@ public abstract class AbstractBuilderProcessor extends JavaGeneratingProcessor {
 
                     if (typeDef.hasAttribute(ADDITIONAL_TYPES)) {
                         for (TypeDef also : typeDef.getAttribute(ADDITIONAL_TYPES)) {
+                            addOriginatingElements(also.getFullyQualifiedName(), origins);
                              builderContext.getDefinitionRepository().register(also);
                             generateFromResources(also, Constants.DEFAULT_SOURCEFILE_TEMPLATE_LOCATION);
                             additionalTypes.add(also);
@@ -16,6 +16,8 @@
 
 package io.sundr.builder.internal.processor;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -32,6 +34,7 @@ import io.sundr.builder.annotations.Buildable;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.utils.BuilderUtils;
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.functions.ElementTo;
 import io.sundr.codegen.model.PropertyBuilder;
 import io.sundr.codegen.model.TypeDef;
@@ -42,12 +45,20 @@ import static io.sundr.builder.Constants.BUILDABLE;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_BUFFERS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 
 @SupportedAnnotationTypes("io.sundr.builder.annotations.Buildable")
 public class BuildableProcessor extends AbstractBuilderProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        if (env.processingOver()) {
+            storeBuildableIndexIfNeeded();
+            CodegenContext.release();
+            return true;
+        }
+
         Elements elements = processingEnv.getElementUtils();
         Types types = processingEnv.getTypeUtils();
         Filer filer = processingEnv.getFiler();
@@ -73,11 +84,14 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                                     public void visit(PropertyBuilder builder) {
                                        builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                                        builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                                       builder.addToAttributes(PRIMITIVE_BUFFERS_ENABLED, buildable.primitiveBuffersEnabled());
+                                       builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, buildable.unmodifiableCollectionsEnabled());
                                     }
                                 }).build();
 
                     ctx.getDefinitionRepository().register(b);
                     ctx.getBuildableRepository().register(b);
+                    addOriginatingElements(b.getFullyQualifiedName(), Collections.singleton(ModelUtils.getClassElement(element)));
                     buildables.add(b);
 
                 for (TypeElement ref : BuilderUtils.getBuildableReferences(ctx, buildable)) {
@@ -90,11 +104,14 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
                                 public void visit(PropertyBuilder builder) {
                                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, buildable.lazyCollectionInitEnabled());
                                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, buildable.lazyMapInitEnabled());
+                                    builder.addToAttributes(PRIMITIVE_BUFFERS_ENABLED, buildable.primitiveBuffersEnabled());
+                                    builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, buildable.unmodifiableCollectionsEnabled());
                                 }
                             }).build();
 
                     ctx.getDefinitionRepository().register(r);
                     ctx.getBuildableRepository().register(r);
+                    addOriginatingElements(r.getFullyQualifiedName(), Arrays.asList(ref, ModelUtils.getClassElement(element)));
                     buildables.add(r);
                 }
             }
@@ -17,6 +17,7 @@
 package io.sundr.builder.internal.processor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -35,6 +36,7 @@ import io.sundr.builder.annotations.ExternalBuildables;
 import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.utils.BuilderUtils;
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.functions.ElementTo;
 import io.sundr.codegen.model.PropertyBuilder;
 import io.sundr.codegen.model.TypeDef;
@@ -45,12 +47,20 @@ import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.EXTERNAL_BUILDABLE;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_BUFFERS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.Constants.VALIDATION_ENABLED;
 
 @SupportedAnnotationTypes("io.sundr.builder.annotations.ExternalBuildables")
 public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        if (env.processingOver()) {
+            storeBuildableIndexIfNeeded();
+            CodegenContext.release();
+            return true;
+        }
+
         Elements elements = processingEnv.getElementUtils();
         Types types = processingEnv.getTypeUtils();
         Filer filer = processingEnv.getFiler();
@@ -89,6 +99,8 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                     for (TypeElement typeElement : typeElements) {
                         final boolean isLazyCollectionInitEnabled = generated.lazyCollectionInitEnabled();
                         final boolean isLazyMapInitEnabled = generated.lazyMapInitEnabled();
+                        final boolean isPrimitiveBuffersEnabled = generated.primitiveBuffersEnabled();
+                        final boolean isUnmodifiableCollectionsEnabled = generated.unmodifiableCollectionsEnabled();
                         TypeDef b = new TypeDefBuilder(ElementTo.TYPEDEF.apply(ModelUtils.getClassElement(typeElement)))
                                 .addToAttributes(EXTERNAL_BUILDABLE, generated)
                                 .addToAttributes(EDITABLE_ENABLED, generated.editableEnabled())
@@ -98,11 +110,14 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                                 public void visit(PropertyBuilder builder) {
                                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                                    builder.addToAttributes(PRIMITIVE_BUFFERS_ENABLED, isPrimitiveBuffersEnabled);
+                                    builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, isUnmodifiableCollectionsEnabled);
                                 }
                             }).build();
 
                         ctx.getDefinitionRepository().register(b);
                         ctx.getBuildableRepository().register(b);
+                        addOriginatingElements(b.getFullyQualifiedName(), Arrays.asList(typeElement, ModelUtils.getClassElement(element)));
                         buildables.add(b);
                     }
                 }
@@ -110,6 +125,8 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                 for (TypeElement ref : BuilderUtils.getBuildableReferences(ctx, generated)) {
                     final boolean isLazyCollectionInitEnabled = generated.lazyCollectionInitEnabled();
                     final boolean isLazyMapInitEnabled = generated.lazyMapInitEnabled();
+                    final boolean isPrimitiveBuffersEnabled = generated.primitiveBuffersEnabled();
+                    final boolean isUnmodifiableCollectionsEnabled = generated.unmodifiableCollectionsEnabled();
                     TypeDef r = new TypeDefBuilder(ElementTo.TYPEDEF.apply(ModelUtils.getClassElement(ref)))
                             .addToAttributes(EXTERNAL_BUILDABLE, generated)
                             .addToAttributes(EDITABLE_ENABLED, generated.editableEnabled())
@@ -119,11 +136,14 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
                                 public void visit(PropertyBuilder builder) {
                                     builder.addToAttributes(LAZY_COLLECTIONS_INIT_ENABLED, isLazyCollectionInitEnabled);
                                     builder.addToAttributes(LAZY_MAP_INIT_ENABLED, isLazyMapInitEnabled);
+                                    builder.addToAttributes(PRIMITIVE_BUFFERS_ENABLED, isPrimitiveBuffersEnabled);
+                                    builder.addToAttributes(UNMODIFIABLE_COLLECTIONS_ENABLED, isUnmodifiableCollectionsEnabled);
                                 }
                             }).build();
 
                     ctx.getDefinitionRepository().register(r);
                     ctx.getBuildableRepository().register(r);
+                    addOriginatingElements(r.getFullyQualifiedName(), Arrays.asList(ref, ModelUtils.getClassElement(element)));
                     buildables.add(r);
                 }
             }
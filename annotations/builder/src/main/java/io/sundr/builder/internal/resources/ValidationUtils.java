@@ -24,7 +24,15 @@ import javax.validation.Validation;
 import javax.validation.ValidationException;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Resourcecify
 public final class ValidationUtils {
@@ -32,6 +40,11 @@ public final class ValidationUtils {
     private static final Object LOCK = new Object();
     private static Validator validator;
 
+    //Whether the default validator has anything to validate on a class.
+    private static final Map<Class<?>, Boolean> CONSTRAINED = new ConcurrentHashMap<Class<?>, Boolean>();
+    //The items (and their validators) that were built while validation was deferred.
+    private static final ThreadLocal<Map<Object, Validator>> DEFERRED = new ThreadLocal<Map<Object, Validator>>();
+
     private static Validator createValidator() {
         try {
             ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
@@ -55,32 +68,127 @@ public final class ValidationUtils {
         return v;
     }
 
+    /**
+     * Builds an object graph, validating it once, after the supplier returns.
+     * Builders that build while the supplier runs record the object and their validator instead of validating it.
+     * Only the returned object is then validated, with the validator of the builder that built it (if that builder had validation enabled).
+     * Nested objects are validated through the returned object, if its constraints cascade to them (e.g. using {@link javax.validation.Valid}).
+     * Objects that were built but are not part of the returned graph (e.g. the intermediate objects of nested builders) are not validated.
+     * @param supplier  The supplier that builds the object.
+     * @return          The validated object.
+     */
+    public static <T> T deferValidation(Supplier<T> supplier) {
+        if (DEFERRED.get() != null) {
+            return supplier.get();
+        }
+
+        Map<Object, Validator> deferred = new IdentityHashMap<Object, Validator>();
+        DEFERRED.set(deferred);
+        T result;
+        try {
+            result = supplier.get();
+        } finally {
+            DEFERRED.remove();
+        }
+
+        if (result != null && deferred.containsKey(result)) {
+            validateNow(result, deferred.get(result));
+        }
+        return result;
+    }
+
+    /**
+     * Validates the item with the default validator, even when validation is deferred.
+     * @param item  The item to validate.
+     */
     public static <T> void validate(T item) {
-        validate(item, getValidator());
+        validateNow(item, getValidator());
     }
 
+    /**
+     * Validates the item, or records it if validation is deferred (see {@link #deferValidation(Supplier)}).
+     * @param item  The item to validate.
+     * @param v     The validator to use, or null for the default validator.
+     */
     public static <T> void validate(T item, Validator v) {
+        Map<Object, Validator> deferred = DEFERRED.get();
+        if (deferred != null) {
+            if (item != null) {
+                deferred.put(item, v);
+            }
+            return;
+        }
+        validateNow(item, v);
+    }
+
+    private static <T> void validateNow(T item, Validator v) {
         if (v == null) {
             v = getValidator();
         }
-        if (v == null) {
+        if (v == null || !isConstrained(item, v)) {
            return;
         }
         Set<ConstraintViolation<T>> violations = v.validate(item);
         if (!violations.isEmpty()) {
-            StringBuilder sb = new StringBuilder("Constraint Validations: ");
-            boolean first = true;
-            for (ConstraintViolation violation : violations) {
-                if (first) {
-                    first = false;
-                } else {
-                    sb.append(", ");
+            throw violationsOf(violations);
+        }
+    }
+
+    /**
+     * Validates all items and reports the violations of all of them at once.
+     * As validators are thread safe, large collections can be validated in parallel.
+     * @param items     The items to validate.
+     * @param v         The validator to use, or null for the default validator.
+     * @param parallel  Whether to validate the items in parallel.
+     */
+    public static <T> void validateAll(Collection<? extends T> items, Validator v, boolean parallel) {
+        if (v == null) {
+            v = getValidator();
+        }
+        if (v == null || items == null || items.isEmpty()) {
+            return;
+        }
+
+        final Validator target = v;
+        final Set<ConstraintViolation<?>> violations = Collections.newSetFromMap(new ConcurrentHashMap<ConstraintViolation<?>, Boolean>());
+        Stream<? extends T> stream = parallel ? items.parallelStream() : items.stream();
+        stream.forEach(new Consumer<T>() {
+            public void accept(T item) {
+                if (item != null && isConstrained(item, target)) {
+                    violations.addAll(target.validate(item));
                 }
-                Object leafBean = violation.getLeafBean();
-                sb.append(violation.getPropertyPath() + " " + violation.getMessage() + " on bean: " + leafBean);
             }
-            throw new ConstraintViolationException(sb.toString(), violations);
+        });
+        if (!violations.isEmpty()) {
+            throw violationsOf(violations);
         }
     }
-}
 
+    private static Boolean isConstrained(Object item, Validator v) {
+        if (v != validator) {
+            return true;
+        }
+        Class<?> type = item.getClass();
+        Boolean constrained = CONSTRAINED.get(type);
+        if (constrained == null) {
+            constrained = v.getConstraintsForClass(type).isBeanConstrained();
+            CONSTRAINED.put(type, constrained);
+        }
+        return constrained;
+    }
+
+    private static ConstraintViolationException violationsOf(Set<? extends ConstraintViolation<?>> violations) {
+        StringBuilder sb = new StringBuilder("Constraint Validations: ");
+        boolean first = true;
+        for (ConstraintViolation violation : violations) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(", ");
+            }
+            Object leafBean = violation.getLeafBean();
+            sb.append(violation.getPropertyPath() + " " + violation.getMessage() + " on bean: " + leafBean);
+        }
+        return new ConstraintViolationException(sb.toString(), violations);
+    }
+}
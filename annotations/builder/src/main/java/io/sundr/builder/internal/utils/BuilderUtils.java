@@ -35,6 +35,7 @@ import io.sundr.codegen.model.ClassRef;
 import io.sundr.codegen.model.ClassRefBuilder;
 import io.sundr.codegen.model.Kind;
 import io.sundr.codegen.model.Method;
+import io.sundr.codegen.model.PrimitiveRef;
 import io.sundr.codegen.model.Property;
 import io.sundr.codegen.model.PropertyBuilder;
 import io.sundr.codegen.model.TypeDef;
@@ -60,6 +61,8 @@ import java.util.Set;
 
 import static io.sundr.builder.Constants.DESCENDANTS;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
+import static io.sundr.builder.Constants.PRIMITIVE_BUFFERS_ENABLED;
+import static io.sundr.builder.Constants.UNMODIFIABLE_COLLECTIONS_ENABLED;
 import static io.sundr.builder.internal.functions.TypeAs.*;
 import static io.sundr.codegen.model.Attributeable.ALSO_IMPORT;
 import static io.sundr.codegen.model.Attributeable.DEFAULT_VALUE;
@@ -522,6 +525,57 @@ public class BuilderUtils {
                     .build();
     }
 
+    /**
+     * Returns the buffer class that holds the specified array property, or null if the property is not held in a buffer.
+     */
+    public static TypeDef primitiveBufferOf(Property property) {
+        TypeRef typeRef = property.getTypeRef();
+        if (!(typeRef instanceof PrimitiveRef) || typeRef.getDimensions() != 1
+                || !property.hasAttribute(PRIMITIVE_BUFFERS_ENABLED) || !property.getAttribute(PRIMITIVE_BUFFERS_ENABLED)) {
+            return null;
+        }
+        return BuilderContextManager.getContext().getPrimitiveBufferClass(((PrimitiveRef) typeRef).getName());
+    }
+
+    public static boolean isPrimitiveBuffer(TypeRef typeRef) {
+        if (!(typeRef instanceof ClassRef)) {
+            return false;
+        }
+        for (TypeDef buffer : BuilderContextManager.getContext().getPrimitiveBufferClasses()) {
+            if (buffer.getFullyQualifiedName().equals(((ClassRef) typeRef).getFullyQualifiedName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Property primitiveBufferField(Property property) {
+        ClassRef bufferRef = primitiveBufferOf(property).toInternalReference();
+        return new PropertyBuilder(property).withTypeRef(bufferRef)
+                .addToAttributes(LAZY_INIT, " new " + bufferRef + "()")
+                .addToAttributes(INIT , property.hasAttribute(LAZY_COLLECTIONS_INIT_ENABLED) && property.getAttribute(LAZY_COLLECTIONS_INIT_ENABLED) ? null : " new " + bufferRef +  "()" )
+                .addToAttributes(ALSO_IMPORT, alsoImport(property, bufferRef))
+                .build();
+    }
+
+    /**
+     * Checks if the fluent hands out the collection held by the property as an unmodifiable view.
+     * Such collections are copied, when the fluent modifies them after handing them out.
+     */
+    public static boolean isHandedOutUnmodifiable(Property property) {
+        if (!property.hasAttribute(UNMODIFIABLE_COLLECTIONS_ENABLED) || !property.getAttribute(UNMODIFIABLE_COLLECTIONS_ENABLED)
+                || !(property.getTypeRef() instanceof ClassRef)) {
+            return false;
+        }
+        String type = ((ClassRef) property.getTypeRef()).getFullyQualifiedName();
+        if (Map.class.getName().equals(type)) {
+            return true;
+        }
+        return (List.class.getName().equals(type) || Set.class.getName().equals(type))
+                && !isBuildable(UNWRAP_COLLECTION_OF.apply(property.getTypeRef()))
+                && !(property.hasAttribute(DESCENDANTS) && !property.getAttribute(DESCENDANTS).isEmpty());
+    }
+
     public static List<ClassRef> alsoImportAsList(Attributeable attributeable) {
         List<ClassRef> result = new ArrayList<ClassRef>();
         if (attributeable.hasAttribute(ALSO_IMPORT)) {
@@ -0,0 +1,209 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.sundr.builder.internal.processor;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalProcessingTest {
+
+    private static final String SHAPE = "package incremental;\n" +
+            "public interface Shape {\n" +
+            "  String getName();\n" +
+            "}\n";
+
+    private static final String SQUARE = "package incremental;\n" +
+            "import io.sundr.builder.annotations.Buildable;\n" +
+            "@Buildable\n" +
+            "public class Square implements Shape {\n" +
+            "  private final String name;\n" +
+            "  public Square(String name) { this.name = name; }\n" +
+            "  public String getName() { return name; }\n" +
+            "}\n";
+
+    private static final String SQUARE_WITH_SIDE = "package incremental;\n" +
+            "import io.sundr.builder.annotations.Buildable;\n" +
+            "@Buildable\n" +
+            "public class Square implements Shape {\n" +
+            "  private final String name;\n" +
+            "  private final int side;\n" +
+            "  public Square(String name, int side) { this.name = name; this.side = side; }\n" +
+            "  public String getName() { return name; }\n" +
+            "  public int getSide() { return side; }\n" +
+            "}\n";
+
+    private static final String CIRCLE = "package incremental;\n" +
+            "import io.sundr.builder.annotations.Buildable;\n" +
+            "@Buildable\n" +
+            "public class Circle implements Shape {\n" +
+            "  private final String name;\n" +
+            "  public Circle(String name) { this.name = name; }\n" +
+            "  public String getName() { return name; }\n" +
+            "}\n";
+
+    private static final String CANVAS = "package incremental;\n" +
+            "import io.sundr.builder.annotations.Buildable;\n" +
+            "import java.util.List;\n" +
+            "@Buildable\n" +
+            "public class Canvas {\n" +
+            "  private final List<Shape> shapes;\n" +
+            "  public Canvas(List<Shape> shapes) { this.shapes = shapes; }\n" +
+            "  public List<Shape> getShapes() { return shapes; }\n" +
+            "}\n";
+
+    private static final String LABEL = "package incremental;\n" +
+            "import io.sundr.builder.annotations.Buildable;\n" +
+            "@Buildable\n" +
+            "public class Label {\n" +
+            "  private final String text;\n" +
+            "  public Label(String text) { this.text = text; }\n" +
+            "  public String getText() { return text; }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File sources;
+    private File generated;
+    private File classes;
+
+    @Before
+    public void setUp() throws IOException {
+        sources = folder.newFolder("sources");
+        generated = folder.newFolder("generated");
+        classes = folder.newFolder("classes");
+    }
+
+    @Test
+    public void testUnchangedBuildablesAreSkipped() throws IOException {
+        write("Shape", SHAPE);
+        write("Square", SQUARE);
+        write("Canvas", CANVAS);
+        write("Label", LABEL);
+        compile();
+        assertGenerated("SquareFluentImpl", "SquareBuilder", "CanvasFluentImpl", "CanvasBuilder", "LabelFluentImpl", "LabelBuilder");
+
+        compile();
+        assertNotGenerated("SquareFluentImpl", "SquareBuilder", "CanvasFluentImpl", "CanvasBuilder", "LabelFluentImpl", "LabelBuilder");
+    }
+
+    @Test
+    public void testAddedSubclassRegenerates() throws IOException {
+        write("Shape", SHAPE);
+        write("Square", SQUARE);
+        write("Canvas", CANVAS);
+        compile();
+        assertFalse(read("CanvasFluentImpl").contains("addNewCircleShape"));
+
+        write("Circle", CIRCLE);
+        compile();
+        assertGenerated("CircleFluentImpl", "CircleBuilder", "CanvasFluentImpl", "CanvasBuilder");
+        assertTrue(read("CanvasFluentImpl").contains("addNewCircleShape"));
+    }
+
+    @Test
+    public void testChangedPropertyRegenerates() throws IOException {
+        write("Shape", SHAPE);
+        write("Square", SQUARE);
+        write("Canvas", CANVAS);
+        write("Label", LABEL);
+        compile();
+
+        write("Square", SQUARE_WITH_SIDE);
+        compile();
+        assertGenerated("SquareFluentImpl", "SquareBuilder", "CanvasFluentImpl", "CanvasBuilder");
+        assertNotGenerated("LabelFluentImpl", "LabelBuilder");
+        assertTrue(read("SquareFluentImpl").contains("withSide"));
+    }
+
+    private void write(String name, String content) throws IOException {
+        File file = new File(sources, "incremental/" + name + ".java");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(String name) throws IOException {
+        return new String(Files.readAllBytes(new File(generated, "incremental/" + name + ".java").toPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compiles all sources into the same class output, like an incremental build would, keeping only the sources generated by this compilation.
+     */
+    private void compile() throws IOException {
+        for (File file : listFiles(generated)) {
+            file.delete();
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(listFiles(sources));
+            List<String> options = Arrays.asList("-Asundrio.incremental=true",
+                    "-d", classes.getAbsolutePath(),
+                    "-s", generated.getAbsolutePath(),
+                    "-classpath", classes.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new BuildableProcessor()));
+            assertTrue("Compilation failed", task.call());
+        }
+    }
+
+    private void assertGenerated(String... names) {
+        for (String name : names) {
+            assertTrue(name + " should have been generated", new File(generated, "incremental/" + name + ".java").exists());
+        }
+    }
+
+    private void assertNotGenerated(String... names) {
+        for (String name : names) {
+            assertFalse(name + " should not have been generated", new File(generated, "incremental/" + name + ".java").exists());
+        }
+    }
+
+    private static List<File> listFiles(File directory) {
+        List<File> result = new ArrayList<File>();
+        File[] children = directory.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                if (child.isDirectory()) {
+                    result.addAll(listFiles(child));
+                } else {
+                    result.add(child);
+                }
+            }
+        }
+        return result;
+    }
+}
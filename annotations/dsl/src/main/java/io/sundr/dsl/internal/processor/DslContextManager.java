@@ -16,31 +16,27 @@
 
 package io.sundr.dsl.internal.processor;
 
+import io.sundr.codegen.CodegenContext;
+
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
-import java.util.concurrent.atomic.AtomicReference;
 
 public class DslContextManager {
 
     private DslContextManager() {
     }
 
-    private static final AtomicReference<DslContext> context = new AtomicReference<DslContext>();
-
+    //The dsl context is kept per compilation, as an extension of the codegen context.
     public static DslContext create(Elements elements, Types types) {
-        DslContext ctx = new DslContext(elements, types);
-        if (context.compareAndSet(null, ctx)) {
-            return ctx;
-        } else {
-            DslContext existing = context.get();
-            return existing;
-        }
+        return CodegenContext.create(elements, types).getExtension(DslContext.class, () -> new DslContext(elements, types));
     }
 
-    public static synchronized DslContext getContext() {
-        if (context.get() == null) {
+    public static DslContext getContext() {
+        CodegenContext codegenContext = CodegenContext.current();
+        DslContext context = codegenContext != null ? codegenContext.getExtension(DslContext.class) : null;
+        if (context == null) {
             throw new IllegalStateException("Dsl context not available.");
         }
-        return context.get();
+        return context;
     }
 }
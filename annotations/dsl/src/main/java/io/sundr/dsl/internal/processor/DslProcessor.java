@@ -16,6 +16,7 @@
 
 package io.sundr.dsl.internal.processor;
 
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.model.ClassRef;
 import io.sundr.codegen.model.TypeDef;
 import io.sundr.codegen.model.TypeDefBuilder;
@@ -60,6 +61,11 @@ public class DslProcessor extends JavaGeneratingProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        if (env.processingOver()) {
+            CodegenContext.release();
+            return true;
+        }
+
         Elements elements = processingEnv.getElementUtils();
         Types types = processingEnv.getTypeUtils();
         DslContext context = DslContextManager.create(elements, types);
@@ -18,6 +18,7 @@ package io.sundr.dsl.internal.type.functions;
 
 import io.sundr.Function;
 import io.sundr.builder.TypedVisitor;
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.model.ClassRef;
 import io.sundr.codegen.model.ClassRefBuilder;
 import io.sundr.codegen.model.TypeDef;
@@ -44,24 +45,24 @@ public class Generics {
 
 
     private static final String[] GENERIC_NAMES = {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P", "Q", "R", "S"};
-    private static final Map<TypeRef, TypeParamDef> GENERIC_MAPPINGS = new HashMap<TypeRef, TypeParamDef>();
-    private static int counter = 0;
+    private static final Mappings GLOBAL_MAPPINGS = new Mappings();
 
     public static final Function<TypeRef, TypeParamDef> MAP = new Function<TypeRef, TypeParamDef>() {
         public TypeParamDef apply(TypeRef item) {
-            if (!GENERIC_MAPPINGS.containsKey(item)) {
-                int iteration = counter / GENERIC_NAMES.length;
-                String name = GENERIC_NAMES[counter % GENERIC_NAMES.length];
+            Mappings mappings = getMappings();
+            if (!mappings.generics.containsKey(item)) {
+                int iteration = mappings.counter / GENERIC_NAMES.length;
+                String name = GENERIC_NAMES[mappings.counter % GENERIC_NAMES.length];
                 if (iteration > 0) {
                     name += iteration;
                 }
-                counter++;
-                GENERIC_MAPPINGS.put(item, new TypeParamDefBuilder().withName(name)
+                mappings.counter++;
+                mappings.generics.put(item, new TypeParamDefBuilder().withName(name)
                         .addToAttributes(IS_GENERIC, true)
                         .addToAttributes(ORIGINAL_REF, item)
                         .build());
             }
-            return GENERIC_MAPPINGS.get(item);
+            return mappings.generics.get(item);
         }
     };
 
@@ -79,7 +80,7 @@ public class Generics {
         public void visit(ClassRefBuilder builder) {
             List<TypeRef> unwrappedArguments = new ArrayList<TypeRef>();
             for (TypeRef argument : builder.getArguments()) {
-                TypeRef key = getKeyForValue(GENERIC_MAPPINGS, argument);
+                TypeRef key = getKeyForValue(getMappings().generics, argument);
                 if (TRANSPARENT_REF.equals(key)) {
                     continue;
                 } else if (key != null) {
@@ -114,13 +115,31 @@ public class Generics {
     }
 
     public static void clear() {
-        counter = 0;
-        GENERIC_MAPPINGS.clear();
-        GENERIC_MAPPINGS.put(VOID_REF, new TypeParamDefBuilder().withName("V").addToAttributes(IS_GENERIC, true).build());
-        GENERIC_MAPPINGS.put(TRANSPARENT_REF,  TRANSPARENT);
+        getMappings().clear();
     }
-    
-    static {
-        clear();
+
+    /**
+     * Returns the mappings of the current {@link CodegenContext}, so that generics aren't shared between compilations.
+     */
+    private static Mappings getMappings() {
+        CodegenContext context = CodegenContext.current();
+        return context != null ? context.getExtension(Mappings.class, Mappings::new) : GLOBAL_MAPPINGS;
+    }
+
+    private static final class Mappings {
+
+        private final Map<TypeRef, TypeParamDef> generics = new HashMap<TypeRef, TypeParamDef>();
+        private int counter = 0;
+
+        private Mappings() {
+            clear();
+        }
+
+        private void clear() {
+            counter = 0;
+            generics.clear();
+            generics.put(VOID_REF, new TypeParamDefBuilder().withName("V").addToAttributes(IS_GENERIC, true).build());
+            generics.put(TRANSPARENT_REF,  TRANSPARENT);
+        }
     }
 }
@@ -60,6 +60,11 @@ public class VelocityTransformationProcessor extends JavaGeneratingProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        if (env.processingOver()) {
+            CodegenContext.release();
+            return false;
+        }
+
         Elements elements = processingEnv.getElementUtils();
         Types types = processingEnv.getTypeUtils();
         Filer filer = processingEnv.getFiler();
@@ -0,0 +1,100 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.builder.TypedVisitor;
+import io.sundr.examples.kubernetes.domain.EnvVar;
+import io.sundr.examples.kubernetes.domain.EnvVarBuilder;
+import io.sundr.examples.kubernetes.domain.EnvVarSourceBuilder;
+import io.sundr.examples.shapes.Canvas;
+import io.sundr.examples.shapes.CanvasBuilder;
+import io.sundr.examples.shapes.v1.CircleBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the builders generated for the examples: building, copying and visiting a canvas of shapes,
+ * and building a small kubernetes model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int shapes;
+
+    private CanvasBuilder builder;
+    private Canvas canvas;
+
+    private final TypedVisitor<CircleBuilder> visitor = new TypedVisitor<CircleBuilder>() {
+        public void visit(CircleBuilder element) {
+            element.getX();
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        builder = new CanvasBuilder()
+                .withNewArtist("Pablo", "Picasso")
+                .withNewDate(4, 1937);
+
+        for (int i = 0; i < shapes; i++) {
+            builder.addNewCircleShape(i, i, i)
+                    .addNewSquareShape(i, i, i)
+                    .addToNotes("note" + i, "value" + i);
+        }
+        canvas = builder.build();
+    }
+
+    @Benchmark
+    public Canvas build() {
+        return builder.build();
+    }
+
+    @Benchmark
+    public Canvas copy() {
+        return new CanvasBuilder(canvas).build();
+    }
+
+    @Benchmark
+    public CanvasBuilder accept() {
+        return builder.accept(visitor);
+    }
+
+    @Benchmark
+    public EnvVar buildEnvVar() {
+        return new EnvVarBuilder()
+                .withName("POD_NAME")
+                .withValueFrom(new EnvVarSourceBuilder().withFieldRef("metadata.name").build())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.generator.CodeGeneratorBuilder;
+import io.sundr.codegen.generator.CodeGeneratorContext;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.examples.crud.Person;
+import io.sundr.examples.shapes.CanvasFluentImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering models end to end: a source file for a large generated fluent and the dao template of the crud example.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeGeneratorBenchmark {
+
+    private CodeGeneratorContext context;
+    private TypeDef fluent;
+    private TypeDef person;
+
+    @Setup
+    public void setUp() {
+        context = new CodeGeneratorContext();
+        fluent = ClassTo.TYPEDEF.apply(CanvasFluentImpl.class);
+        person = ClassTo.TYPEDEF.apply(Person.class);
+    }
+
+    @Benchmark
+    public StringWriter generateSourceFile() throws IOException {
+        return generate(fluent, "templates/benchmarks/sourcefile.vm");
+    }
+
+    @Benchmark
+    public StringWriter generateDao() throws IOException {
+        return generate(person, "dao.vm");
+    }
+
+    private StringWriter generate(TypeDef model, String template) throws IOException {
+        StringWriter writer = new StringWriter();
+        new CodeGeneratorBuilder<TypeDef>()
+                .withContext(context)
+                .withModel(model)
+                .withWriter(writer)
+                .withTemplateResource(template)
+                .build()
+                .generate();
+        return writer;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.Function;
+import io.sundr.FunctionFactory;
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.ScopedCaches;
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.examples.kubernetes.domain.EnvVar;
+import io.sundr.examples.shapes.Canvas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cached conversion functions: a cache hit of a plain and a scoped cache,
+ * and {@link ClassTo#TYPEDEF} once cached and in a fresh compilation, where every referenced class is converted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final Function<String, Integer> LENGTH = new Function<String, Integer>() {
+        public Integer apply(String item) {
+            return item.length();
+        }
+    };
+
+    private final FunctionFactory<String, Integer> cached = FunctionFactory.cache(LENGTH);
+    private final FunctionFactory<String, Integer> scoped = ScopedCaches.cache(LENGTH);
+
+    @Setup
+    public void setUp() {
+        ClassTo.TYPEDEF.apply(Canvas.class);
+        ClassTo.TYPEDEF.apply(EnvVar.class);
+    }
+
+    @Benchmark
+    public Integer cacheHit() {
+        return cached.apply("benchmark");
+    }
+
+    @Benchmark
+    public Integer scopedCacheHit() {
+        return scoped.apply("benchmark");
+    }
+
+    @Benchmark
+    public TypeDef classToTypeDefCached() {
+        return ClassTo.TYPEDEF.apply(Canvas.class);
+    }
+
+    @Benchmark
+    public TypeDef classToTypeDefCold() throws Exception {
+        return CodegenContext.create(newElements(), null).call(() -> {
+            ClassTo.TYPEDEF.apply(EnvVar.class);
+            return ClassTo.TYPEDEF.apply(Canvas.class);
+        });
+    }
+
+    /**
+     * Each compilation is identified by its elements, so new elements give a new context with empty caches.
+     */
+    private static Elements newElements() {
+        return (Elements) Proxy.newProxyInstance(ConversionBenchmark.class.getClassLoader(), new Class[]{Elements.class},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null);
+    }
+}
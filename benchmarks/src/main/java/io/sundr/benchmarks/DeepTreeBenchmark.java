@@ -0,0 +1,122 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.sundr.benchmarks;
+
+import io.sundr.builder.TypedVisitor;
+import io.sundr.builder.Visitor;
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.model.ClassRef;
+import io.sundr.codegen.model.ClassRefBuilder;
+import io.sundr.codegen.model.MethodBuilder;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and visiting a deep builder tree: a type whose methods return and accept references
+ * nested as deep as the depth parameter, e.g. {@code List<Map<String, List<...>>>}.
+ * Each level is a nested builder, so visiting the tree exercises the recursive dispatch of accept().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepTreeBenchmark {
+
+    private static final int METHODS = 10;
+
+    @Param({"1", "10", "50"})
+    int depth;
+
+    private TypeDefBuilder builder;
+    private TypeDef typeDef;
+
+    private final TypedVisitor<ClassRefBuilder> typedVisitor = new TypedVisitor<ClassRefBuilder>() {
+        public void visit(ClassRefBuilder element) {
+            element.getDimensions();
+        }
+    };
+
+    private int visited;
+
+    private final Visitor<Object> visitor = new Visitor<Object>() {
+        public void visit(Object element) {
+            visited++;
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        builder = new TypeDefBuilder()
+                .withPackageName("io.sundr.benchmarks")
+                .withName("Deep");
+
+        ClassRef string = ClassTo.TYPEDEF.apply(String.class).toReference();
+        TypeDef list = ClassTo.TYPEDEF.apply(List.class);
+        TypeDef map = ClassTo.TYPEDEF.apply(Map.class);
+        ClassRef nested = string;
+        for (int i = 0; i < depth; i++) {
+            nested = i % 2 == 0 ? list.toReference(nested) : map.toReference(string, nested);
+        }
+
+        for (int i = 0; i < METHODS; i++) {
+            builder.addToMethods(new MethodBuilder()
+                    .withName("method" + i)
+                    .withReturnType(nested)
+                    .addNewArgument().withName("argument").withTypeRef(nested).endArgument()
+                    .build());
+        }
+        typeDef = builder.build();
+    }
+
+    @Benchmark
+    public TypeDef build() {
+        return builder.build();
+    }
+
+    @Benchmark
+    public TypeDef copy() {
+        return new TypeDefBuilder(typeDef).build();
+    }
+
+    @Benchmark
+    public TypeDefBuilder acceptTyped() {
+        return builder.accept(typedVisitor);
+    }
+
+    @Benchmark
+    public TypeDefBuilder accept() {
+        return builder.accept(visitor);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.codegen.functions.Pluralize;
+import io.sundr.codegen.functions.Singularize;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures pluralizing and singularizing property names.
+ * The repeated variants mostly hit the memo cache, like generating many types that share property names does.
+ * The distinct variants make every word unique, so that each call goes through the rules.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InflectionBenchmark {
+
+    private static final String[] WORDS = {
+            "address", "annotation", "child", "container", "endpoint", "entry", "index", "ingress", "item", "key",
+            "label", "matrix", "person", "policy", "port", "property", "selector", "status", "value", "volume"
+    };
+
+    private static final String[] PLURALS = {
+            "addresses", "annotations", "children", "containers", "endpoints", "entries", "indices", "ingresses", "items", "keys",
+            "labels", "matrices", "people", "policies", "ports", "properties", "selectors", "statuses", "values", "volumes"
+    };
+
+    private long counter;
+
+    @Benchmark
+    public void pluralizeRepeated(Blackhole blackhole) {
+        for (String word : WORDS) {
+            blackhole.consume(Pluralize.FUNCTION.apply(word));
+        }
+    }
+
+    @Benchmark
+    public void singularizeRepeated(Blackhole blackhole) {
+        for (String word : PLURALS) {
+            blackhole.consume(Singularize.FUNCTION.apply(word));
+        }
+    }
+
+    @Benchmark
+    public void pluralizeDistinct(Blackhole blackhole) {
+        String prefix = "p" + (counter++);
+        for (String word : WORDS) {
+            blackhole.consume(Pluralize.FUNCTION.apply(prefix + word));
+        }
+    }
+
+    @Benchmark
+    public void singularizeDistinct(Blackhole blackhole) {
+        String prefix = "s" + (counter++);
+        for (String word : PLURALS) {
+            blackhole.consume(Singularize.FUNCTION.apply(prefix + word));
+        }
+    }
+}
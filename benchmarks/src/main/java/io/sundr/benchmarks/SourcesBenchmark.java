@@ -0,0 +1,89 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.codegen.functions.Sources;
+import io.sundr.codegen.model.TypeDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the sources of the examples into type definitions, one source at a time and in bulk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourcesBenchmark {
+
+    private static final List<String> SOURCES = Arrays.asList(
+            "fixtures/io/sundr/examples/shapes/AbstractShape.java",
+            "fixtures/io/sundr/examples/shapes/Artist.java",
+            "fixtures/io/sundr/examples/shapes/Canvas.java",
+            "fixtures/io/sundr/examples/shapes/CanvasResource.java",
+            "fixtures/io/sundr/examples/shapes/Createable.java",
+            "fixtures/io/sundr/examples/shapes/Date.java",
+            "fixtures/io/sundr/examples/shapes/Rectangle.java",
+            "fixtures/io/sundr/examples/shapes/Shape.java",
+            "fixtures/io/sundr/examples/shapes/Updateable.java",
+            "fixtures/io/sundr/examples/shapes/v1/Circle.java",
+            "fixtures/io/sundr/examples/shapes/v1/Square.java",
+            "fixtures/io/sundr/examples/shapes/v2/Circle.java",
+            "fixtures/io/sundr/examples/shapes/v2/Square.java",
+            "fixtures/io/sundr/examples/kubernetes/KubernetesDsl.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/EnvVar.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/EnvVarSource.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/Pod.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/PodList.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/ReplicationController.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/ReplicationControllerList.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/Service.java",
+            "fixtures/io/sundr/examples/kubernetes/domain/ServiceList.java",
+            "fixtures/io/sundr/examples/crud/Address.java",
+            "fixtures/io/sundr/examples/crud/Dao.java",
+            "fixtures/io/sundr/examples/crud/Notes.java",
+            "fixtures/io/sundr/examples/crud/NotesDao.java",
+            "fixtures/io/sundr/examples/crud/Person.java");
+
+    @Benchmark
+    public List<TypeDef> parse() {
+        List<TypeDef> result = new ArrayList<TypeDef>();
+        for (String source : SOURCES) {
+            result.add(Sources.FROM_CLASSPATH_TO_SINGLE_TYPEDEF.apply(source));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TypeDef> parseAll() {
+        return Sources.FROM_CLASSPATH_TO_TYPEDEFS.apply(SOURCES);
+    }
+}
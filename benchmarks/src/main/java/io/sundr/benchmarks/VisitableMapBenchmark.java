@@ -0,0 +1,85 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import io.sundr.builder.TypedVisitor;
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.model.ClassRef;
+import io.sundr.codegen.model.ClassRefBuilder;
+import io.sundr.codegen.model.MethodBuilder;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures visiting a builder tree, which is dominated by the traversal of each node's visitables.
+ * Run with the gc profiler (-prof gc) to see the allocation per accept().
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitableMapBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int methods;
+
+    private TypeDefBuilder builder;
+
+    private final TypedVisitor<ClassRefBuilder> visitor = new TypedVisitor<ClassRefBuilder>() {
+        public void visit(ClassRefBuilder element) {
+            element.getDimensions();
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        builder = new TypeDefBuilder()
+                .withPackageName("io.sundr.benchmarks")
+                .withName("Deep");
+
+        ClassRef string = ClassTo.TYPEDEF.apply(String.class).toReference();
+        ClassRef list = ClassTo.TYPEDEF.apply(List.class).toReference(string);
+        for (int i = 0; i < methods; i++) {
+            builder.addToMethods(new MethodBuilder()
+                    .withName("method" + i)
+                    .withReturnType(list)
+                    .addNewArgument().withName("first").withTypeRef(string).endArgument()
+                    .addNewArgument().withName("second").withTypeRef(list).endArgument()
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public TypeDefBuilder accept() {
+        return builder.accept(visitor);
+    }
+}
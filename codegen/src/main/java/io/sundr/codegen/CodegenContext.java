@@ -18,30 +18,96 @@ package io.sundr.codegen;
 
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
+/**
+ * The state of a single compilation: its {@link DefinitionRepository} along with any state processors need to share.
+ * All processors of a compilation get the same context, as contexts are keyed by the compilation's {@link Elements}.
+ * The context is bound to the thread that created it, so that compilations running in parallel in the same JVM
+ * don't share any state. Code running on other threads needs to bind the context explicitly, via {@link #call(Callable)},
+ * and processors should {@link #release()} it once processing is over.
+ */
 public class CodegenContext {
 
-    private static CodegenContext INSTANCE;
+    //Contexts are weakly referenced, so that they can be collected once the compilation is over.
+    private static final Map<Elements, Reference<CodegenContext>> CONTEXTS = new WeakHashMap<Elements, Reference<CodegenContext>>();
+    private static final ThreadLocal<CodegenContext> CURRENT = new ThreadLocal<CodegenContext>();
 
     private final Types types;
     private final Elements elements;
-    private final DefinitionRepository definitionRepository = DefinitionRepository.getRepository();
+    private final DefinitionRepository definitionRepository = new DefinitionRepository();
+    private final ConcurrentMap<Class, Object> extensions = new ConcurrentHashMap<Class, Object>();
 
     private CodegenContext(Elements elements, Types types) {
         this.types = types;
         this.elements = elements;
     }
 
+    /**
+     * Returns the context of the compilation the specified {@link Elements} belong to, and binds it to the current thread.
+     * @param elements  The elements of the compilation.
+     * @param types     The types of the compilation.
+     * @return          The context.
+     */
     public synchronized static CodegenContext create(Elements elements, Types types) {
-        INSTANCE = new CodegenContext(elements, types);
-        return INSTANCE;
+        Reference<CodegenContext> reference = CONTEXTS.get(elements);
+        CodegenContext context = reference != null ? reference.get() : null;
+        if (context == null) {
+            context = new CodegenContext(elements, types);
+            CONTEXTS.put(elements, new WeakReference<CodegenContext>(context));
+        }
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Unbinds the context from the current thread (e.g. once processing is over), so that pooled threads don't keep it.
+     */
+    public static void release() {
+        CURRENT.remove();
     }
 
-    public synchronized static CodegenContext getContext() {
-        if (INSTANCE == null) {
+    public static CodegenContext getContext() {
+        CodegenContext context = current();
+        if (context == null) {
             throw new IllegalStateException("CodeGenContext has not been created, yet.");
         }
-        return INSTANCE;
+        return context;
+    }
+
+    /**
+     * Returns the context bound to the current thread.
+     * Contexts of other threads are never used, as they may belong to a different compilation.
+     * @return  The context or null, if no context is bound to the current thread.
+     */
+    public static CodegenContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Calls the specified callable, with this context bound to the current thread.
+     * @param callable  The callable.
+     * @return          The result of the callable.
+     */
+    public <T> T call(Callable<T> callable) throws Exception {
+        CodegenContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return callable.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
     }
 
     public Types getTypes() {
@@ -55,4 +121,27 @@ public class CodegenContext {
     public DefinitionRepository getDefinitionRepository() {
         return definitionRepository;
     }
+
+    /**
+     * Returns the extension of the specified type, which is state that other modules keep per compilation.
+     * @param type  The type of the extension.
+     * @return      The extension or null, if none has been set.
+     */
+    public <T> T getExtension(Class<T> type) {
+        return type.cast(extensions.get(type));
+    }
+
+    /**
+     * Returns the extension of the specified type, creating it if none has been set.
+     * @param type      The type of the extension.
+     * @param supplier  The supplier of the extension.
+     * @return          The extension.
+     */
+    public <T> T getExtension(Class<T> type, Supplier<? extends T> supplier) {
+        return type.cast(extensions.computeIfAbsent(type, t -> supplier.get()));
+    }
+
+    public <T> void setExtension(Class<T> type, T extension) {
+        extensions.put(type, extension);
+    }
 }
@@ -25,14 +25,19 @@ import io.sundr.codegen.model.TypeRef;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 public class DefinitionRepository {
 
@@ -40,34 +45,110 @@ public class DefinitionRepository {
 
     private final ConcurrentMap<String, TypeDef> definitions = new ConcurrentHashMap<String, TypeDef>();
 
+    //Secondary indexes, from flag name and package name to fully qualified names.
+    private final ConcurrentMap<String, Set<String>> flagged = new ConcurrentHashMap<String, Set<String>>();
+    private final ConcurrentMap<String, Set<String>> packages = new ConcurrentHashMap<String, Set<String>>();
+
     //Custom mappings
     private final ConcurrentMap<String, String> custom = new ConcurrentHashMap<String, String>();
 
-    private Map<String, String> snapshot;
+    //Simple name to the fully qualified names of the definitions with that name, in order.
+    private final ConcurrentMap<String, NavigableSet<String>> names = new ConcurrentHashMap<String, NavigableSet<String>>();
+
+    //Simple names whose mapping may have changed since the last snapshot.
+    private final Set<String> changedNames = ConcurrentHashMap.newKeySet();
+
+    private volatile ReferenceMap snapshot;
 
-    private DefinitionRepository() {
+    //Incremented whenever a registered definition is replaced or removed.
+    private final AtomicLong version = new AtomicLong();
+
+    //Caches of information derived from the definitions, by owner.
+    private final ConcurrentMap<Object, Map> caches = new ConcurrentHashMap<Object, Map>();
+
+    DefinitionRepository() {
     }
 
-    public static synchronized final DefinitionRepository getRepository() {
+    /**
+     * Returns the repository of the current {@link CodegenContext}, or a global repository if no context has been created.
+     * @return  The repository.
+     */
+    public static DefinitionRepository getRepository() {
+        CodegenContext context = CodegenContext.current();
+        if (context != null) {
+            return context.getDefinitionRepository();
+        }
+        return getGlobalRepository();
+    }
+
+    private static synchronized DefinitionRepository getGlobalRepository() {
         if (INSTANCE == null) {
             INSTANCE = new DefinitionRepository();
         }
         return INSTANCE;
     }
 
+    /**
+     * Returns a cache that belongs to this repository, so that cached information isn't shared between compilations.
+     * @param owner     The owner of the cache.
+     * @param supplier  The supplier of the cache, if the owner doesn't have one yet.
+     * @return          The cache.
+     */
+    public <K, V> Map<K, V> getCache(Object owner, Supplier<? extends Map<K, V>> supplier) {
+        Map<K, V> cache = caches.get(owner);
+        if (cache == null) {
+            cache = supplier.get();
+            Map<K, V> existing = caches.putIfAbsent(owner, cache);
+            if (existing != null) {
+                cache = existing;
+            }
+        }
+        return cache;
+    }
+
     public TypeDef registerIfAbsent(TypeDef definition) {
-        if (definition != null) {
-            definitions.putIfAbsent(definition.getFullyQualifiedName(), definition);
+        if (definition != null && definitions.putIfAbsent(definition.getFullyQualifiedName(), definition) == null) {
+            index(definition);
         }
         return definition;
     }
 
     public TypeDef register(TypeDef definition) {
-        definitions.put(definition.getFullyQualifiedName(), definition);
+        TypeDef previous = definitions.put(definition.getFullyQualifiedName(), definition);
+        if (previous != null) {
+            unindex(previous);
+            if (previous != definition) {
+                version.incrementAndGet();
+            }
+        }
+        index(definition);
         return definition;
     }
 
 
+    /**
+     * Registers a batch of definitions. The version of the repository changes at most once for the whole batch.
+     * @param batch The definitions.
+     * @return      The registered definitions, in the order of the batch.
+     */
+    public List<TypeDef> registerAll(Collection<TypeDef> batch) {
+        List<TypeDef> result = new ArrayList<TypeDef>(batch.size());
+        boolean replaced = false;
+        for (TypeDef definition : batch) {
+            TypeDef previous = definitions.put(definition.getFullyQualifiedName(), definition);
+            if (previous != null) {
+                unindex(previous);
+                replaced |= previous != definition;
+            }
+            index(definition);
+            result.add(definition);
+        }
+        if (replaced) {
+            version.incrementAndGet();
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     public TypeDef register(TypeDef definition, String... flags) {
         TypeDefBuilder builder = new TypeDefBuilder(definition);
         for (String flag : flags) {
@@ -84,31 +165,45 @@ public class DefinitionRepository {
         return register(builder.build());
     }
 
-
-
+    /**
+     * Returns the definitions that have all the specified flags set.
+     * Flags are matched by name.
+     * @param flags The names of the flags.
+     * @return      The matching definitions.
+     */
     public Set<TypeDef> getDefinitions(String... flags) {
+        if (flags.length == 0) {
+            return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
+        }
+
         Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-        for (TypeDef candidate : definitions.values()) {
+        for (TypeDef candidate : candidates(flags)) {
             boolean matches = true;
-            for (String flag :flags) {
-                AttributeKey<Boolean> attributeKey = new AttributeKey<Boolean>(flag, Boolean.class);
-                if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-                   matches = false;
-                   break;
+            for (String flag : flags) {
+                if (!hasFlag(candidate, flag)) {
+                    matches = false;
+                    break;
                 }
             }
             if (matches) {
                 result.add(candidate);
             }
         }
-
         return Collections.unmodifiableSet(result);
     }
 
     public Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+        if (attributeKeys.length == 0) {
+            return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
+        }
+
+        String[] flags = new String[attributeKeys.length];
+        for (int i = 0; i < attributeKeys.length; i++) {
+            flags[i] = attributeKeys[i].getName();
+        }
 
         Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-        for (TypeDef candidate : definitions.values()) {
+        for (TypeDef candidate : candidates(flags)) {
             boolean matches = true;
             for (AttributeKey<Boolean> attributeKey : attributeKeys) {
                 if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
@@ -120,7 +215,26 @@ public class DefinitionRepository {
                 result.add(candidate);
             }
         }
+        return Collections.unmodifiableSet(result);
+    }
 
+    /**
+     * Returns the definitions in the specified package.
+     * @param packageName   The package name.
+     * @return              The definitions.
+     */
+    public Set<TypeDef> getDefinitionsInPackage(String packageName) {
+        Set<String> names = packages.get(String.valueOf(packageName));
+        if (names == null) {
+            return Collections.emptySet();
+        }
+        Set<TypeDef> result = new LinkedHashSet<TypeDef>();
+        for (String name : names) {
+            TypeDef candidate = definitions.get(name);
+            if (candidate != null && String.valueOf(packageName).equals(String.valueOf(candidate.getPackageName()))) {
+                result.add(candidate);
+            }
+        }
         return Collections.unmodifiableSet(result);
     }
 
@@ -139,56 +253,189 @@ public class DefinitionRepository {
        return definitions.values();
     }
 
-    public void updateReferenceMap() {
-        snapshot = getReferenceMapInternal();
+    /**
+     * Updates the reference map snapshot with the definitions and custom mappings added since the last update.
+     * For each simple name, the definition with the lowest fully qualified name wins, unless a custom mapping exists.
+     */
+    public synchronized void updateReferenceMap() {
+        if (snapshot == null) {
+            changedNames.clear();
+            Map<String, String> mappings = new HashMap<String, String>();
+            for (String name : names.keySet()) {
+                String fqn = resolve(name);
+                if (fqn != null) {
+                    mappings.put(name, fqn);
+                }
+            }
+            mappings.putAll(custom);
+            snapshot = ReferenceMap.of(mappings);
+            return;
+        }
+
+        Map<String, String> changes = new HashMap<String, String>();
+        for (Iterator<String> iterator = changedNames.iterator(); iterator.hasNext();) {
+            String name = iterator.next();
+            iterator.remove();
+            changes.put(name, resolve(name));
+        }
+        snapshot = snapshot.with(changes);
     }
 
     public Map<String, String> getReferenceMap() {
         if (snapshot == null) {
-            snapshot = getReferenceMapInternal();
+            updateReferenceMap();
         }
         return snapshot;
     }
 
-    private Map<String, String> getReferenceMapInternal() {
-        Map<String, String> mapping = new HashMap<String, String>();
-        List<ClassRef> refs = new ArrayList<ClassRef>();
-        for (TypeDef typeDef : getDefinitions()) {
-            refs.add(typeDef.toInternalReference());
+    private String resolve(String name) {
+        String fqn = custom.get(name);
+        if (fqn != null) {
+            return fqn;
         }
-
-        //It's best to have predictable order, so that we can generate uniform code.
-        Collections.sort(refs, new Comparator<ClassRef>() {
-            @Override
-            public int compare(ClassRef o1, ClassRef o2) {
-                return o1.getFullyQualifiedName().compareTo(o2.getFullyQualifiedName());
-            }
-        });
-
-        for (ClassRef classRef : refs) {
-            String key = classRef.getDefinition().getName();
-            if (!mapping.containsKey(key)) {
-                mapping.put(key, classRef.getDefinition().getFullyQualifiedName());
-            }
+        NavigableSet<String> candidates = names.get(name);
+        if (candidates == null) {
+            return null;
+        }
+        try {
+            return candidates.first();
+        } catch (NoSuchElementException e) {
+            return null;
         }
-
-        mapping.putAll(custom);
-        return mapping;
     }
 
     public String putCustomMapping(String name, String fqn) {
-         return custom.put(name, fqn);
+        String previous = custom.put(name, fqn);
+        changedNames.add(name);
+        return previous;
     }
 
     public String removeCustomMapping(String name) {
-        return custom.remove(name);
+        String previous = custom.remove(name);
+        changedNames.add(name);
+        return previous;
     }
 
     public boolean customMappingExists(String name) {
         return custom.containsKey(name);
     }
 
+    /**
+     * Returns the version of the repository, which changes whenever a registered definition is replaced or removed.
+     * Information derived from registered definitions can be cached for as long as the version stays the same.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     public void clear() {
         definitions.clear();
+        flagged.clear();
+        packages.clear();
+        for (String name : names.keySet()) {
+            changedNames.add(name);
+        }
+        names.clear();
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the definitions that may have all the specified flags, using the smallest of the flag indexes.
+     */
+    private Collection<TypeDef> candidates(String... flags) {
+        Set<String> smallest = null;
+        for (String flag : flags) {
+            Set<String> names = flagged.get(flag);
+            if (names == null) {
+                return Collections.emptyList();
+            }
+            if (smallest == null || names.size() < smallest.size()) {
+                smallest = names;
+            }
+        }
+        List<TypeDef> candidates = new ArrayList<TypeDef>(smallest.size());
+        for (String name : smallest) {
+            TypeDef candidate = definitions.get(name);
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean hasFlag(TypeDef definition, String flag) {
+        Map<AttributeKey, Object> attributes = definition.getAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+            if (flag.equals(entry.getKey().getName()) && Boolean.TRUE.equals(entry.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void index(TypeDef definition) {
+        String name = definition.getFullyQualifiedName();
+        indexOf(packages, String.valueOf(definition.getPackageName())).add(name);
+        if (definition.getName() != null) {
+            NavigableSet<String> candidates = names.get(definition.getName());
+            if (candidates == null) {
+                NavigableSet<String> created = new ConcurrentSkipListSet<String>();
+                candidates = names.putIfAbsent(definition.getName(), created);
+                if (candidates == null) {
+                    candidates = created;
+                }
+            }
+            if (candidates.add(name)) {
+                changedNames.add(definition.getName());
+            }
+        }
+        Map<AttributeKey, Object> attributes = definition.getAttributes();
+        if (attributes == null) {
+            return;
+        }
+        for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+            if (Boolean.TRUE.equals(entry.getValue())) {
+                indexOf(flagged, entry.getKey().getName()).add(name);
+            }
+        }
+    }
+
+    private void unindex(TypeDef definition) {
+        String name = definition.getFullyQualifiedName();
+        Set<String> names = packages.get(String.valueOf(definition.getPackageName()));
+        if (names != null) {
+            names.remove(name);
+        }
+        if (definition.getName() != null) {
+            names = this.names.get(definition.getName());
+            if (names != null && names.remove(name)) {
+                changedNames.add(definition.getName());
+            }
+        }
+        Map<AttributeKey, Object> attributes = definition.getAttributes();
+        if (attributes == null) {
+            return;
+        }
+        for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+            names = flagged.get(entry.getKey().getName());
+            if (names != null) {
+                names.remove(name);
+            }
+        }
+    }
+
+    private static Set<String> indexOf(ConcurrentMap<String, Set<String>> index, String key) {
+        Set<String> names = index.get(key);
+        if (names == null) {
+            Set<String> created = ConcurrentHashMap.newKeySet();
+            names = index.putIfAbsent(key, created);
+            if (names == null) {
+                names = created;
+            }
+        }
+        return names;
     }
 }
@@ -16,20 +16,52 @@
 
 package io.sundr.codegen;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the package of the type currently being generated, along with a table of the names that have already been
+ * resolved for the type. As the reference map doesn't change while a type is generated, each referenced class only needs
+ * to be resolved once. The scope is bound to the current thread, so that types can be generated concurrently.
+ */
 public class PackageScope {
 
-    private static String pkg;
+    private static final ThreadLocal<String> pkg = new ThreadLocal<String>();
+    private static final ThreadLocal<Map<String, Boolean>> names = new ThreadLocal<Map<String, Boolean>>();
 
     public static void set(String pkg) {
-        PackageScope.pkg = pkg;
+        PackageScope.pkg.set(pkg);
+        PackageScope.names.set(new HashMap<String, Boolean>());
     }
 
     public static String get() {
-        return PackageScope.pkg;
+        return PackageScope.pkg.get();
     }
 
     public static void clear() {
-        PackageScope.pkg = null;
+        PackageScope.pkg.remove();
+        PackageScope.names.remove();
     }
 
+    /**
+     * Returns whether the specified class has been resolved to its fully qualified name in the current scope.
+     * @param fqn   The fully qualified name of the class.
+     * @return      True or false if the class has been resolved, null otherwise.
+     */
+    public static Boolean isFullyQualified(String fqn) {
+        Map<String, Boolean> names = PackageScope.names.get();
+        return names != null ? names.get(fqn) : null;
+    }
+
+    /**
+     * Records how the specified class has been resolved in the current scope. Has no effect outside of a scope.
+     * @param fqn               The fully qualified name of the class.
+     * @param fullyQualified    Whether the class needs to be referenced by its fully qualified name.
+     */
+    public static void setFullyQualified(String fqn, boolean fullyQualified) {
+        Map<String, Boolean> names = PackageScope.names.get();
+        if (names != null) {
+            names.put(fqn, fullyQualified);
+        }
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the simple name to fully qualified name mappings.
+ * A new snapshot is derived from the previous one by layering the changed mappings on top of it,
+ * so that taking a snapshot costs as much as the number of changes. Layers are merged once they get too deep
+ * or too large compared to the mappings they shadow.
+ */
+final class ReferenceMap extends AbstractMap<String, String> {
+
+    private static final int MAXIMUM_DEPTH = 8;
+
+    static final ReferenceMap EMPTY = new ReferenceMap(null, Collections.<String, String>emptyMap(), 0, 0);
+
+    private final ReferenceMap parent;
+    //Changes over the parent. A null value means that the mapping has been removed.
+    private final Map<String, String> changes;
+    private final int depth;
+    private final int layerSize;
+
+    private Set<Entry<String, String>> entries;
+
+    private ReferenceMap(ReferenceMap parent, Map<String, String> changes, int depth, int layerSize) {
+        this.parent = parent;
+        this.changes = changes;
+        this.depth = depth;
+        this.layerSize = layerSize;
+    }
+
+    /**
+     * Creates a snapshot that contains exactly the specified mappings.
+     * @param mappings  The mappings.
+     * @return          The snapshot.
+     */
+    static ReferenceMap of(Map<String, String> mappings) {
+        return new ReferenceMap(null, new HashMap<String, String>(mappings), 0, 0);
+    }
+
+    /**
+     * Creates a snapshot that applies the specified changes to this one.
+     * @param changes   The changed mappings. A null value removes the mapping.
+     * @return          The new snapshot.
+     */
+    ReferenceMap with(Map<String, String> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        int size = layerSize + changes.size();
+        if (depth + 1 > MAXIMUM_DEPTH || size > baseSize() / 2) {
+            Map<String, String> merged = new HashMap<String, String>(this);
+            for (Map.Entry<String, String> change : changes.entrySet()) {
+                if (change.getValue() != null) {
+                    merged.put(change.getKey(), change.getValue());
+                } else {
+                    merged.remove(change.getKey());
+                }
+            }
+            return new ReferenceMap(null, merged, 0, 0);
+        }
+        return new ReferenceMap(this, new HashMap<String, String>(changes), depth + 1, size);
+    }
+
+    @Override
+    public String get(Object key) {
+        for (ReferenceMap map = this; map != null; map = map.parent) {
+            if (map.changes.containsKey(key)) {
+                return map.changes.get(key);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        if (entries == null) {
+            Map<String, String> all = parent != null ? new HashMap<String, String>(parent) : new HashMap<String, String>();
+            for (Map.Entry<String, String> change : changes.entrySet()) {
+                if (change.getValue() != null) {
+                    all.put(change.getKey(), change.getValue());
+                } else {
+                    all.remove(change.getKey());
+                }
+            }
+            entries = Collections.unmodifiableMap(all).entrySet();
+        }
+        return entries;
+    }
+
+    private int baseSize() {
+        ReferenceMap map = this;
+        while (map.parent != null) {
+            map = map.parent;
+        }
+        return map.changes.size();
+    }
+}
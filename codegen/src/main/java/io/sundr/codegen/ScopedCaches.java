@@ -0,0 +1,108 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen;
+
+import io.sundr.Function;
+import io.sundr.FunctionFactory;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caching functions, whose results are kept in the {@link DefinitionRepository} of the current {@link CodegenContext}.
+ * Functions that create or inspect models need to use these, so that models of one compilation don't leak into an other.
+ */
+public final class ScopedCaches {
+
+    private ScopedCaches() {
+    }
+
+    /**
+     * The scoped equivalent of {@link FunctionFactory#cache(Function)}.
+     */
+    public static <X, Y> FunctionFactory<X, Y> cache(Function<X, Y> function) {
+        return FunctionFactory.cache(new ScopedMap<X, Y>(HashMap::new), function);
+    }
+
+    /**
+     * The scoped equivalent of {@link FunctionFactory#concurrentCache(Function)}.
+     */
+    public static <X, Y> FunctionFactory<X, Y> concurrentCache(Function<X, Y> function) {
+        return FunctionFactory.concurrentCache(new ScopedMap<X, Y>(ConcurrentHashMap::new), function);
+    }
+
+    /**
+     * A map that delegates to a map owned by the repository of the current context.
+     */
+    private static final class ScopedMap<K, V> extends AbstractMap<K, V> {
+
+        private final Supplier<Map<K, V>> supplier;
+
+        private ScopedMap(Supplier<Map<K, V>> supplier) {
+            this.supplier = supplier;
+        }
+
+        private Map<K, V> delegate() {
+            return DefinitionRepository.getRepository().getCache(this, supplier);
+        }
+
+        @Override
+        public V get(Object key) {
+            return delegate().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate().containsKey(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            return delegate().put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return delegate().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            delegate().clear();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return delegate().entrySet();
+        }
+
+        //The map is used as a key of the repository caches, so it needs identity semantics.
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.cache;
+
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.model.TypeDef;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A persistent cache of {@link TypeDef} models created from classes.
+ * Each entry is stored in its own file, along with a checksum of the jar (or class file) the class was loaded from.
+ * Entries are also keyed by a checksum of the code that converts and encodes the models, so that a cache directory
+ * can be shared by different versions of sundrio. Entries whose checksum no longer matches are ignored.
+ * The cache is disabled unless a directory has been configured, either via {@link #configure(File)} or via the
+ * {@value #DIRECTORY_PROPERTY} system property. The configuration belongs to the current {@link CodegenContext},
+ * so each compilation uses its own directory.
+ */
+public final class TypeDefCache {
+
+    public static final String DIRECTORY_PROPERTY = "sundrio.typeDefCache.dir";
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String ENTRY_SUFFIX = ".typedef";
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String JDK = "jdk";
+
+    //Identifies the code that creates the cached models, or null if it can't be determined, which disables the cache.
+    private static final String GENERATOR = generatorOf(ClassTo.class, TypeDefCodec.class, TypeDefCache.class);
+
+    //Used when there is no current context.
+    private static final CacheHolder GLOBAL_CACHE = new CacheHolder();
+
+    private static final class CacheHolder {
+        private volatile TypeDefCache cache = create(System.getProperty(DIRECTORY_PROPERTY));
+    }
+
+    private final File directory;
+    private final String generator;
+    private final Map<String, String> checksums = new ConcurrentHashMap<String, String>();
+
+    private TypeDefCache(File directory) {
+        this(directory, GENERATOR);
+    }
+
+    TypeDefCache(File directory, String generator) {
+        this.directory = directory;
+        this.generator = generator;
+    }
+
+    private static CacheHolder cacheHolder() {
+        CodegenContext context = CodegenContext.current();
+        return context != null ? context.getExtension(CacheHolder.class, CacheHolder::new) : GLOBAL_CACHE;
+    }
+
+    /**
+     * Enables the cache of the current compilation, using the specified directory.
+     * @param directory The cache directory, or null to disable the cache.
+     */
+    public static void configure(File directory) {
+        cacheHolder().cache = directory != null ? new TypeDefCache(directory) : null;
+    }
+
+    /**
+     * @return  The cache of the current compilation, or null if no cache has been configured.
+     */
+    public static TypeDefCache getCache() {
+        return cacheHolder().cache;
+    }
+
+    private static TypeDefCache create(String directory) {
+        return directory != null && !directory.isEmpty() ? new TypeDefCache(new File(directory)) : null;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the cached entry for the specified class.
+     * @param type  The class.
+     * @return      The entry, or null if there is no valid entry for the class.
+     */
+    public Entry get(Class type) {
+        if (type.isArray() || generator == null) {
+            return null;
+        }
+        try {
+            String source = sourceOf(type);
+            File file = fileOf(source, type);
+            if (!file.exists()) {
+                return null;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(generator) || !in.readUTF().equals(checksumOf(source, type, checksums))) {
+                    return null;
+                }
+                int size = in.readInt();
+                List<String> references = new ArrayList<String>(size);
+                for (int i = 0; i < size; i++) {
+                    references.add(in.readUTF());
+                }
+                return new Entry(TypeDefCodec.read(in), references);
+            }
+        } catch (Exception e) {
+            //A corrupt or incompatible entry is treated as a miss.
+            return null;
+        }
+    }
+
+    /**
+     * Stores the specified model for the specified class.
+     * Models that can't be encoded and I/O errors are ignored, as caching is best effort.
+     * @param type          The class.
+     * @param typeDef       The model of the class.
+     * @param references    The classes that need to be converted along with the class, so that their definitions are available.
+     */
+    public void put(Class type, TypeDef typeDef, Collection<Class> references) {
+        if (type.isArray() || generator == null) {
+            return;
+        }
+        try {
+            String source = sourceOf(type);
+            File file = fileOf(source, type);
+            File parent = file.getParentFile();
+            if (!parent.exists() && !parent.mkdirs() && !parent.exists()) {
+                return;
+            }
+            Path tmp = Files.createTempFile(parent.toPath(), type.getName(), null);
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeUTF(generator);
+                    out.writeUTF(checksumOf(source, type, checksums));
+                    out.writeInt(references.size());
+                    for (Class reference : references) {
+                        out.writeUTF(reference.getName());
+                    }
+                    TypeDefCodec.write(out, typeDef);
+                }
+                try {
+                    Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (UnsupportedModelException e) {
+            //Models that aren't made of plain values are not cached.
+        } catch (IOException e) {
+            //Caching is best effort.
+        }
+    }
+
+    private File fileOf(String source, Class type) {
+        return new File(new File(directory, digest((generator + ":" + source).getBytes(StandardCharsets.UTF_8))), type.getName() + ENTRY_SUFFIX);
+    }
+
+    /**
+     * Returns a checksum of the jars (or class files) the specified classes were loaded from.
+     */
+    private static String generatorOf(Class... types) {
+        Map<String, String> checksums = new HashMap<String, String>();
+        StringBuilder sb = new StringBuilder();
+        try {
+            for (Class type : types) {
+                sb.append(checksumOf(sourceOf(type), type, checksums)).append(":");
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the location the class was loaded from, or a key identifying the running jdk for classes without one.
+     */
+    private static String sourceOf(Class type) {
+        CodeSource codeSource = type.getProtectionDomain() != null ? type.getProtectionDomain().getCodeSource() : null;
+        URL location = codeSource != null ? codeSource.getLocation() : null;
+        if (location == null) {
+            return JDK + ":" + System.getProperty("java.home") + ":" + System.getProperty("java.vm.version");
+        }
+        return location.toExternalForm();
+    }
+
+    /**
+     * Returns the checksum of the jar the class was loaded from, or the checksum of the class file itself
+     * for classes loaded from a directory. Jar checksums are computed once and kept in the specified map.
+     */
+    private static String checksumOf(String source, Class type, Map<String, String> checksums) throws IOException {
+        if (source.startsWith(JDK + ":")) {
+            return source;
+        }
+        Path path;
+        try {
+            path = Paths.get(new URI(source));
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            throw new IOException("Can't locate:" + source, e);
+        }
+        if (Files.isDirectory(path)) {
+            try (InputStream is = Files.newInputStream(path.resolve(type.getName().replace('.', '/') + CLASS_SUFFIX))) {
+                return digest(is);
+            }
+        }
+        String checksum = checksums.get(source);
+        if (checksum == null) {
+            try (InputStream is = Files.newInputStream(path)) {
+                checksum = digest(is);
+            }
+            checksums.put(source, checksum);
+        }
+        return checksum;
+    }
+
+    private static String digest(InputStream is) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String digest(byte[] bytes) {
+        return toHex(newDigest().digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A cached model, along with the names of the classes it references.
+     */
+    public static final class Entry {
+
+        private final TypeDef typeDef;
+        private final List<String> references;
+
+        private Entry(TypeDef typeDef, List<String> references) {
+            this.typeDef = typeDef;
+            this.references = Collections.unmodifiableList(references);
+        }
+
+        public TypeDef getTypeDef() {
+            return typeDef;
+        }
+
+        public List<String> getReferences() {
+            return references;
+        }
+    }
+}
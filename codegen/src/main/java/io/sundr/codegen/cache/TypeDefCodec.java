@@ -0,0 +1,579 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.cache;
+
+import io.sundr.codegen.model.AnnotationRef;
+import io.sundr.codegen.model.AttributeKey;
+import io.sundr.codegen.model.Attributeable;
+import io.sundr.codegen.model.Block;
+import io.sundr.codegen.model.ClassRef;
+import io.sundr.codegen.model.ClassRefBuilder;
+import io.sundr.codegen.model.EditableAnnotationRef;
+import io.sundr.codegen.model.EditableBlock;
+import io.sundr.codegen.model.EditableMethod;
+import io.sundr.codegen.model.EditablePrimitiveRef;
+import io.sundr.codegen.model.EditableProperty;
+import io.sundr.codegen.model.EditableStringStatement;
+import io.sundr.codegen.model.EditableTypeDef;
+import io.sundr.codegen.model.EditableTypeParamDef;
+import io.sundr.codegen.model.EditableTypeParamRef;
+import io.sundr.codegen.model.EditableVoidRef;
+import io.sundr.codegen.model.EditableWildcardRef;
+import io.sundr.codegen.model.Kind;
+import io.sundr.codegen.model.Method;
+import io.sundr.codegen.model.PrimitiveRef;
+import io.sundr.codegen.model.Property;
+import io.sundr.codegen.model.Statement;
+import io.sundr.codegen.model.StringStatement;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeParamDef;
+import io.sundr.codegen.model.TypeParamRef;
+import io.sundr.codegen.model.TypeRef;
+import io.sundr.codegen.model.VoidRef;
+import io.sundr.codegen.model.WildcardRef;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes and reads {@link TypeDef} models in a compact binary form.
+ * Only models made of plain values can be encoded: attributes need to use one of the keys declared in {@link Attributeable}
+ * and attribute or annotation values need to be strings, boxed primitives or arrays of them.
+ * Anything else results in an {@link UnsupportedModelException}.
+ */
+public final class TypeDefCodec {
+
+    private static final byte NULL = 0;
+    private static final byte CLASS_REF = 1;
+    private static final byte PRIMITIVE_REF = 2;
+    private static final byte VOID_REF = 3;
+    private static final byte TYPE_PARAM_REF = 4;
+    private static final byte WILDCARD_REF = 5;
+
+    private static final byte STRING = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INTEGER = 5;
+    private static final byte LONG = 6;
+    private static final byte CHARACTER = 7;
+    private static final byte FLOAT = 8;
+    private static final byte DOUBLE = 9;
+    private static final byte ARRAY = 10;
+
+    private static final Map<String, AttributeKey> ATTRIBUTE_KEYS = attributeKeys();
+
+    private static final Map<Byte, Class> COMPONENT_TYPES = new HashMap<Byte, Class>();
+    static {
+        COMPONENT_TYPES.put(STRING, String.class);
+        COMPONENT_TYPES.put(BOOLEAN, boolean.class);
+        COMPONENT_TYPES.put(BYTE, byte.class);
+        COMPONENT_TYPES.put(SHORT, short.class);
+        COMPONENT_TYPES.put(INTEGER, int.class);
+        COMPONENT_TYPES.put(LONG, long.class);
+        COMPONENT_TYPES.put(CHARACTER, char.class);
+        COMPONENT_TYPES.put(FLOAT, float.class);
+        COMPONENT_TYPES.put(DOUBLE, double.class);
+    }
+
+    private TypeDefCodec() {
+        //Utility Class
+    }
+
+    public static void write(DataOutput out, TypeDef typeDef) throws IOException, UnsupportedModelException {
+        writeTypeDef(out, typeDef);
+    }
+
+    public static TypeDef read(DataInput in) throws IOException {
+        return readTypeDef(in);
+    }
+
+    private static void writeTypeDef(DataOutput out, TypeDef typeDef) throws IOException, UnsupportedModelException {
+        out.writeBoolean(typeDef != null);
+        if (typeDef == null) {
+            return;
+        }
+        out.writeByte(typeDef.getKind().ordinal());
+        writeString(out, typeDef.getPackageName());
+        writeString(out, typeDef.getName());
+        writeStrings(out, typeDef.getComments());
+        writeAnnotations(out, typeDef.getAnnotations());
+        writeClassRefs(out, typeDef.getExtendsList());
+        writeClassRefs(out, typeDef.getImplementsList());
+        writeTypeParamDefs(out, typeDef.getParameters());
+        writeProperties(out, typeDef.getProperties());
+        writeMethods(out, typeDef.getConstructors());
+        writeMethods(out, typeDef.getMethods());
+        writeTypeDef(out, typeDef.getOuterType());
+        List<TypeDef> innerTypes = typeDef.getInnerTypes();
+        out.writeInt(innerTypes.size());
+        for (TypeDef innerType : innerTypes) {
+            writeTypeDef(out, innerType);
+        }
+        out.writeInt(typeDef.getModifiers());
+        writeAttributes(out, typeDef.getAttributes());
+    }
+
+    private static TypeDef readTypeDef(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        Kind kind = Kind.values()[in.readByte()];
+        String packageName = readString(in);
+        String name = readString(in);
+        List<String> comments = readStrings(in);
+        List<AnnotationRef> annotations = readAnnotations(in);
+        List<ClassRef> extendsList = readClassRefs(in);
+        List<ClassRef> implementsList = readClassRefs(in);
+        List<TypeParamDef> parameters = readTypeParamDefs(in);
+        List<Property> properties = readProperties(in);
+        List<Method> constructors = readMethods(in, true);
+        List<Method> methods = readMethods(in, false);
+        TypeDef outerType = readTypeDef(in);
+        int innerTypeCount = in.readInt();
+        List<TypeDef> innerTypes = new ArrayList<TypeDef>(innerTypeCount);
+        for (int i = 0; i < innerTypeCount; i++) {
+            innerTypes.add(readTypeDef(in));
+        }
+        int modifiers = in.readInt();
+        Map<AttributeKey, Object> attributes = readAttributes(in);
+        return new EditableTypeDef(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties, constructors, methods, outerType, innerTypes, modifiers, attributes);
+    }
+
+    private static void writeMethods(DataOutput out, List<Method> methods) throws IOException, UnsupportedModelException {
+        out.writeInt(methods.size());
+        for (Method method : methods) {
+            writeStrings(out, method.getComments());
+            writeAnnotations(out, method.getAnnotations());
+            writeTypeParamDefs(out, method.getParameters());
+            writeString(out, method.getName());
+            writeTypeRef(out, method.getReturnType());
+            writeProperties(out, method.getArguments());
+            out.writeBoolean(method.isVarArgPreferred());
+            writeClassRefs(out, method.getExceptions());
+            writeBlock(out, method.getBlock());
+            out.writeInt(method.getModifiers());
+            writeAttributes(out, method.getAttributes());
+        }
+    }
+
+    /**
+     * Reads methods. The return types of constructors are dropped, as the type sets them to a reference to itself,
+     * and copying a reference to a type that isn't registered yet is not possible.
+     */
+    private static List<Method> readMethods(DataInput in, boolean constructors) throws IOException {
+        int size = in.readInt();
+        List<Method> methods = new ArrayList<Method>(size);
+        for (int i = 0; i < size; i++) {
+            List<String> comments = readStrings(in);
+            List<AnnotationRef> annotations = readAnnotations(in);
+            List<TypeParamDef> parameters = readTypeParamDefs(in);
+            String name = readString(in);
+            TypeRef returnType = constructors ? skipTypeRef(in) : readTypeRef(in);
+            List<Property> arguments = readProperties(in);
+            boolean varArgPreferred = in.readBoolean();
+            List<ClassRef> exceptions = readClassRefs(in);
+            Block block = readBlock(in);
+            int modifiers = in.readInt();
+            Map<AttributeKey, Object> attributes = readAttributes(in);
+            methods.add(new EditableMethod(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions, block, modifiers, attributes));
+        }
+        return methods;
+    }
+
+    private static void writeBlock(DataOutput out, Block block) throws IOException, UnsupportedModelException {
+        out.writeBoolean(block != null);
+        if (block == null) {
+            return;
+        }
+        List<Statement> statements = block.getStatements();
+        out.writeInt(statements.size());
+        for (Statement statement : statements) {
+            if (!(statement instanceof StringStatement)) {
+                throw new UnsupportedModelException("Can't encode statement:" + statement);
+            }
+            writeString(out, statement.toString());
+        }
+    }
+
+    private static Block readBlock(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int size = in.readInt();
+        List<Statement> statements = new ArrayList<Statement>(size);
+        for (int i = 0; i < size; i++) {
+            statements.add(new EditableStringStatement(readString(in)));
+        }
+        return new EditableBlock(statements);
+    }
+
+    private static void writeProperties(DataOutput out, List<Property> properties) throws IOException, UnsupportedModelException {
+        out.writeInt(properties.size());
+        for (Property property : properties) {
+            writeAnnotations(out, property.getAnnotations());
+            writeTypeRef(out, property.getTypeRef());
+            writeString(out, property.getName());
+            out.writeInt(property.getModifiers());
+            writeAttributes(out, property.getAttributes());
+        }
+    }
+
+    private static List<Property> readProperties(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<Property> properties = new ArrayList<Property>(size);
+        for (int i = 0; i < size; i++) {
+            List<AnnotationRef> annotations = readAnnotations(in);
+            TypeRef typeRef = readTypeRef(in);
+            String name = readString(in);
+            int modifiers = in.readInt();
+            properties.add(new EditableProperty(annotations, typeRef, name, modifiers, readAttributes(in)));
+        }
+        return properties;
+    }
+
+    private static void writeTypeParamDefs(DataOutput out, List<TypeParamDef> parameters) throws IOException, UnsupportedModelException {
+        out.writeInt(parameters.size());
+        for (TypeParamDef parameter : parameters) {
+            writeString(out, parameter.getName());
+            writeClassRefs(out, parameter.getBounds());
+            writeAttributes(out, parameter.getAttributes());
+        }
+    }
+
+    private static List<TypeParamDef> readTypeParamDefs(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<TypeParamDef> parameters = new ArrayList<TypeParamDef>(size);
+        for (int i = 0; i < size; i++) {
+            String name = readString(in);
+            List<ClassRef> bounds = readClassRefs(in);
+            parameters.add(new EditableTypeParamDef(name, bounds, readAttributes(in)));
+        }
+        return parameters;
+    }
+
+    private static void writeAnnotations(DataOutput out, List<AnnotationRef> annotations) throws IOException, UnsupportedModelException {
+        out.writeInt(annotations.size());
+        for (AnnotationRef annotation : annotations) {
+            writeTypeRef(out, annotation.getClassRef());
+            Map<String, Object> parameters = annotation.getParameters();
+            out.writeInt(parameters.size());
+            for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                writeString(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+            writeAttributes(out, annotation.getAttributes());
+        }
+    }
+
+    private static List<AnnotationRef> readAnnotations(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<AnnotationRef> annotations = new ArrayList<AnnotationRef>(size);
+        for (int i = 0; i < size; i++) {
+            ClassRef classRef = (ClassRef) readTypeRef(in);
+            int parameterCount = in.readInt();
+            Map<String, Object> parameters = new LinkedHashMap<String, Object>();
+            for (int j = 0; j < parameterCount; j++) {
+                parameters.put(readString(in), readValue(in));
+            }
+            annotations.add(new EditableAnnotationRef(classRef, parameters, readAttributes(in)));
+        }
+        return annotations;
+    }
+
+    private static void writeClassRefs(DataOutput out, List<ClassRef> classRefs) throws IOException, UnsupportedModelException {
+        out.writeInt(classRefs.size());
+        for (ClassRef classRef : classRefs) {
+            writeTypeRef(out, classRef);
+        }
+    }
+
+    private static List<ClassRef> readClassRefs(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<ClassRef> classRefs = new ArrayList<ClassRef>(size);
+        for (int i = 0; i < size; i++) {
+            classRefs.add((ClassRef) readTypeRef(in));
+        }
+        return classRefs;
+    }
+
+    private static void writeTypeRefs(DataOutput out, List<TypeRef> typeRefs) throws IOException, UnsupportedModelException {
+        out.writeInt(typeRefs.size());
+        for (TypeRef typeRef : typeRefs) {
+            writeTypeRef(out, typeRef);
+        }
+    }
+
+    private static List<TypeRef> readTypeRefs(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<TypeRef> typeRefs = new ArrayList<TypeRef>(size);
+        for (int i = 0; i < size; i++) {
+            typeRefs.add(readTypeRef(in));
+        }
+        return typeRefs;
+    }
+
+    private static void writeTypeRef(DataOutput out, TypeRef typeRef) throws IOException, UnsupportedModelException {
+        if (typeRef == null) {
+            out.writeByte(NULL);
+        } else if (typeRef instanceof ClassRef) {
+            ClassRef classRef = (ClassRef) typeRef;
+            out.writeByte(CLASS_REF);
+            writeString(out, classRef.getFullyQualifiedName());
+            out.writeInt(classRef.getDimensions());
+            writeTypeRefs(out, classRef.getArguments());
+        } else if (typeRef instanceof PrimitiveRef) {
+            PrimitiveRef primitiveRef = (PrimitiveRef) typeRef;
+            out.writeByte(PRIMITIVE_REF);
+            writeString(out, primitiveRef.getName());
+            out.writeInt(primitiveRef.getDimensions());
+        } else if (typeRef instanceof VoidRef) {
+            out.writeByte(VOID_REF);
+        } else if (typeRef instanceof TypeParamRef) {
+            TypeParamRef typeParamRef = (TypeParamRef) typeRef;
+            out.writeByte(TYPE_PARAM_REF);
+            writeString(out, typeParamRef.getName());
+            out.writeInt(typeParamRef.getDimensions());
+        } else if (typeRef instanceof WildcardRef) {
+            WildcardRef wildcardRef = (WildcardRef) typeRef;
+            out.writeByte(WILDCARD_REF);
+            out.writeByte(wildcardRef.getBoundKind().ordinal());
+            writeTypeRefs(out, wildcardRef.getBounds());
+        } else {
+            throw new UnsupportedModelException("Can't encode type:" + typeRef);
+        }
+        writeAttributes(out, typeRef.getAttributes());
+    }
+
+    private static TypeRef skipTypeRef(DataInput in) throws IOException {
+        readTypeRef(in);
+        return null;
+    }
+
+    private static TypeRef readTypeRef(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case CLASS_REF:
+                String fullyQualifiedName = readString(in);
+                int dimensions = in.readInt();
+                List<TypeRef> arguments = readTypeRefs(in);
+                return new ClassRefBuilder()
+                        .withFullyQualifiedName(fullyQualifiedName)
+                        .withDimensions(dimensions)
+                        .withArguments(arguments)
+                        .withAttributes(readAttributes(in))
+                        .build();
+            case PRIMITIVE_REF:
+                String primitive = readString(in);
+                int primitiveDimensions = in.readInt();
+                return new EditablePrimitiveRef(primitive, primitiveDimensions, readAttributes(in));
+            case VOID_REF:
+                return new EditableVoidRef(readAttributes(in));
+            case TYPE_PARAM_REF:
+                String name = readString(in);
+                int typeParamDimensions = in.readInt();
+                return new EditableTypeParamRef(name, typeParamDimensions, readAttributes(in));
+            case WILDCARD_REF:
+                WildcardRef.BoundKind boundKind = WildcardRef.BoundKind.values()[in.readByte()];
+                List<TypeRef> bounds = readTypeRefs(in);
+                return new EditableWildcardRef(boundKind, bounds, readAttributes(in));
+            default:
+                throw new IOException("Unknown type reference:" + type);
+        }
+    }
+
+    private static void writeAttributes(DataOutput out, Map<AttributeKey, Object> attributes) throws IOException, UnsupportedModelException {
+        out.writeInt(attributes.size());
+        for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+            AttributeKey key = entry.getKey();
+            if (ATTRIBUTE_KEYS.get(key.getName()) != key) {
+                throw new UnsupportedModelException("Can't encode attribute:" + key.getName());
+            }
+            writeString(out, key.getName());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<AttributeKey, Object> readAttributes(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size == 0) {
+            return new HashMap<AttributeKey, Object>();
+        }
+        Map<AttributeKey, Object> attributes = new HashMap<AttributeKey, Object>();
+        for (int i = 0; i < size; i++) {
+            String name = readString(in);
+            AttributeKey key = ATTRIBUTE_KEYS.get(name);
+            if (key == null) {
+                throw new IOException("Unknown attribute:" + name);
+            }
+            attributes.put(key, readValue(in));
+        }
+        return attributes;
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException, UnsupportedModelException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value.getClass().isArray() && componentTag(value.getClass().getComponentType()) != NULL) {
+            out.writeByte(ARRAY);
+            out.writeByte(componentTag(value.getClass().getComponentType()));
+            int length = Array.getLength(value);
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(out, Array.get(value, i));
+            }
+        } else {
+            throw new UnsupportedModelException("Can't encode value:" + value);
+        }
+    }
+
+    private static Object readValue(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case CHARACTER:
+                return in.readChar();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case ARRAY:
+                Class componentType = COMPONENT_TYPES.get(in.readByte());
+                int length = in.readInt();
+                Object array = Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(array, i, readValue(in));
+                }
+                return array;
+            default:
+                throw new IOException("Unknown value:" + type);
+        }
+    }
+
+    private static byte componentTag(Class componentType) {
+        for (Map.Entry<Byte, Class> entry : COMPONENT_TYPES.entrySet()) {
+            if (entry.getValue().equals(componentType)) {
+                return entry.getKey();
+            }
+        }
+        return NULL;
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, AttributeKey> attributeKeys() {
+        Map<String, AttributeKey> keys = new HashMap<String, AttributeKey>();
+        for (Field field : Attributeable.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && AttributeKey.class.equals(field.getType())) {
+                try {
+                    AttributeKey key = (AttributeKey) field.get(null);
+                    keys.put(key.getName(), key);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(keys);
+    }
+}
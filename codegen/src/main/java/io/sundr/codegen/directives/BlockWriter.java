@@ -0,0 +1,98 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.directives;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streams the content of a directive block to the target writer, without buffering it.
+ * The prefix is only written before the first character of the block, so that directives can still
+ * emit different code for empty blocks. A null target discards the block.
+ */
+class BlockWriter extends Writer {
+
+    private final Writer target;
+    private final String prefix;
+    private boolean empty = true;
+
+    BlockWriter(Writer target, String prefix) {
+        this.target = target;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @return  True if nothing has been written to the block.
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        start();
+        if (target != null) {
+            target.write(cbuf, off, len);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        start();
+        if (target != null) {
+            target.write(str, off, len);
+        }
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        start();
+        if (target != null) {
+            target.write(c);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    /**
+     * The block is part of the enclosing output, so closing it doesn't close the target.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void start() throws IOException {
+        if (empty) {
+            empty = false;
+            if (target != null) {
+                target.write(prefix);
+            }
+        }
+    }
+}
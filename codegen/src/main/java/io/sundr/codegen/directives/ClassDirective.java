@@ -23,7 +23,6 @@ import org.apache.velocity.runtime.parser.node.ASTBlock;
 import org.apache.velocity.runtime.parser.node.Node;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 
 public class ClassDirective extends Directive {
@@ -61,7 +60,6 @@ public class ClassDirective extends Directive {
 
     @Override
     public boolean render(InternalContextAdapter context, Writer writer, Node node) throws IOException {
-        String block = "";
         TypeDef clazz = null;
         for (int i = 0; i < node.jjtGetNumChildren(); i++) {
             if (node.jjtGetChild(i) != null) {
@@ -73,28 +71,35 @@ public class ClassDirective extends Directive {
                         break;
                     }
                 } else {
-                    //reading block content and rendering it
+                    //rendering block content directly to the writer
+                    //If the block fails, what it rendered so far is kept and the class is still closed (the buffered
+                    //block used to be dropped, leaving an empty class). Either way the failure is only reported.
+                    writeHeader(writer, clazz);
                     try {
-                        StringWriter blockContent = new StringWriter();
-                        node.jjtGetChild(i).render(context, blockContent);
-
-                        block = blockContent.toString();
+                        node.jjtGetChild(i).render(context, new BlockWriter(clazz != null ? writer : null, ""));
                     } catch (Exception e)  {
                         e.printStackTrace();
                     }
-                    break;
+                    writeFooter(writer, clazz);
+                    return true;
                 }
             }
         }
-        writeClazz(writer, clazz, block);
+        writeHeader(writer, clazz);
+        writeFooter(writer, clazz);
         return true;
     }
 
-    private void writeClazz(Writer writer, TypeDef type, String block) throws IOException {
+    private void writeHeader(Writer writer, TypeDef type) throws IOException {
         if (type != null) {
             writer.append(type.toString());
             writer.append(SQUIGGLE_L).append(NEWLINE);
-            writer.append(block).append(NEWLINE).append(SQUIGGLE_R).append(NEWLINE);
+        }
+    }
+
+    private void writeFooter(Writer writer, TypeDef type) throws IOException {
+        if (type != null) {
+            writer.append(NEWLINE).append(SQUIGGLE_R).append(NEWLINE);
         }
     }
 }
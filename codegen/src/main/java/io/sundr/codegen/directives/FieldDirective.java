@@ -40,34 +40,34 @@ public class FieldDirective extends Directive {
 
     @Override
     public boolean render(InternalContextAdapter context, Writer writer, Node node) throws IOException {
-        String block = "";
         Property field = null;
         //reading params
         if (node.jjtGetChild(0) != null) {
             field = (Property) node.jjtGetChild(0).value(context);
         }
-        writeField(writer, field, block);
+        writeField(writer, field);
         return true;
     }
 
-    private void writeField(Writer writer, Property field, String block) throws IOException {
+    private void writeField(Writer writer, Property field) throws IOException {
         if (field != null) {
             writer.append(field.toString());
 
             if (field.getAttribute(INIT) != null) {
-                writer.append(" = ").append(getDefaultValue(field));
+                writer.append(" = ");
+                writeDefaultValue(writer, field);
             }
         }
         writer.append(";");
     }
 
-    private String getDefaultValue(Property field) {
-        Object value = field.getAttribute(INIT);
+    private void writeDefaultValue(Writer writer, Property field) throws IOException {
+        String value = String.valueOf(field.getAttribute(INIT));
 
-        if (Constants.STRING_REF.equals(field.getTypeRef()) && !String.valueOf(value).startsWith("\"") ) {
-            return "\"" + value + "\"";
+        if (Constants.STRING_REF.equals(field.getTypeRef()) && !value.startsWith("\"") ) {
+            writer.append("\"").append(value).append("\"");
         } else {
-            return String.valueOf(value);
+            writer.append(value);
         }
     }
 
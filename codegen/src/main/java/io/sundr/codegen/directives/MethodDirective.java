@@ -17,14 +17,12 @@
 package io.sundr.codegen.directives;
 
 import io.sundr.codegen.model.Method;
-import io.sundr.codegen.utils.StringUtils;
 import org.apache.velocity.context.InternalContextAdapter;
 import org.apache.velocity.runtime.directive.Directive;
 import org.apache.velocity.runtime.parser.node.ASTBlock;
 import org.apache.velocity.runtime.parser.node.Node;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 
 public class MethodDirective extends Directive {
@@ -41,7 +39,6 @@ public class MethodDirective extends Directive {
 
     @Override
     public boolean render(InternalContextAdapter context, Writer writer, Node node) throws IOException {
-        String block = "";
         Method method = null;
         Boolean isInterface = false;
         for (int i = 0; i < node.jjtGetNumChildren(); i++) {
@@ -56,28 +53,23 @@ public class MethodDirective extends Directive {
                         break;
                     }
                 } else {
-                    //reading block content and rendering it
-                    StringWriter blockContent = new StringWriter();
-                    node.jjtGetChild(i).render(context, blockContent);
-
-                    block = blockContent.toString();
-                    break;
+                    //rendering block content directly to the writer, the body is only opened if the block is not empty
+                    boolean hasBody = method != null && !method.isAbstract() && !isInterface;
+                    if (method != null) {
+                        writer.append(method.toString());
+                    }
+                    BlockWriter block = new BlockWriter(hasBody ? writer : null, "{\n");
+                    node.jjtGetChild(i).render(context, block);
+                    if (method != null) {
+                        writer.append(hasBody && !block.isEmpty() ? "}\n" : ";");
+                    }
+                    return true;
                 }
             }
         }
-        writeMethod(writer, method, block, isInterface);
-        return true;
-    }
-
-    private void writeMethod(Writer writer, Method method, String block, Boolean isInterface) throws IOException {
         if (method != null) {
-            writer.append(method.toString());
-            if (!method.isAbstract() && !isInterface && !StringUtils.isNullOrEmpty(block)) {
-                writer.append("{\n");
-                writer.append(block).append("}\n");
-            } else {
-                writer.append(";");
-            }
+            writer.append(method.toString()).append(";");
         }
+        return true;
     }
 }
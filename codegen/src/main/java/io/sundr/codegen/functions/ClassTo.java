@@ -19,6 +19,8 @@ package io.sundr.codegen.functions;
 import io.sundr.FunctionFactory;
 import io.sundr.Function;
 import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.ScopedCaches;
+import io.sundr.codegen.cache.TypeDefCache;
 import io.sundr.codegen.model.AnnotationRef;
 import io.sundr.codegen.model.AnnotationRefBuilder;
 import io.sundr.codegen.model.AttributeKey;
@@ -51,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -60,7 +63,7 @@ public class ClassTo {
 
     private static final String ARGUMENT_PREFIX = "arg";
 
-    public static final Function<Class, Kind> KIND = FunctionFactory.cache(new Function<Class, Kind>() {
+    public static final Function<Class, Kind> KIND = FunctionFactory.concurrentCache(new Function<Class, Kind>() {
         public Kind apply(Class item) {
             if (item.isAnnotation()) {
                 return Kind.ANNOTATION;
@@ -74,7 +77,7 @@ public class ClassTo {
         }
     });
 
-    public static final Function<Type, TypeRef> TYPEREF = FunctionFactory.cache(new Function<Type, TypeRef>() {
+    public static final Function<Type, TypeRef> TYPEREF = ScopedCaches.concurrentCache(new Function<Type, TypeRef>() {
         public TypeRef apply(Type item) {
             if (item == null) {
                 return new VoidRefBuilder().build();
@@ -123,7 +126,7 @@ public class ClassTo {
         }
     });
 
-    public static final Function<Class<? extends Annotation>, AnnotationRef> ANNOTATIONTYPEREF = FunctionFactory.cache(new Function<Class<? extends Annotation>, AnnotationRef>() {
+    public static final Function<Class<? extends Annotation>, AnnotationRef> ANNOTATIONTYPEREF = ScopedCaches.concurrentCache(new Function<Class<? extends Annotation>, AnnotationRef>() {
 
         @Override
         public AnnotationRef apply(Class<? extends Annotation> item) {
@@ -142,6 +145,21 @@ public class ClassTo {
             if (Object.class.equals(item)) {
                 return TypeDef.OBJECT;
             }
+
+            TypeDefCache cache = TypeDefCache.getCache();
+            TypeDefCache.Entry entry = cache != null ? cache.get(item) : null;
+            if (entry != null) {
+                //Convert the referenced classes, so that their definitions are registered just like when converting the class.
+                for (String reference : entry.getReferences()) {
+                    try {
+                        TYPEREF.apply(Class.forName(reference, false, item.getClassLoader()));
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        //The reference will not be resolvable, which is also what happens when reflection fails.
+                    }
+                }
+                return DefinitionRepository.getRepository().register(entry.getTypeDef());
+            }
+
             Kind kind = KIND.apply(item);
             List<ClassRef> extendsList = new ArrayList<ClassRef>();
             List<ClassRef> implementsList = new ArrayList<ClassRef>();
@@ -179,7 +197,7 @@ public class ClassTo {
                         .build());
             }
 
-            return DefinitionRepository.getRepository().register(new TypeDefBuilder()
+            TypeDef typeDef = DefinitionRepository.getRepository().register(new TypeDefBuilder()
                     .withKind(kind)
                     .withName(item.getSimpleName())
                     .withPackageName(item.getPackage() != null ? item.getPackage().getName() : null)
@@ -191,6 +209,11 @@ public class ClassTo {
                     .withExtendsList(extendsList)
                     .withImplementsList(implementsList)
                     .build());
+
+            if (cache != null) {
+                cache.put(item, typeDef, getReferences(item));
+            }
+            return typeDef;
         }
     };
 
@@ -212,9 +235,9 @@ public class ClassTo {
         }
     };
 
-    public static final Function<Class, TypeDef> TYPEDEF = FunctionFactory.cache(INTERNAL_TYPEDEF).withFallback(INTERNAL_SHALLOW_TYPEDEF).withMaximumRecursionLevel(5).withMaximumNestingDepth(5);
+    public static final Function<Class, TypeDef> TYPEDEF = ScopedCaches.concurrentCache(INTERNAL_TYPEDEF).withFallback(INTERNAL_SHALLOW_TYPEDEF).withMaximumRecursionLevel(5).withMaximumNestingDepth(5);
 
-    private static Function<Type, TypeParamDef> TYPEPARAMDEF = FunctionFactory.cache(new Function<Type, TypeParamDef>() {
+    private static Function<Type, TypeParamDef> TYPEPARAMDEF = ScopedCaches.concurrentCache(new Function<Type, TypeParamDef>() {
 
         public TypeParamDef apply(Type item) {
             if (item instanceof TypeVariable) {
@@ -234,6 +257,74 @@ public class ClassTo {
         }
     });
 
+    /**
+     * Returns the classes that are converted along with the specified class, in the order they are converted.
+     */
+    private static Set<Class> getReferences(Class item) {
+        Set<Class> references = new LinkedHashSet<Class>();
+        for (java.lang.reflect.Constructor constructor : item.getDeclaredConstructors()) {
+            collectAnnotationReferences(constructor.getDeclaredAnnotations(), references);
+            collectReferences(constructor.getGenericParameterTypes(), references);
+            collectBoundReferences(constructor.getGenericParameterTypes(), references);
+        }
+        for (java.lang.reflect.Method method : item.getDeclaredMethods()) {
+            collectAnnotationReferences(method.getDeclaredAnnotations(), references);
+            collectReferences(method.getGenericParameterTypes(), references);
+            collectBoundReferences(method.getGenericParameterTypes(), references);
+            collectReferences(method.getReturnType(), references);
+        }
+        for (Field field : item.getDeclaredFields()) {
+            collectAnnotationReferences(field.getDeclaredAnnotations(), references);
+            collectReferences(field.getGenericType(), references);
+        }
+        collectReferences(item.getInterfaces(), references);
+        for (TypeVariable typeVariable : item.getTypeParameters()) {
+            collectReferences(typeVariable.getBounds(), references);
+        }
+        references.remove(item);
+        return references;
+    }
+
+    private static void collectAnnotationReferences(Annotation[] annotations, Set<Class> references) {
+        for (Annotation annotation : annotations) {
+            references.add(annotation.annotationType());
+        }
+    }
+
+    private static void collectBoundReferences(Type[] types, Set<Class> references) {
+        for (Type type : types) {
+            if (type instanceof TypeVariable) {
+                for (Type bound : ((TypeVariable) type).getBounds()) {
+                    if (bound instanceof Class) {
+                        collectReferences(bound, references);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectReferences(Type[] types, Set<Class> references) {
+        for (Type type : types) {
+            collectReferences(type, references);
+        }
+    }
+
+    /**
+     * Collects the classes that {@link #TYPEREF} converts to definitions for the specified type.
+     */
+    private static void collectReferences(Type type, Set<Class> references) {
+        if (type instanceof WildcardType) {
+            collectReferences(((WildcardType) type).getLowerBounds(), references);
+        } else if (type instanceof GenericArrayType) {
+            collectReferences(((GenericArrayType) type).getGenericComponentType(), references);
+        } else if (type instanceof ParameterizedType) {
+            collectReferences(((ParameterizedType) type).getRawType(), references);
+            collectReferences(((ParameterizedType) type).getActualTypeArguments(), references);
+        } else if (type instanceof Class && !Object.class.equals(type) && !((Class) type).isPrimitive()) {
+            references.add((Class) type);
+        }
+    }
+
     private static Set<Property> getProperties(Class item) {
         Set<Property> properties = new HashSet<Property>();
         for (Field field : item.getDeclaredFields()) {
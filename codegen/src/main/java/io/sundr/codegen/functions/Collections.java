@@ -24,8 +24,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import io.sundr.FunctionFactory;
 import io.sundr.Function;
+import io.sundr.codegen.ScopedCaches;
 import io.sundr.codegen.model.TypeDef;
 import io.sundr.codegen.model.TypeRef;
 import io.sundr.codegen.utils.TypeUtils;
@@ -42,25 +42,25 @@ public class Collections {
     public static final TypeDef SET = TYPEDEF.apply(Set.class);
     public static final TypeDef LINKED_HASH_SET = TYPEDEF.apply(LinkedHashSet.class);
 
-    public static final Function<TypeRef, Boolean> IS_LIST = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_LIST = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
            return TypeUtils.isInstanceOf(type, LIST, IS_LIST);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_SET = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_SET = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return TypeUtils.isInstanceOf(type, SET, IS_SET);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_MAP = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_MAP = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return TypeUtils.isInstanceOf(type, MAP, IS_MAP);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_COLLECTION = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_COLLECTION = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return IS_LIST.apply(type) || IS_SET.apply(type);
         }
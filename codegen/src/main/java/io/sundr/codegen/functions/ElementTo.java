@@ -16,10 +16,10 @@
 
 package io.sundr.codegen.functions;
 
-import io.sundr.FunctionFactory;
 import io.sundr.Function;
 import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.ScopedCaches;
 import io.sundr.codegen.converters.TypeRefTypeVisitor;
 import io.sundr.codegen.model.AnnotationRef;
 import io.sundr.codegen.model.AnnotationRefBuilder;
@@ -120,7 +120,7 @@ public class ElementTo {
         }
     };
 
-    public static final Function<TypeMirror, TypeRef> MIRROR_TO_TYPEREF = FunctionFactory.cache(DEEP_MIRROR_TO_TYPEREF)
+    public static final Function<TypeMirror, TypeRef> MIRROR_TO_TYPEREF = ScopedCaches.concurrentCache(DEEP_MIRROR_TO_TYPEREF)
             .withFallback(SHALLOW_MIRROR_TO_TYPEREF)
             .withFallbackPredicate(IS_JAVA_TYPE_MIRROR)
             .withMaximumRecursionLevel(10)
@@ -365,14 +365,14 @@ public class ElementTo {
         }
     };
 
-    public static final Function<TypeElement, TypeDef> TYPEDEF = FunctionFactory.cache(INTERNAL_TYPEDEF)
+    public static final Function<TypeElement, TypeDef> TYPEDEF = ScopedCaches.concurrentCache(INTERNAL_TYPEDEF)
             .withFallback(SHALLOW_TYPEDEF)
             .withFallbackPredicate(IS_JAVA_ELEMENT)
             .withMaximumRecursionLevel(10)
             .withMaximumNestingDepth(10);
 
 
-    private static Function<AnnotationMirror, AnnotationRef> ANNOTATION_REF = FunctionFactory.cache(new Function<AnnotationMirror, AnnotationRef>() {
+    private static Function<AnnotationMirror, AnnotationRef> ANNOTATION_REF = ScopedCaches.concurrentCache(new Function<AnnotationMirror, AnnotationRef>() {
         @Override
         public AnnotationRef apply(AnnotationMirror item) {
             TypeRef annotationType = item.getAnnotationType().accept(new TypeRefTypeVisitor(), 0);
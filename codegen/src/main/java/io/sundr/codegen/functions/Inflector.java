@@ -0,0 +1,105 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.functions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ordered list of replacement rules, indexed by the suffixes words need to end with for each rule to match.
+ * The suffixes are kept in a trie of reversed characters, so that a word only needs to be walked once from its end
+ * to find the rules that may apply. Only those rules are then evaluated, in the order they were added.
+ */
+final class Inflector {
+
+    private final List<StringReplace> rules = new ArrayList<StringReplace>();
+    private final Node root = new Node();
+
+    /**
+     * Adds a rule.
+     * @param target        The regular expression to match, case insensitively.
+     * @param replacement   The replacement.
+     * @param suffixes      The suffixes (in lower case) a word must end with, for the expression to match.
+     *                      No suffixes means that the rule may match any word.
+     * @return              This inflector.
+     */
+    Inflector rule(String target, String replacement, String... suffixes) {
+        int index = rules.size();
+        rules.add(new StringReplace(target, replacement));
+        if (suffixes.length == 0) {
+            root.rules.set(index);
+        }
+        for (String suffix : suffixes) {
+            Node node = root;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                node = node.child(suffix.charAt(i));
+            }
+            node.rules.set(index);
+        }
+        return this;
+    }
+
+    /**
+     * Applies the first matching rule to the specified word.
+     * @param word  The word.
+     * @return      The result of the first matching rule, or null if no rule matches.
+     */
+    String apply(String word) {
+        BitSet candidates = (BitSet) root.rules.clone();
+        if (isLineTerminator(word.charAt(word.length() - 1))) {
+            //The end of input anchor also matches before a final line terminator, so any rule may match.
+            candidates.set(0, rules.size());
+        }
+        Node node = root;
+        for (int i = word.length() - 1; i >= 0 && node != null; i--) {
+            node = node.children.get(Character.toLowerCase(word.charAt(i)));
+            if (node != null) {
+                candidates.or(node.rules);
+            }
+        }
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            String result = rules.get(i).apply(word);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<Character, Node>();
+        private final BitSet rules = new BitSet();
+
+        private Node child(char c) {
+            Node child = children.get(c);
+            if (child == null) {
+                child = new Node();
+                children.put(c, child);
+            }
+            return child;
+        }
+    }
+}
@@ -17,7 +17,7 @@
 package io.sundr.codegen.functions;
 
 import io.sundr.Function;
-import io.sundr.FunctionFactory;
+import io.sundr.codegen.ScopedCaches;
 import io.sundr.codegen.model.TypeDef;
 import io.sundr.codegen.model.TypeRef;
 import io.sundr.codegen.utils.TypeUtils;
@@ -43,25 +43,25 @@ public class Optionals {
     public static final TypeDef OPTIONAL_DOUBLE = TYPEDEF.apply(OptionalDouble.class);
     public static final TypeDef OPTIONAL_LONG = TYPEDEF.apply(OptionalLong.class);
 
-    public static final Function<TypeRef, Boolean> IS_OPTIONAL = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_OPTIONAL = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
            return TypeUtils.isInstanceOf(type, OPTIONAL, IS_OPTIONAL);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_OPTIONAL_INT = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_OPTIONAL_INT = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return TypeUtils.isInstanceOf(type, OPTIONAL_INT, IS_OPTIONAL_INT);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_OPTIONAL_DOUBLE = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_OPTIONAL_DOUBLE = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return TypeUtils.isInstanceOf(type, OPTIONAL_DOUBLE, IS_OPTIONAL_DOUBLE);
         }
     });
 
-    public static final Function<TypeRef, Boolean> IS_OPTIONAL_LONG = FunctionFactory.cache(new Function<TypeRef, Boolean>() {
+    public static final Function<TypeRef, Boolean> IS_OPTIONAL_LONG = ScopedCaches.concurrentCache(new Function<TypeRef, Boolean>() {
         public Boolean apply(TypeRef type) {
             return TypeUtils.isInstanceOf(type, OPTIONAL_LONG, IS_OPTIONAL_LONG);
         }
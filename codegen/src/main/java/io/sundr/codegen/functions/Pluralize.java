@@ -16,73 +16,74 @@
 
 package io.sundr.codegen.functions;
 
-import java.util.Map;
-import java.util.HashMap;
 import java.util.Arrays;
 import io.sundr.Function;
+import io.sundr.codegen.utils.BoundedCache;
 import java.util.List;
 
 public enum Pluralize implements Function<String, String> {
 
     FUNCTION;
 
+    private static final int CACHE_SIZE = 4096;
+
     private static final List<String> UNCOUNTABLE = Arrays.asList("equipment", "fish", "information", "money", "rice", "series", "sheep", "species");
 
-    private static final List<Function<String, String>> PLURALS = Arrays.<Function<String, String>>asList(
+    private static final Inflector PLURALS = new Inflector()
             //Irregulars
-            new StringReplace("(p)eople$", "$1erson"),
-            new StringReplace("(m)en$", "$1an"),
-            new StringReplace("(c)hildren$", "$1hild"),
-            new StringReplace("(s)exes$", "$1ex"),
-            new StringReplace("(m)oves$", "$1ove"),
-            new StringReplace("(s)tadiums$", "$1tadium"),
+            .rule("(p)eople$", "$1erson", "people")
+            .rule("(m)en$", "$1an", "men")
+            .rule("(c)hildren$", "$1hild", "children")
+            .rule("(s)exes$", "$1ex", "sexes")
+            .rule("(m)oves$", "$1ove", "moves")
+            .rule("(s)tadiums$", "$1tadium", "stadiums")
 
             //Rules
-            new StringReplace("(quiz)$", "$1zes"),
-            new StringReplace("(matr)ix$", "$1ices"),
-            new StringReplace("(vert|ind)ex$", "$1ices"),
-            new StringReplace("^(ox)$", "$1en"),
-            new StringReplace("(alias|status)$", "$1"),
-            new StringReplace("(alias|status)$", "$1es"),
-            new StringReplace("(octop|vir)us$", "$1us"),
-            new StringReplace("(cris|ax|test)is$", "$1es"),
-            new StringReplace("(shoe)$", "$1s"),
-            new StringReplace("(o)$", "$1es"),
-            new StringReplace("(bus)$", "$1es"),
-            new StringReplace("([m|l])ouse$", "$1ice"),
-            new StringReplace("(x|ch|ss|sh)$", "$1es"),
-            new StringReplace("(m)ovie$", "$1ovies"),
-            new StringReplace("(s)eries$", "$1eries"),
-            new StringReplace("([^aeiouy]|qu)y$", "$1ies"),
-            new StringReplace("([lr])f$", "$1ves"),
-            new StringReplace("(tive)$", "$1s"),
-            new StringReplace("(hive)$", "$1s"),
-            new StringReplace("([^f])fe$", "$1ves"),
-            new StringReplace("(^analy)sis$", "$1sis"),
-            new StringReplace("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis"),
-            new StringReplace("([ti])um$", "$1a"),
-            new StringReplace("(n)ews$", "$1ews"),
-            new StringReplace("(s|si|u)s$", "$1s")
-    );
+            .rule("(quiz)$", "$1zes", "quiz")
+            .rule("(matr)ix$", "$1ices", "matrix")
+            .rule("(vert|ind)ex$", "$1ices", "vertex", "index")
+            .rule("^(ox)$", "$1en", "ox")
+            .rule("(alias|status)$", "$1", "alias", "status")
+            .rule("(alias|status)$", "$1es", "alias", "status")
+            .rule("(octop|vir)us$", "$1us", "octopus", "virus")
+            .rule("(cris|ax|test)is$", "$1es", "crisis", "axis", "testis")
+            .rule("(shoe)$", "$1s", "shoe")
+            .rule("(o)$", "$1es", "o")
+            .rule("(bus)$", "$1es", "bus")
+            .rule("([m|l])ouse$", "$1ice", "ouse")
+            .rule("(x|ch|ss|sh)$", "$1es", "x", "ch", "ss", "sh")
+            .rule("(m)ovie$", "$1ovies", "movie")
+            .rule("(s)eries$", "$1eries", "series")
+            .rule("([^aeiouy]|qu)y$", "$1ies", "y")
+            .rule("([lr])f$", "$1ves", "lf", "rf")
+            .rule("(tive)$", "$1s", "tive")
+            .rule("(hive)$", "$1s", "hive")
+            .rule("([^f])fe$", "$1ves", "fe")
+            .rule("(^analy)sis$", "$1sis", "analysis")
+            .rule("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis", "ses")
+            .rule("([ti])um$", "$1a", "tum", "ium")
+            .rule("(n)ews$", "$1ews", "news")
+            .rule("(s|si|u)s$", "$1s", "ss", "is", "us");
+
+    private static final BoundedCache<String, String> CACHE = new BoundedCache<String, String>(CACHE_SIZE, false);
 
-    public String apply(String word) {
+    public String apply(final String word) {
         if (word == null) {
             return null;
         } else if (word.isEmpty()) {
             return word;
-        } else if (UNCOUNTABLE.contains(word)) {
+        }
+        return CACHE.computeIfAbsent(word, () -> pluralize(word));
+    }
+
+    private static String pluralize(String word) {
+        if (UNCOUNTABLE.contains(word)) {
             return word;
         } else if (isAlreadyPlural(word)) {
             return word;
         }
-
-        for (Function<String, String> function : PLURALS) {
-            String result = function.apply(word);
-            if (result != null) {
-                return result;
-            }
-        }
-        return word + "s";
+        String result = PLURALS.apply(word);
+        return result != null ? result : word + "s";
     }
 
     /**
@@ -92,7 +93,7 @@ public enum Pluralize implements Function<String, String> {
      * @param word
      * @return Boolean value indicating whether it's already plural or not
      */
-    private boolean isAlreadyPlural(String word) {
+    private static boolean isAlreadyPlural(String word) {
         if(!word.endsWith("ss")) {
             if(word.endsWith("s")) {
                 return true;
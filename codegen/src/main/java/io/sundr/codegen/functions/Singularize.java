@@ -17,6 +17,7 @@
 package io.sundr.codegen.functions;
 
 import io.sundr.Function;
+import io.sundr.codegen.utils.BoundedCache;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,65 +31,67 @@ public enum  Singularize implements Function<String, String> {
 
     FUNCTION;
 
+    private static final int CACHE_SIZE = 4096;
+
     private static final List<String> UNCOUNTABLE = Arrays.asList("equipment", "fish", "information", "money", "rice", "series", "sheep", "species");
 
-    private static final List<Function<String, String>> SINGULARS = Arrays.<Function<String, String>>asList(
+    private static final Inflector SINGULARS = new Inflector()
             //Irregulars
-            new StringReplace("(p)erson$", "$1eople"),
-            new StringReplace("(m)an$", "$1en"),
-            new StringReplace("(c)hild$", "$1hildren"),
-            new StringReplace("(s)ex$", "$1exes"),
-            new StringReplace("(m)ove$", "$1oves"),
-            new StringReplace("(s)tadium$", "$1tadiums"),
+            .rule("(p)erson$", "$1eople", "person")
+            .rule("(m)an$", "$1en", "man")
+            .rule("(c)hild$", "$1hildren", "child")
+            .rule("(s)ex$", "$1exes", "sex")
+            .rule("(m)ove$", "$1oves", "move")
+            .rule("(s)tadium$", "$1tadiums", "stadium")
 
             //Rules
-            new StringReplace("(quiz)zes$", "$1"),
-            new StringReplace("(matr)ices$", "$1ix"),
-            new StringReplace("(vert|ind)ices$", "$1ex"),
-            new StringReplace("^(ox)en", "$1"),
-            new StringReplace("(alias|status)$", "$1"),
-            new StringReplace("(alias|status)es$", "$1"),
-            new StringReplace("(octop|vir)us$", "$1us"),
-            new StringReplace("(octop|vir)i$", "$1us"),
-            new StringReplace("(cris|ax|test)es$", "$1is"),
-            new StringReplace("(cris|ax|test)is$", "$1is"),
-            new StringReplace("(shoe)s$", "$1"),
-            new StringReplace("(o)es$", "$1"),
-            new StringReplace("(bus)es$", "$1"),
-            new StringReplace("([m|l])ice$", "$1ouse"),
-            new StringReplace("(x|ch|ss|sh)es$", "$1"),
-            new StringReplace("(m)ovies$", "$1ovie"),
-            new StringReplace("(s)eries$", "$1eries"),
-            new StringReplace("([^aeiouy]|qu)ies$", "$1y"),
-            new StringReplace("([lr])ves$", "$1f"),
-            new StringReplace("(tive)s$", "$1"),
-            new StringReplace("(hive)s$", "$1"),
-            new StringReplace("([^f])ves$", "$1fe"),
-            new StringReplace("(^analy)sis$", "$1sis"),
-            new StringReplace("(^analy)ses$", "$1sis"),
-            new StringReplace("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis"),
-            new StringReplace("([ti])a$", "$1um"),
-            new StringReplace("(n)ews$", "$1ews"),
-            new StringReplace("(s|si|u)s$", "$1s"),
-            new StringReplace("s$", "")
-    );
+            .rule("(quiz)zes$", "$1", "quizzes")
+            .rule("(matr)ices$", "$1ix", "matrices")
+            .rule("(vert|ind)ices$", "$1ex", "vertices", "indices")
+            .rule("^(ox)en", "$1")
+            .rule("(alias|status)$", "$1", "alias", "status")
+            .rule("(alias|status)es$", "$1", "aliases", "statuses")
+            .rule("(octop|vir)us$", "$1us", "octopus", "virus")
+            .rule("(octop|vir)i$", "$1us", "octopi", "viri")
+            .rule("(cris|ax|test)es$", "$1is", "crises", "axes", "testes")
+            .rule("(cris|ax|test)is$", "$1is", "crisis", "axis", "testis")
+            .rule("(shoe)s$", "$1", "shoes")
+            .rule("(o)es$", "$1", "oes")
+            .rule("(bus)es$", "$1", "buses")
+            .rule("([m|l])ice$", "$1ouse", "ice")
+            .rule("(x|ch|ss|sh)es$", "$1", "xes", "ches", "sses", "shes")
+            .rule("(m)ovies$", "$1ovie", "movies")
+            .rule("(s)eries$", "$1eries", "series")
+            .rule("([^aeiouy]|qu)ies$", "$1y", "ies")
+            .rule("([lr])ves$", "$1f", "lves", "rves")
+            .rule("(tive)s$", "$1", "tives")
+            .rule("(hive)s$", "$1", "hives")
+            .rule("([^f])ves$", "$1fe", "ves")
+            .rule("(^analy)sis$", "$1sis", "analysis")
+            .rule("(^analy)ses$", "$1sis", "analyses")
+            .rule("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis", "ses")
+            .rule("([ti])a$", "$1um", "ta", "ia")
+            .rule("(n)ews$", "$1ews", "news")
+            .rule("(s|si|u)s$", "$1s", "ss", "is", "us")
+            .rule("s$", "", "s");
+
+    private static final BoundedCache<String, String> CACHE = new BoundedCache<String, String>(CACHE_SIZE, false);
 
-    public String apply(String word) {
+    public String apply(final String word) {
         if (word == null) {
             return null;
         } else if (word.isEmpty()) {
             return word;
-        } else if (UNCOUNTABLE.contains(word)) {
-            return word;
         }
+        return CACHE.computeIfAbsent(word, () -> singularize(word));
+    }
 
-        for (Function<String, String> function : SINGULARS) {
-            String result = function.apply(word);
-            if (result != null) {
-                return result;
-            }
+    private static String singularize(String word) {
+        if (UNCOUNTABLE.contains(word)) {
+            return word;
         }
-        return word;
+        String result = SINGULARS.apply(word);
+        return result != null ? result : word;
     }
 }
 
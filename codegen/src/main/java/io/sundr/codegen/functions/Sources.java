@@ -44,6 +44,7 @@ import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.ast.type.VoidType;
 import com.github.javaparser.ast.type.WildcardType;
 import io.sundr.builder.Function;
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.DefinitionRepository;
 import io.sundr.codegen.model.AnnotationRef;
 import io.sundr.codegen.model.AnnotationRefBuilder;
@@ -76,20 +77,30 @@ import io.sundr.codegen.utils.IOUtils;
 import io.sundr.codegen.utils.TypeUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Sources {
 
     private static final String JAVA_LANG = "java.lang";
     private static final String SEPARATOR = ".";
+    private static final String JAVA_SUFFIX = ".java";
 
     private static Function<Node, String> PACKAGENAME = new Function<Node, String>() {
 
@@ -263,7 +274,7 @@ public class Sources {
                 }
             } else if (type instanceof PrimitiveType) {
                 PrimitiveType primitiveType = (PrimitiveType) type;
-                return new PrimitiveRefBuilder().withName(primitiveType.getType().name()).build();
+                return new PrimitiveRefBuilder().withName(primitiveType.getType().name().toLowerCase()).build();
             } else if (type instanceof ClassOrInterfaceType) {
                 return CLASS_OR_TYPEPARAM_REF.apply((ClassOrInterfaceType) type);
             }
@@ -320,7 +331,10 @@ public class Sources {
         }
     };
 
-    public static Function<TypeDeclaration, TypeDef> TYPEDEF = new Function<TypeDeclaration, TypeDef>() {
+    /**
+     * Converts a declaration to a {@link TypeDef}, without registering it.
+     */
+    private static Function<TypeDeclaration, TypeDef> TO_TYPEDEF = new Function<TypeDeclaration, TypeDef>() {
 
         public TypeDef apply(TypeDeclaration type) {
             if (type instanceof ClassOrInterfaceDeclaration) {
@@ -458,7 +472,7 @@ public class Sources {
                     }
                 }
 
-               return DefinitionRepository.getRepository().register( new TypeDefBuilder()
+               return new TypeDefBuilder()
                         .withKind(kind)
                         .withPackageName(PACKAGENAME.apply(type))
                         .withName(decl.getName())
@@ -471,7 +485,7 @@ public class Sources {
                         .withConstructors(constructors)
                         .withAnnotations(annotations)
                         .addToAttributes(TypeDef.ALSO_IMPORT, IMPORTS.apply(type))
-                        .build());
+                        .build();
             }
 
             if (type instanceof AnnotationDeclaration) {
@@ -501,7 +515,7 @@ public class Sources {
                     annotations.add(ANNOTATIONREF.apply(annotationExpr));
                 }
 
-                return DefinitionRepository.getRepository().register( new TypeDefBuilder()
+                return new TypeDefBuilder()
                         .withKind(kind)
                         .withPackageName(PACKAGENAME.apply(type))
                         .withName(decl.getName())
@@ -509,7 +523,7 @@ public class Sources {
                         .withMethods(methods)
                         .withAnnotations(annotations)
                         .addToAttributes(TypeDef.ALSO_IMPORT, IMPORTS.apply(type))
-                        .build());
+                        .build();
             }
             throw new IllegalArgumentException("Unsupported TypeDeclaration:[" + type + "].");
         }
@@ -526,17 +540,20 @@ public class Sources {
     };
 
 
+    public static Function<TypeDeclaration, TypeDef> TYPEDEF = new Function<TypeDeclaration, TypeDef>() {
+
+        public TypeDef apply(TypeDeclaration type) {
+            return DefinitionRepository.getRepository().register(TO_TYPEDEF.apply(type));
+        }
+    };
+
     public static Function<File, CompilationUnit> FROM_FILE_TO_COMPILATIONUNIT = new Function<File, CompilationUnit>() {
 
         public CompilationUnit apply(File file) {
-            FileInputStream fis = null;
             try {
-                fis = new FileInputStream(file);
-                return JavaParser.parse(fis);
+                return JavaParser.parse(IOUtils.reader(IOUtils.read(file)), true);
             } catch (Exception ex) {
                 throw new RuntimeException("Failed to load file: [" + file.getAbsolutePath() + "] from file system.");
-            } finally {
-                IOUtils.closeQuietly(fis);
             }
         }
     };
@@ -544,14 +561,10 @@ public class Sources {
     public static Function<String, CompilationUnit> FROM_CLASSPATH_TO_COMPILATIONUNIT = new Function<String, CompilationUnit>() {
 
         public CompilationUnit apply(String resource) {
-            InputStream is = null;
             try {
-                is = getClass().getClassLoader().getResourceAsStream(resource);
-                return JavaParser.parse(is);
+                return JavaParser.parse(IOUtils.reader(IOUtils.read(getClass().getClassLoader().getResource(resource))), true);
             } catch (Exception ex) {
                 throw new RuntimeException("Failed to load resource: [" + resource + "] from classpath.");
-            } finally {
-                IOUtils.closeQuietly(is);
             }
         }
     };
@@ -559,7 +572,7 @@ public class Sources {
     public static Function<InputStream, CompilationUnit> FROM_INPUTSTREAM_TO_COMPILATIONUNIT = new Function<InputStream, CompilationUnit>() {
         public CompilationUnit apply(InputStream is) {
             try {
-                return JavaParser.parse(is);
+                return JavaParser.parse(IOUtils.reader(IOUtils.read(is)), true);
             } catch (Exception ex) {
                 throw new RuntimeException("Failed to parse stream.", ex);
             } finally {
@@ -568,6 +581,19 @@ public class Sources {
         }
     };
 
+    /**
+     * Parses characters in place (e.g. the buffer of a rendered template), without copying them to a string or bytes.
+     */
+    public static Function<CharSequence, CompilationUnit> FROM_CHARSEQUENCE_TO_COMPILATIONUNIT = new Function<CharSequence, CompilationUnit>() {
+        public CompilationUnit apply(CharSequence chars) {
+            try {
+                return JavaParser.parse(IOUtils.reader(chars), true);
+            } catch (Exception ex) {
+                throw new RuntimeException("Failed to parse characters.", ex);
+            }
+        }
+    };
+
     public static Function<String, TypeDef> FROM_CLASSPATH_TO_SINGLE_TYPEDEF = new Function<String, TypeDef>() {
 
         public TypeDef apply(String resource) {
@@ -578,6 +604,15 @@ public class Sources {
         }
     };
 
+    public static Function<CharSequence, TypeDef> FROM_CHARSEQUENCE_TO_SINGLE_TYPEDEF = new Function<CharSequence, TypeDef>() {
+
+        public TypeDef apply(CharSequence chars) {
+            CompilationUnit cu = Sources.FROM_CHARSEQUENCE_TO_COMPILATIONUNIT.apply(chars);
+            TypeDeclaration typeDeclaration = cu.getTypes().get(0);
+            return TYPEDEF.apply(typeDeclaration);
+        }
+    };
+
     public static Function<InputStream, TypeDef> FROM_INPUTSTEAM_TO_SINGLE_TYPEDEF = new Function<InputStream, TypeDef>() {
 
         public TypeDef apply(InputStream is) {
@@ -588,4 +623,84 @@ public class Sources {
         }
     };
 
+
+    public static Function<File, List<TypeDef>> FROM_DIRECTORY_TO_TYPEDEFS = new Function<File, List<TypeDef>>() {
+
+        public List<TypeDef> apply(File directory) {
+            final Path root = directory.toPath();
+            List<String> names = new ArrayList<String>();
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(p -> Files.isRegularFile(p) && p.toString().endsWith(JAVA_SUFFIX))
+                        .forEach(p -> names.add(root.relativize(p).toString().replace(File.separatorChar, '/')));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to list directory: [" + directory.getAbsolutePath() + "].", e);
+            }
+            return parseAll(names, name -> FROM_FILE_TO_COMPILATIONUNIT.apply(new File(directory, name)));
+        }
+    };
+
+    public static Function<File, List<TypeDef>> FROM_JAR_TO_TYPEDEFS = new Function<File, List<TypeDef>>() {
+
+        public List<TypeDef> apply(File file) {
+            try (JarFile jar = new JarFile(file)) {
+                List<String> names = new ArrayList<String>();
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    if (!entry.isDirectory() && entry.getName().endsWith(JAVA_SUFFIX)) {
+                        names.add(entry.getName());
+                    }
+                }
+                return parseAll(names, name -> {
+                    try {
+                        return FROM_INPUTSTREAM_TO_COMPILATIONUNIT.apply(jar.getInputStream(jar.getEntry(name)));
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to load entry: [" + name + "] from jar: [" + file.getAbsolutePath() + "].", e);
+                    }
+                });
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open jar: [" + file.getAbsolutePath() + "].", e);
+            }
+        }
+    };
+
+    public static Function<Collection<String>, List<TypeDef>> FROM_CLASSPATH_TO_TYPEDEFS = new Function<Collection<String>, List<TypeDef>>() {
+
+        public List<TypeDef> apply(Collection<String> resources) {
+            return parseAll(resources, FROM_CLASSPATH_TO_COMPILATIONUNIT);
+        }
+    };
+
+    /**
+     * Parses and converts the specified sources in parallel and registers all the resulting definitions in one batch.
+     * Sources are sorted by name, so that the result doesn't depend on the order they were found in.
+     * @param names     The names of the sources.
+     * @param parser    The function that parses a source by name.
+     * @return          The definitions of all the top level types, ordered by source name and position in the source.
+     */
+    private static List<TypeDef> parseAll(Collection<String> names, Function<String, CompilationUnit> parser) {
+        List<String> sorted = new ArrayList<String>(new TreeSet<String>(names));
+        //Conversions look up known definitions, so workers need the context of the caller.
+        CodegenContext context = CodegenContext.current();
+        List<TypeDef> definitions = sorted.parallelStream()
+                .flatMap(name -> inContext(context, () -> {
+                    List<TypeDef> result = new ArrayList<TypeDef>();
+                    for (TypeDeclaration type : parser.apply(name).getTypes()) {
+                        result.add(TO_TYPEDEF.apply(type));
+                    }
+                    return result;
+                }).stream())
+                .collect(Collectors.toList());
+        return DefinitionRepository.getRepository().registerAll(definitions);
+    }
+
+    private static <T> T inContext(CodegenContext context, Callable<T> callable) {
+        try {
+            return context != null ? context.call(callable) : callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -17,25 +17,20 @@
 package io.sundr.codegen.generator;
 
 import io.sundr.codegen.PackageScope;
+import io.sundr.codegen.model.ClassRef;
 import io.sundr.codegen.model.TypeDef;
 import org.apache.velocity.Template;
 import org.apache.velocity.runtime.directive.Directive;
-import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
-import org.apache.velocity.runtime.resource.util.StringResourceRepository;
 
 import java.io.IOException;
 import java.io.Writer;
 import java.net.URL;
 import java.util.Set;
 
-import static io.sundr.codegen.utils.StringUtils.loadResource;
-
 public class CodeGenerator<M> {
 
-    private static final String TEMPLATE = "template";
     private static final String MODEL = "model";
     private static final String PARAMETERS = "parameters";
-    private static final String TEMPLATE_READER_FAILURE = "Failed to read template.";
 
     private final CodeGeneratorContext context;
     private final Writer writer;
@@ -57,18 +52,8 @@ public class CodeGenerator<M> {
         this.templateContent = templateContent;
         this.directives = directives;
 
-        StringResourceRepository repo = StringResourceLoader.getRepository();
-        try {
-            repo.putStringResource(TEMPLATE, templateContent != null ? templateContent : (templateUrl != null ? loadResource(templateUrl) : loadResource(templateResource)));
-        } catch (Exception e) {
-            throw new RuntimeException(TEMPLATE_READER_FAILURE, e);
-        }
-
-        for (Class<? extends Directive> directive : directives) {
-            context.getVelocityEngine().loadDirective(directive.getCanonicalName());
-        }
-
-        this.template = this.context.getVelocityEngine().getTemplate(TEMPLATE);
+        this.context.loadDirectives(directives);
+        this.template = this.context.getTemplate(templateUrl, templateResource, templateContent);
         this.context.getVelocityContext().put(MODEL, model);
         this.context.getVelocityContext().put(PARAMETERS, parameters);
     }
@@ -114,8 +99,17 @@ public class CodeGenerator<M> {
         if (model instanceof TypeDef) {
             TypeDef typeDef = (TypeDef) model;
             PackageScope.set(typeDef.getPackageName());
-            GeneratorUtils.generate(context.getVelocityContext(), writer, getTemplate());
-            PackageScope.clear();
+            try {
+                //Resolve the names of the referenced types upfront, rendering will then only look them up.
+                for (ClassRef ref : typeDef.getReferences()) {
+                    if (ref.getDefinition() != null) {
+                        ref.getName();
+                    }
+                }
+                GeneratorUtils.generate(context.getVelocityContext(), writer, getTemplate());
+            } finally {
+                PackageScope.clear();
+            }
         }  else {
             GeneratorUtils.generate(context.getVelocityContext(), writer, getTemplate());
         }
@@ -19,24 +19,41 @@ package io.sundr.codegen.generator;
 import io.sundr.codegen.directives.ClassDirective;
 import io.sundr.codegen.directives.FieldDirective;
 import io.sundr.codegen.directives.MethodDirective;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.runtime.ParserPoolImpl;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.directive.Directive;
 import org.apache.velocity.runtime.log.JdkLogChute;
 import org.apache.velocity.runtime.resource.loader.StringResourceLoader;
 import org.apache.velocity.runtime.log.SystemLogChute;
 import org.apache.velocity.runtime.resource.ResourceManagerImpl;
 import org.apache.velocity.runtime.resource.ResourceCacheImpl;
+import org.apache.velocity.runtime.resource.util.StringResourceRepository;
 import org.apache.velocity.util.introspection.Uberspect;
 import org.apache.velocity.util.introspection.UberspectImpl;
 import io.sundr.codegen.directives.PluralizeDirective;
 import io.sundr.codegen.directives.SingularizeDirective;
 
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.sundr.codegen.utils.StringUtils.loadResource;
+
 public class CodeGeneratorContext {
 
+    private static final String TEMPLATE_PREFIX = "template-";
+    private static final String TEMPLATE_READER_FAILURE = "Failed to read template.";
+    private static final AtomicInteger TEMPLATE_COUNTER = new AtomicInteger();
+
     private final VelocityEngine velocityEngine;
     private final VelocityContext velocityContext;
+    private final Map<String, Template> templates;
+    private final Set<String> directives;
 
     public CodeGeneratorContext() {
         this(new VelocityEngine(), new VelocityContext());
@@ -45,6 +62,8 @@ public class CodeGeneratorContext {
     public CodeGeneratorContext(VelocityEngine velocityEngine, VelocityContext velocityContext) {
         this.velocityEngine = velocityEngine;
         this.velocityContext = velocityContext;
+        this.templates = new ConcurrentHashMap<String, Template>();
+        this.directives = ConcurrentHashMap.newKeySet();
 
         this.velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "string");
         this.velocityEngine.setProperty("string.resource.loader.class", StringResourceLoader.class.getName());
@@ -72,6 +91,85 @@ public class CodeGeneratorContext {
         }
     }
 
+    private CodeGeneratorContext(CodeGeneratorContext parent) {
+        this.velocityEngine = parent.velocityEngine;
+        this.velocityContext = new VelocityContext(parent.velocityContext);
+        this.templates = parent.templates;
+        this.directives = parent.directives;
+    }
+
+    /**
+     * Creates a context that shares the engine, the compiled templates and the loaded directives with this context,
+     * but has a velocity context of its own. Values put in the new context are not visible to this one.
+     * @return  The new context.
+     */
+    public CodeGeneratorContext fork() {
+        return new CodeGeneratorContext(this);
+    }
+
+    /**
+     * Returns the compiled template for the specified content, url or resource (in that order of precedence).
+     * Each template is read and parsed once per context.
+     * @param templateUrl       The url of the template.
+     * @param templateResource  The resource name of the template.
+     * @param templateContent   The content of the template.
+     * @return                  The compiled template.
+     */
+    public Template getTemplate(URL templateUrl, String templateResource, String templateContent) {
+        String key = templateContent != null ? "content:" + templateContent
+                : (templateUrl != null ? "url:" + templateUrl.toExternalForm() : "resource:" + templateResource);
+
+        Template template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+
+        synchronized (velocityEngine) {
+            template = templates.get(key);
+            if (template == null) {
+                template = compileTemplate(templateUrl, templateResource, templateContent);
+                templates.put(key, template);
+            }
+            return template;
+        }
+    }
+
+    /**
+     * Loads the specified directives, unless they have been already loaded in this context.
+     * @param directives    The directives to load.
+     */
+    public void loadDirectives(Set<Class<? extends Directive>> directives) {
+        for (Class<? extends Directive> directive : directives) {
+            String name = directive.getCanonicalName();
+            if (this.directives.contains(name)) {
+                continue;
+            }
+            synchronized (velocityEngine) {
+                if (!this.directives.contains(name)) {
+                    velocityEngine.loadDirective(name);
+                    this.directives.add(name);
+                }
+            }
+        }
+    }
+
+    private Template compileTemplate(URL templateUrl, String templateResource, String templateContent) {
+        String name = TEMPLATE_PREFIX + TEMPLATE_COUNTER.incrementAndGet();
+        StringResourceRepository repo = StringResourceLoader.getRepository();
+        try {
+            repo.putStringResource(name, templateContent != null ? templateContent : (templateUrl != null ? loadResource(templateUrl) : loadResource(templateResource)));
+        } catch (Exception e) {
+            throw new RuntimeException(TEMPLATE_READER_FAILURE, e);
+        }
+
+        try {
+            return velocityEngine.getTemplate(name);
+        } finally {
+            //The compiled template is cached by the context, so there is no need to keep the source around.
+            repo.removeStringResource(name);
+        }
+    }
+
     public VelocityEngine getVelocityEngine() {
         return velocityEngine;
     }
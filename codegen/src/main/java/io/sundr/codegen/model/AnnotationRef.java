@@ -43,24 +43,28 @@ public class AnnotationRef extends AttributeSupport {
 
     public Set<ClassRef> getReferences() {
        Set<ClassRef> result = new HashSet<>();
-       result.add(classRef);
+       collectReferences(result);
+       return result;
+    }
+
+    void collectReferences(Collection<ClassRef> refs) {
+       refs.add(classRef);
 
        for (Object o : parameters.values()) {
            if (o instanceof ClassRef) {
-               result.add((ClassRef) o);
+               refs.add((ClassRef) o);
            } else if (o instanceof AnnotationRef)  {
-               result.addAll(((AnnotationRef) o).getReferences());
+               ((AnnotationRef) o).collectReferences(refs);
            } else if (o instanceof Collection)  {
                for (Object i : (Collection)o) {
                    if (i instanceof ClassRef) {
-                       result.addAll(((ClassRef)i).getReferences());
+                       ((ClassRef)i).collectReferences(refs);
                    } else if (i instanceof AnnotationRef) {
-                       result.addAll(((AnnotationRef)i).getReferences());
+                       ((AnnotationRef)i).collectReferences(refs);
                    }
                }
            }
        }
-       return result;
     }
 
     private static String toString(Object value) {
@@ -18,10 +18,15 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Map;
+import java.util.Objects;
+
 public class AnnotationRefBuilder extends AnnotationRefFluentImpl<AnnotationRefBuilder> implements VisitableBuilder<AnnotationRef,AnnotationRefBuilder>{
 
     AnnotationRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableAnnotationRef source;
 
     public AnnotationRefBuilder(){
             this(true);
@@ -43,6 +48,7 @@ public class AnnotationRefBuilder extends AnnotationRefFluentImpl<AnnotationRefB
             fluent.withClassRef(instance.getClassRef()); 
             fluent.withParameters(instance.getParameters()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableAnnotationRef ? (EditableAnnotationRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public AnnotationRefBuilder(AnnotationRef instance){
@@ -53,12 +59,21 @@ public class AnnotationRefBuilder extends AnnotationRefFluentImpl<AnnotationRefB
             this.withClassRef(instance.getClassRef()); 
             this.withParameters(instance.getParameters()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableAnnotationRef ? (EditableAnnotationRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableAnnotationRef build(){
-            EditableAnnotationRef buildable = new EditableAnnotationRef(fluent.getClassRef(),fluent.getParameters(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableAnnotationRef(fluent.getClassRef(),fluent.getParameters(),fluent.getAttributes());
+            }
+            ClassRef classRef = fluent.getClassRef();
+            Map<String,Object> parameters = Sharing.map(fluent.getParameters(), source.getParameters());
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (classRef == source.getClassRef() && parameters == source.getParameters() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableAnnotationRef(classRef,parameters,attributes);
     }
 
     public boolean equals(Object o){
@@ -72,6 +87,10 @@ public class AnnotationRefBuilder extends AnnotationRefFluentImpl<AnnotationRefB
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
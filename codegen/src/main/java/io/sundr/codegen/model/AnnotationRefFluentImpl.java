@@ -20,6 +20,7 @@ import io.sundr.builder.Nested;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class AnnotationRefFluentImpl<A extends AnnotationRefFluent<A>> extends AttributeSupportFluentImpl<A> implements AnnotationRefFluent<A>{
 
@@ -119,6 +120,10 @@ public class AnnotationRefFluentImpl<A extends AnnotationRefFluent<A>> extends A
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(classRef, parameters, super.hashCode());
+    }
+
 
     public class ClassRefNestedImpl<N> extends ClassRefFluentImpl<AnnotationRefFluent.ClassRefNested<N>> implements AnnotationRefFluent.ClassRefNested<N>,Nested<N>{
 
@@ -34,6 +34,13 @@ public class AttributeSupport implements Attributeable {
         return Collections.unmodifiableMap(attributes);
     }
 
+    /**
+     * @return  The attributes without the unmodifiable view, so that builders can compare and share them.
+     */
+    Map<AttributeKey, Object> attributes() {
+        return attributes;
+    }
+
     @Override
     public <T> T getAttribute(AttributeKey<T> key) {
         if (attributes == null) {
@@ -18,6 +18,8 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Objects;
+
 public class AttributeSupportBuilder extends AttributeSupportFluentImpl<AttributeSupportBuilder> implements VisitableBuilder<AttributeSupport,AttributeSupportBuilder>{
 
     AttributeSupportFluent<?> fluent;
@@ -68,6 +70,10 @@ public class AttributeSupportBuilder extends AttributeSupportFluentImpl<Attribut
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
@@ -20,6 +20,7 @@ import io.sundr.builder.BaseFluent;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class AttributeSupportFluentImpl<A extends AttributeSupportFluent<A>> extends BaseFluent<A> implements AttributeSupportFluent<A>{
 
@@ -73,6 +74,10 @@ public class AttributeSupportFluentImpl<A extends AttributeSupportFluent<A>> ext
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(attributes);
+    }
+
 
 
 
@@ -18,10 +18,15 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.List;
+import java.util.Objects;
+
 public class BlockBuilder extends BlockFluentImpl<BlockBuilder> implements VisitableBuilder<Block,BlockBuilder>{
 
     BlockFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableBlock source;
 
     public BlockBuilder(){
             this(true);
@@ -41,6 +46,7 @@ public class BlockBuilder extends BlockFluentImpl<BlockBuilder> implements Visit
     public BlockBuilder(BlockFluent<?> fluent,Block instance,Boolean validationEnabled){
             this.fluent = fluent; 
             fluent.withStatements(instance.getStatements()); 
+            this.source = instance instanceof EditableBlock ? (EditableBlock) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public BlockBuilder(Block instance){
@@ -49,12 +55,19 @@ public class BlockBuilder extends BlockFluentImpl<BlockBuilder> implements Visit
     public BlockBuilder(Block instance,Boolean validationEnabled){
             this.fluent = this; 
             this.withStatements(instance.getStatements()); 
+            this.source = instance instanceof EditableBlock ? (EditableBlock) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableBlock build(){
-            EditableBlock buildable = new EditableBlock(fluent.getStatements());
-            return buildable;
+            if (source == null) {
+                return new EditableBlock(fluent.getStatements());
+            }
+            List<Statement> statements = Sharing.list(fluent.getStatements(), source.getStatements());
+            if (statements == source.getStatements()) {
+                return source;
+            }
+            return new EditableBlock(statements);
     }
 
     public boolean equals(Object o){
@@ -68,6 +81,10 @@ public class BlockBuilder extends BlockFluentImpl<BlockBuilder> implements Visit
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
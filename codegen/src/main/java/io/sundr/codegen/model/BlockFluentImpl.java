@@ -24,6 +24,7 @@ import io.sundr.builder.VisitableBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> implements BlockFluent<A>{
 
@@ -81,17 +82,21 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     }
 
     public A removeFromStatements(Statement... items){
-            for (Statement item : items) {if (item instanceof StringStatement){removeFromStringStatementStatements((StringStatement)item);}
+            List<VisitableBuilder<? extends Statement,?>> builders = new ArrayList<VisitableBuilder<? extends Statement,?>>();
+            for (Statement item : items) {if (item instanceof StringStatement){builders.add(new StringStatementBuilder((StringStatement)item));}
 
-            else {  VisitableBuilder<? extends Statement,?> builder = builderOf(item); _visitables.get("statements").remove(builder);this.statements.remove(builder); }
-            } return (A)this;
+            else {  VisitableBuilder<? extends Statement,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("statements"), builders);if (this.statements != null) {removeEqual(this.statements, builders);} return (A)this;
     }
 
     public A removeAllFromStatements(Collection<Statement> items){
-            for (Statement item : items) {if (item instanceof StringStatement){removeFromStringStatementStatements((StringStatement)item);}
+            List<VisitableBuilder<? extends Statement,?>> builders = new ArrayList<VisitableBuilder<? extends Statement,?>>();
+            for (Statement item : items) {if (item instanceof StringStatement){builders.add(new StringStatementBuilder((StringStatement)item));}
 
-            else {  VisitableBuilder<? extends Statement,?> builder = builderOf(item); _visitables.get("statements").remove(builder);this.statements.remove(builder); }
-            } return (A)this;
+            else {  VisitableBuilder<? extends Statement,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("statements"), builders);if (this.statements != null) {removeEqual(this.statements, builders);} return (A)this;
     }
 
     
@@ -128,7 +133,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     }
 
     public A withStatements(List<Statement> statements){
-            if (this.statements != null) { _visitables.get("statements").removeAll(this.statements);}
+            if (this.statements != null) { removeSame(_visitables.get("statements"), this.statements);}
             if (statements != null) {this.statements = new ArrayList<VisitableBuilder<? extends Statement,?>>(); for (Statement item : statements){this.addToStatements(item);}} else { this.statements = new ArrayList<VisitableBuilder<? extends Statement,?>>();} return (A) this;
     }
 
@@ -165,11 +170,15 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     }
 
     public A removeFromStringStatementStatements(StringStatement... items){
-            for (StringStatement item : items) {StringStatementBuilder builder = new StringStatementBuilder(item);_visitables.get("statements").remove(builder);if (this.statements != null) {this.statements.remove(builder);}} return (A)this;
+            List<StringStatementBuilder> builders = new ArrayList<StringStatementBuilder>();
+            for (StringStatement item : items) {builders.add(new StringStatementBuilder(item));}
+            removeEqual(_visitables.get("statements"), builders);if (this.statements != null) {removeEqual(this.statements, builders);} return (A)this;
     }
 
     public A removeAllFromStringStatementStatements(Collection<StringStatement> items){
-            for (StringStatement item : items) {StringStatementBuilder builder = new StringStatementBuilder(item);_visitables.get("statements").remove(builder);if (this.statements != null) {this.statements.remove(builder);}} return (A)this;
+            List<StringStatementBuilder> builders = new ArrayList<StringStatementBuilder>();
+            for (StringStatement item : items) {builders.add(new StringStatementBuilder(item));}
+            removeEqual(_visitables.get("statements"), builders);if (this.statements != null) {removeEqual(this.statements, builders);} return (A)this;
     }
 
     public BlockFluent.StringStatementStatementsNested<A> addNewStringStatementStatement(){
@@ -200,6 +209,10 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(statements);
+    }
+
 
     public class StringStatementStatementsNestedImpl<N> extends StringStatementFluentImpl<BlockFluent.StringStatementStatementsNested<N>> implements BlockFluent.StringStatementStatementsNested<N>,Nested<N>{
 
@@ -20,6 +20,7 @@ import io.sundr.codegen.DefinitionRepository;
 import io.sundr.codegen.PackageScope;
 import io.sundr.codegen.utils.StringUtils;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +52,12 @@ public class ClassRef extends TypeRef {
     }
 
     public TypeDef getDefinition() {
-        return DefinitionRepository.getRepository().getDefinition(fullyQualifiedName);
+        TypeDef registered = DefinitionRepository.getRepository().getDefinition(fullyQualifiedName);
+        if (registered == null && fullyQualifiedName != null && fullyQualifiedName.equals(definition.getFullyQualifiedName())) {
+            //The reference may have been created in the scope of an other repository (e.g. constants).
+            return definition;
+        }
+        return registered;
     }
 
 
@@ -104,13 +110,17 @@ public class ClassRef extends TypeRef {
 
     public Set<ClassRef> getReferences() {
         Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+        collectReferences(refs);
+        return refs;
+    }
+
+    void collectReferences(Collection<ClassRef> refs) {
         for (TypeRef argument : arguments) {
             if (argument instanceof ClassRef) {
-                refs.addAll(((ClassRef) argument).getReferences());
+                ((ClassRef) argument).collectReferences(refs);
             }
         }
         refs.add(this);
-        return refs;
     }
 
     /**
@@ -118,6 +128,22 @@ public class ClassRef extends TypeRef {
      * to a class with the same name but different package has been made already.
      */
     private boolean requiresFullyQualifiedName() {
+        //The resolution only depends on the fully qualified name, when it matches the definition.
+        boolean memoize = fullyQualifiedName != null && fullyQualifiedName.equals(definition.getFullyQualifiedName());
+        if (memoize) {
+            Boolean resolved = PackageScope.isFullyQualified(fullyQualifiedName);
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+        boolean result = resolveFullyQualifiedName();
+        if (memoize) {
+            PackageScope.setFullyQualified(fullyQualifiedName, result);
+        }
+        return result;
+    }
+
+    private boolean resolveFullyQualifiedName() {
         String currentPackage = PackageScope.get();
         if (currentPackage != null) {
             if (definition != null && definition.getPackageName() != null && definition.getFullyQualifiedName() != null) {
@@ -17,13 +17,14 @@
 package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.utils.BoundedCache;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static io.sundr.codegen.model.Kind.CLASS;
@@ -32,14 +33,25 @@ import static io.sundr.codegen.model.Kind.INTERFACE;
 
 public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> implements VisitableBuilder<ClassRef,ClassRefBuilder>{
 
-    private static final Map<CacheKey, EditableClassRef> CACHE = new ConcurrentHashMap<>();
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    //Used outside of a compilation. Each compilation gets its own cache, as an extension of its context.
+    private static final CacheHolder GLOBAL_CACHE = new CacheHolder();
+
+    private static final class CacheHolder {
+        private volatile BoundedCache<CacheKey, EditableClassRef> cache = new BoundedCache<>(DEFAULT_CACHE_SIZE, false);
+    }
+
     private static final class CacheKey {
+        //References register their definition, so they can't be shared between repositories.
+        private final DefinitionRepository repository;
         private final String fullyQualifiedName;
         private final int dimensions;
         private final int modifiers;
         private final List<TypeRef> arguments;
 
         private CacheKey(ClassRefFluent<?> fluent, TypeDef definition) {
+            this.repository = DefinitionRepository.getRepository();
             this.fullyQualifiedName = fluent.getFullyQualifiedName();
             this.dimensions = fluent.getDimensions();
             final Optional<TypeDef> optionalTypeDef = Optional.ofNullable(definition);
@@ -56,7 +68,8 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
                 return false;
             }
             CacheKey cacheKey = (CacheKey) o;
-            return dimensions == cacheKey.dimensions &&
+            return repository == cacheKey.repository &&
+                dimensions == cacheKey.dimensions &&
                 modifiers == cacheKey.modifiers &&
                 Objects.equals(fullyQualifiedName, cacheKey.fullyQualifiedName) &&
                 Objects.equals(arguments, cacheKey.arguments);
@@ -64,12 +77,14 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
 
         @Override
         public int hashCode() {
-            return Objects.hash(fullyQualifiedName, dimensions, modifiers, arguments);
+            return Objects.hash(System.identityHashCode(repository), fullyQualifiedName, dimensions, modifiers, arguments);
         }
     }
 
     ClassRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableClassRef source;
 
     public ClassRefBuilder(){
             this(true);
@@ -93,6 +108,7 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
             fluent.withDimensions(instance.getDimensions());
             fluent.withArguments(instance.getArguments());
             fluent.withAttributes(instance.getAttributes());
+            this.source = instance instanceof EditableClassRef ? (EditableClassRef) instance : null;
             this.validationEnabled = validationEnabled;
     }
     public ClassRefBuilder(ClassRef instance){
@@ -105,6 +121,7 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
             this.withDimensions(instance.getDimensions());
             this.withArguments(instance.getArguments());
             this.withAttributes(instance.getAttributes());
+            this.source = instance instanceof EditableClassRef ? (EditableClassRef) instance : null;
             this.validationEnabled = validationEnabled;
     }
 
@@ -130,20 +147,61 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
             fluent.getDimensions(), fluent.buildArguments(),fluent.getAttributes());
     }
 
+    private static CacheHolder cacheHolder() {
+        CodegenContext context = CodegenContext.current();
+        return context != null ? context.getExtension(CacheHolder.class, CacheHolder::new) : GLOBAL_CACHE;
+    }
+
+    /**
+     * Configures the cache of {@link ClassRef} instances of the current compilation.
+     * The cache is only replaced if the eviction policy changes, so processors of the same compilation can all call this.
+     * @param maximumSize   The maximum number of cached instances. A non-positive value disables eviction by size.
+     * @param weakValues    Whether cached instances should be weakly referenced.
+     */
+    public static void configureCache(int maximumSize, boolean weakValues) {
+        CacheHolder holder = cacheHolder();
+        synchronized (holder) {
+            if (holder.cache.getMaximumSize() != maximumSize || holder.cache.isWeakValues() != weakValues) {
+                holder.cache = new BoundedCache<>(maximumSize, weakValues);
+            }
+        }
+    }
+
+    /**
+     * Returns the cache of {@link ClassRef} instances of the current compilation, which also provides the hit, miss and eviction counters.
+     * @return  The cache.
+     */
+    public static BoundedCache<?, EditableClassRef> getCache() {
+        return cacheHolder().cache;
+    }
+
+    /**
+     * Removes all the cached {@link ClassRef} instances of the current compilation.
+     */
+    public static void clearCache() {
+        cacheHolder().cache.clear();
+    }
+
     public EditableClassRef build(){
         final TypeDef definition = fluent.buildDefinition();
+        if (source != null && isUnchanged(definition)) {
+            return source;
+        }
         if (canCache(fluent, definition)) {
-            final CacheKey key = new CacheKey(fluent, definition);
-            // ConcurrentHashMap#computeIfAbsent -> dead-lock
-            return Optional.ofNullable(CACHE.get(key)).orElseGet(() -> {
-                final EditableClassRef ret = newInstance(fluent, definition);
-                CACHE.put(key, ret);
-                return ret;
-            });
+            // The instance is created outside of any lock, as it may recursively build other references.
+            return cacheHolder().cache.computeIfAbsent(new CacheKey(fluent, definition), () -> newInstance(fluent, definition));
         }
         return newInstance(fluent, definition);
     }
 
+    private boolean isUnchanged(TypeDef definition) {
+        return definition == source.getDefinition()
+            && fluent.getFullyQualifiedName() == source.getFullyQualifiedName()
+            && fluent.getDimensions() == source.getDimensions()
+            && Sharing.list(fluent.buildArguments(), source.getArguments()) == source.getArguments()
+            && Sharing.map(fluent.getAttributes(), source.attributes()) == source.attributes();
+    }
+
     public boolean equals(Object o){
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
@@ -155,6 +213,10 @@ public class ClassRefBuilder extends ClassRefFluentImpl<ClassRefBuilder> impleme
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
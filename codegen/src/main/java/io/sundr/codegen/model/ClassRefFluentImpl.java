@@ -23,6 +23,7 @@ import io.sundr.builder.VisitableBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFluentImpl<A> implements ClassRefFluent<A>{
 
@@ -184,25 +185,29 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromArguments(TypeRef... items){
-            for (TypeRef item : items) {if (item instanceof PrimitiveRef){removeFromPrimitiveRefArguments((PrimitiveRef)item);}
- else if (item instanceof VoidRef){removeFromVoidRefArguments((VoidRef)item);}
- else if (item instanceof WildcardRef){removeFromWildcardRefArguments((WildcardRef)item);}
- else if (item instanceof ClassRef){removeFromClassRefArguments((ClassRef)item);}
- else if (item instanceof TypeParamRef){removeFromTypeParamRefArguments((TypeParamRef)item);}
-
-            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); _visitables.get("arguments").remove(builder);this.arguments.remove(builder); }
-            } return (A)this;
+            List<VisitableBuilder<? extends TypeRef,?>> builders = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (TypeRef item : items) {if (item instanceof PrimitiveRef){builders.add(new PrimitiveRefBuilder((PrimitiveRef)item));}
+ else if (item instanceof VoidRef){builders.add(new VoidRefBuilder((VoidRef)item));}
+ else if (item instanceof WildcardRef){builders.add(new WildcardRefBuilder((WildcardRef)item));}
+ else if (item instanceof ClassRef){builders.add(new ClassRefBuilder((ClassRef)item));}
+ else if (item instanceof TypeParamRef){builders.add(new TypeParamRefBuilder((TypeParamRef)item));}
+
+            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromArguments(Collection<TypeRef> items){
-            for (TypeRef item : items) {if (item instanceof PrimitiveRef){removeFromPrimitiveRefArguments((PrimitiveRef)item);}
- else if (item instanceof VoidRef){removeFromVoidRefArguments((VoidRef)item);}
- else if (item instanceof WildcardRef){removeFromWildcardRefArguments((WildcardRef)item);}
- else if (item instanceof ClassRef){removeFromClassRefArguments((ClassRef)item);}
- else if (item instanceof TypeParamRef){removeFromTypeParamRefArguments((TypeParamRef)item);}
-
-            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); _visitables.get("arguments").remove(builder);this.arguments.remove(builder); }
-            } return (A)this;
+            List<VisitableBuilder<? extends TypeRef,?>> builders = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (TypeRef item : items) {if (item instanceof PrimitiveRef){builders.add(new PrimitiveRefBuilder((PrimitiveRef)item));}
+ else if (item instanceof VoidRef){builders.add(new VoidRefBuilder((VoidRef)item));}
+ else if (item instanceof WildcardRef){builders.add(new WildcardRefBuilder((WildcardRef)item));}
+ else if (item instanceof ClassRef){builders.add(new ClassRefBuilder((ClassRef)item));}
+ else if (item instanceof TypeParamRef){builders.add(new TypeParamRefBuilder((TypeParamRef)item));}
+
+            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     
@@ -239,7 +244,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A withArguments(List<TypeRef> arguments){
-            if (this.arguments != null) { _visitables.get("arguments").removeAll(this.arguments);}
+            if (this.arguments != null) { removeSame(_visitables.get("arguments"), this.arguments);}
             if (arguments != null) {this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef,?>>(); for (TypeRef item : arguments){this.addToArguments(item);}} else { this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();} return (A) this;
     }
 
@@ -276,11 +281,15 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromPrimitiveRefArguments(PrimitiveRef... items){
-            for (PrimitiveRef item : items) {PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<PrimitiveRefBuilder> builders = new ArrayList<PrimitiveRefBuilder>();
+            for (PrimitiveRef item : items) {builders.add(new PrimitiveRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromPrimitiveRefArguments(Collection<PrimitiveRef> items){
-            for (PrimitiveRef item : items) {PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<PrimitiveRefBuilder> builders = new ArrayList<PrimitiveRefBuilder>();
+            for (PrimitiveRef item : items) {builders.add(new PrimitiveRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public ClassRefFluent.PrimitiveRefArgumentsNested<A> addNewPrimitiveRefArgument(){
@@ -319,11 +328,15 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromVoidRefArguments(VoidRef... items){
-            for (VoidRef item : items) {VoidRefBuilder builder = new VoidRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<VoidRefBuilder> builders = new ArrayList<VoidRefBuilder>();
+            for (VoidRef item : items) {builders.add(new VoidRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromVoidRefArguments(Collection<VoidRef> items){
-            for (VoidRef item : items) {VoidRefBuilder builder = new VoidRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<VoidRefBuilder> builders = new ArrayList<VoidRefBuilder>();
+            for (VoidRef item : items) {builders.add(new VoidRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public ClassRefFluent.VoidRefArgumentsNested<A> addNewVoidRefArgument(){
@@ -362,11 +375,15 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromWildcardRefArguments(WildcardRef... items){
-            for (WildcardRef item : items) {WildcardRefBuilder builder = new WildcardRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<WildcardRefBuilder> builders = new ArrayList<WildcardRefBuilder>();
+            for (WildcardRef item : items) {builders.add(new WildcardRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromWildcardRefArguments(Collection<WildcardRef> items){
-            for (WildcardRef item : items) {WildcardRefBuilder builder = new WildcardRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<WildcardRefBuilder> builders = new ArrayList<WildcardRefBuilder>();
+            for (WildcardRef item : items) {builders.add(new WildcardRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public ClassRefFluent.WildcardRefArgumentsNested<A> addNewWildcardRefArgument(){
@@ -405,11 +422,15 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromClassRefArguments(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromClassRefArguments(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public ClassRefFluent.ClassRefArgumentsNested<A> addNewClassRefArgument(){
@@ -448,11 +469,15 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
 
     public A removeFromTypeParamRefArguments(TypeParamRef... items){
-            for (TypeParamRef item : items) {TypeParamRefBuilder builder = new TypeParamRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<TypeParamRefBuilder> builders = new ArrayList<TypeParamRefBuilder>();
+            for (TypeParamRef item : items) {builders.add(new TypeParamRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromTypeParamRefArguments(Collection<TypeParamRef> items){
-            for (TypeParamRef item : items) {TypeParamRefBuilder builder = new TypeParamRefBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<TypeParamRefBuilder> builders = new ArrayList<TypeParamRefBuilder>();
+            for (TypeParamRef item : items) {builders.add(new TypeParamRefBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public ClassRefFluent.TypeParamRefArgumentsNested<A> addNewTypeParamRefArgument(){
@@ -479,6 +504,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(definition, fullyQualifiedName, dimensions, arguments, super.hashCode());
+    }
+
 
     public class DefinitionNestedImpl<N> extends TypeDefFluentImpl<ClassRefFluent.DefinitionNested<N>> implements ClassRefFluent.DefinitionNested<N>,Nested<N>{
 
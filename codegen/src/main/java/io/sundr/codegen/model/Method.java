@@ -92,31 +92,34 @@ public class Method extends ModifierSupport {
 
     public Set<ClassRef> getReferences() {
         Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+        collectReferences(refs);
+        return refs;
+    }
 
+    void collectReferences(Collection<ClassRef> refs) {
         for (AnnotationRef annotationRef : annotations) {
-            refs.addAll(annotationRef.getReferences());
+            annotationRef.collectReferences(refs);
         }
 
         if (returnType instanceof ClassRef) {
-            ClassRef classRef = (ClassRef) returnType;
-            refs.addAll(classRef.getReferences());
+            ((ClassRef) returnType).collectReferences(refs);
         }
 
         for (Property argument : arguments) {
-            refs.addAll(argument.getReferences());
+            argument.collectReferences(refs);
         }
 
         for (ClassRef e : exceptions) {
-            refs.addAll(e.getReferences());
+            e.collectReferences(refs);
         }
 
         for (AnnotationRef a : getAnnotations()) {
-            refs.addAll(a.getClassRef().getReferences());
+            a.getClassRef().collectReferences(refs);
         }
 
         for (TypeParamDef typeParamDef : parameters) {
             for (ClassRef bound : typeParamDef.getBounds()) {
-                refs.addAll(bound.getReferences());
+                bound.collectReferences(refs);
             }
         }
         if (getAttributes().containsKey(ALSO_IMPORT)) {
@@ -127,7 +130,6 @@ public class Method extends ModifierSupport {
                 refs.addAll((Collection<? extends ClassRef>) obj);
             }
         }
-        return refs;
     }
 
     @Override
@@ -18,10 +18,16 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 public class MethodBuilder extends MethodFluentImpl<MethodBuilder> implements VisitableBuilder<Method,MethodBuilder>{
 
     MethodFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableMethod source;
 
     public MethodBuilder(){
             this(true);
@@ -51,6 +57,7 @@ public class MethodBuilder extends MethodFluentImpl<MethodBuilder> implements Vi
             fluent.withBlock(instance.getBlock()); 
             fluent.withModifiers(instance.getModifiers()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableMethod ? (EditableMethod) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public MethodBuilder(Method instance){
@@ -69,12 +76,29 @@ public class MethodBuilder extends MethodFluentImpl<MethodBuilder> implements Vi
             this.withBlock(instance.getBlock()); 
             this.withModifiers(instance.getModifiers()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableMethod ? (EditableMethod) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableMethod build(){
-            EditableMethod buildable = new EditableMethod(fluent.getComments(),fluent.getAnnotations(),fluent.getParameters(),fluent.getName(),fluent.getReturnType(),fluent.getArguments(),fluent.isVarArgPreferred(),fluent.getExceptions(),fluent.getBlock(),fluent.getModifiers(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableMethod(fluent.getComments(),fluent.getAnnotations(),fluent.getParameters(),fluent.getName(),fluent.getReturnType(),fluent.getArguments(),fluent.isVarArgPreferred(),fluent.getExceptions(),fluent.getBlock(),fluent.getModifiers(),fluent.getAttributes());
+            }
+            List<String> comments = Sharing.list(fluent.getComments(), source.getComments());
+            List<AnnotationRef> annotations = Sharing.list(fluent.getAnnotations(), source.getAnnotations());
+            List<TypeParamDef> parameters = Sharing.list(fluent.getParameters(), source.getParameters());
+            String name = fluent.getName();
+            TypeRef returnType = fluent.getReturnType();
+            List<Property> arguments = Sharing.list(fluent.getArguments(), source.getArguments());
+            boolean varArgPreferred = fluent.isVarArgPreferred();
+            List<ClassRef> exceptions = Sharing.list(fluent.getExceptions(), source.getExceptions());
+            Block block = fluent.getBlock();
+            int modifiers = fluent.getModifiers();
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (comments == source.getComments() && annotations == source.getAnnotations() && parameters == source.getParameters() && name == source.getName() && returnType == source.getReturnType() && arguments == source.getArguments() && varArgPreferred == source.isVarArgPreferred() && exceptions == source.getExceptions() && block == source.getBlock() && modifiers == source.getModifiers() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableMethod(comments,annotations,parameters,name,returnType,arguments,varArgPreferred,exceptions,block,modifiers,attributes);
     }
 
     public boolean equals(Object o){
@@ -88,6 +112,10 @@ public class MethodBuilder extends MethodFluentImpl<MethodBuilder> implements Vi
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
@@ -23,6 +23,7 @@ import io.sundr.builder.VisitableBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupportFluentImpl<A> implements MethodFluent<A>{
 
@@ -106,7 +107,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A withComments(List<String> comments){
-            if (this.comments != null) { _visitables.get("comments").removeAll(this.comments);}
+            if (this.comments != null) { removeSame(_visitables.get("comments"), this.comments);}
             if (comments != null) {this.comments = new ArrayList<String>(); for (String item : comments){this.addToComments(item);}} else { this.comments = new ArrayList<String>();} return (A) this;
     }
 
@@ -155,11 +156,15 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A removeFromAnnotations(AnnotationRef... items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     public A removeAllFromAnnotations(Collection<AnnotationRef> items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     
@@ -196,7 +201,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A withAnnotations(List<AnnotationRef> annotations){
-            if (this.annotations != null) { _visitables.get("annotations").removeAll(this.annotations);}
+            if (this.annotations != null) { removeSame(_visitables.get("annotations"), this.annotations);}
             if (annotations != null) {this.annotations = new ArrayList<AnnotationRefBuilder>(); for (AnnotationRef item : annotations){this.addToAnnotations(item);}} else { this.annotations = new ArrayList<AnnotationRefBuilder>();} return (A) this;
     }
 
@@ -270,11 +275,15 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A removeFromParameters(TypeParamDef... items){
-            for (TypeParamDef item : items) {TypeParamDefBuilder builder = new TypeParamDefBuilder(item);_visitables.get("parameters").remove(builder);if (this.parameters != null) {this.parameters.remove(builder);}} return (A)this;
+            List<TypeParamDefBuilder> builders = new ArrayList<TypeParamDefBuilder>();
+            for (TypeParamDef item : items) {builders.add(new TypeParamDefBuilder(item));}
+            removeEqual(_visitables.get("parameters"), builders);if (this.parameters != null) {removeEqual(this.parameters, builders);} return (A)this;
     }
 
     public A removeAllFromParameters(Collection<TypeParamDef> items){
-            for (TypeParamDef item : items) {TypeParamDefBuilder builder = new TypeParamDefBuilder(item);_visitables.get("parameters").remove(builder);if (this.parameters != null) {this.parameters.remove(builder);}} return (A)this;
+            List<TypeParamDefBuilder> builders = new ArrayList<TypeParamDefBuilder>();
+            for (TypeParamDef item : items) {builders.add(new TypeParamDefBuilder(item));}
+            removeEqual(_visitables.get("parameters"), builders);if (this.parameters != null) {removeEqual(this.parameters, builders);} return (A)this;
     }
 
     
@@ -311,7 +320,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A withParameters(List<TypeParamDef> parameters){
-            if (this.parameters != null) { _visitables.get("parameters").removeAll(this.parameters);}
+            if (this.parameters != null) { removeSame(_visitables.get("parameters"), this.parameters);}
             if (parameters != null) {this.parameters = new ArrayList<TypeParamDefBuilder>(); for (TypeParamDef item : parameters){this.addToParameters(item);}} else { this.parameters = new ArrayList<TypeParamDefBuilder>();} return (A) this;
     }
 
@@ -501,11 +510,15 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A removeFromArguments(Property... items){
-            for (Property item : items) {PropertyBuilder builder = new PropertyBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<PropertyBuilder> builders = new ArrayList<PropertyBuilder>();
+            for (Property item : items) {builders.add(new PropertyBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     public A removeAllFromArguments(Collection<Property> items){
-            for (Property item : items) {PropertyBuilder builder = new PropertyBuilder(item);_visitables.get("arguments").remove(builder);if (this.arguments != null) {this.arguments.remove(builder);}} return (A)this;
+            List<PropertyBuilder> builders = new ArrayList<PropertyBuilder>();
+            for (Property item : items) {builders.add(new PropertyBuilder(item));}
+            removeEqual(_visitables.get("arguments"), builders);if (this.arguments != null) {removeEqual(this.arguments, builders);} return (A)this;
     }
 
     
@@ -542,7 +555,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A withArguments(List<Property> arguments){
-            if (this.arguments != null) { _visitables.get("arguments").removeAll(this.arguments);}
+            if (this.arguments != null) { removeSame(_visitables.get("arguments"), this.arguments);}
             if (arguments != null) {this.arguments = new ArrayList<PropertyBuilder>(); for (Property item : arguments){this.addToArguments(item);}} else { this.arguments = new ArrayList<PropertyBuilder>();} return (A) this;
     }
 
@@ -628,11 +641,15 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A removeFromExceptions(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("exceptions").remove(builder);if (this.exceptions != null) {this.exceptions.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("exceptions"), builders);if (this.exceptions != null) {removeEqual(this.exceptions, builders);} return (A)this;
     }
 
     public A removeAllFromExceptions(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("exceptions").remove(builder);if (this.exceptions != null) {this.exceptions.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("exceptions"), builders);if (this.exceptions != null) {removeEqual(this.exceptions, builders);} return (A)this;
     }
 
     
@@ -669,7 +686,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
 
     public A withExceptions(List<ClassRef> exceptions){
-            if (this.exceptions != null) { _visitables.get("exceptions").removeAll(this.exceptions);}
+            if (this.exceptions != null) { removeSame(_visitables.get("exceptions"), this.exceptions);}
             if (exceptions != null) {this.exceptions = new ArrayList<ClassRefBuilder>(); for (ClassRef item : exceptions){this.addToExceptions(item);}} else { this.exceptions = new ArrayList<ClassRefBuilder>();} return (A) this;
     }
 
@@ -778,6 +795,10 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(comments, annotations, parameters, name, returnType, arguments, varArgPreferred, exceptions, block, super.hashCode());
+    }
+
 
     public class AnnotationsNestedImpl<N> extends AnnotationRefFluentImpl<MethodFluent.AnnotationsNested<N>> implements MethodFluent.AnnotationsNested<N>,Nested<N>{
 
@@ -18,6 +18,8 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Objects;
+
 public class ModifierSupportBuilder extends ModifierSupportFluentImpl<ModifierSupportBuilder> implements VisitableBuilder<ModifierSupport,ModifierSupportBuilder>{
 
     ModifierSupportFluent<?> fluent;
@@ -70,6 +72,10 @@ public class ModifierSupportBuilder extends ModifierSupportFluentImpl<ModifierSu
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
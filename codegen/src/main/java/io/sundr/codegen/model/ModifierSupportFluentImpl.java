@@ -16,6 +16,8 @@
 
 package io.sundr.codegen.model;
 
+import java.util.Objects;
+
 public class ModifierSupportFluentImpl<A extends ModifierSupportFluent<A>> extends AttributeSupportFluentImpl<A> implements ModifierSupportFluent<A>{
 
     private int modifiers;
@@ -48,6 +50,10 @@ public class ModifierSupportFluentImpl<A extends ModifierSupportFluent<A>> exten
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(modifiers, super.hashCode());
+    }
+
 
 
 
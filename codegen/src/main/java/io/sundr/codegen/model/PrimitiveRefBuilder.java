@@ -18,10 +18,15 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Map;
+import java.util.Objects;
+
 public class PrimitiveRefBuilder extends PrimitiveRefFluentImpl<PrimitiveRefBuilder> implements VisitableBuilder<PrimitiveRef,PrimitiveRefBuilder>{
 
     PrimitiveRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditablePrimitiveRef source;
 
     public PrimitiveRefBuilder(){
             this(true);
@@ -43,6 +48,7 @@ public class PrimitiveRefBuilder extends PrimitiveRefFluentImpl<PrimitiveRefBuil
             fluent.withName(instance.getName()); 
             fluent.withDimensions(instance.getDimensions()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditablePrimitiveRef ? (EditablePrimitiveRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public PrimitiveRefBuilder(PrimitiveRef instance){
@@ -53,12 +59,21 @@ public class PrimitiveRefBuilder extends PrimitiveRefFluentImpl<PrimitiveRefBuil
             this.withName(instance.getName()); 
             this.withDimensions(instance.getDimensions()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditablePrimitiveRef ? (EditablePrimitiveRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditablePrimitiveRef build(){
-            EditablePrimitiveRef buildable = new EditablePrimitiveRef(fluent.getName(),fluent.getDimensions(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditablePrimitiveRef(fluent.getName(),fluent.getDimensions(),fluent.getAttributes());
+            }
+            String name = fluent.getName();
+            int dimensions = fluent.getDimensions();
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (name == source.getName() && dimensions == source.getDimensions() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditablePrimitiveRef(name,dimensions,attributes);
     }
 
     public boolean equals(Object o){
@@ -72,6 +87,10 @@ public class PrimitiveRefBuilder extends PrimitiveRefFluentImpl<PrimitiveRefBuil
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
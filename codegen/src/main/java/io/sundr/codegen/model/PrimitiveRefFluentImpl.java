@@ -16,6 +16,8 @@
 
 package io.sundr.codegen.model;
 
+import java.util.Objects;
+
 public class PrimitiveRefFluentImpl<A extends PrimitiveRefFluent<A>> extends TypeRefFluentImpl<A> implements PrimitiveRefFluent<A>{
 
     private String name;
@@ -75,6 +77,10 @@ public class PrimitiveRefFluentImpl<A extends PrimitiveRefFluent<A>> extends Typ
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(name, dimensions, super.hashCode());
+    }
+
 
 
 
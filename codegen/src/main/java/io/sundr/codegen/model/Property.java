@@ -59,17 +59,20 @@ public class Property extends ModifierSupport {
 
     public Set<ClassRef> getReferences() {
         Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+        collectReferences(refs);
+        return refs;
+    }
 
+    void collectReferences(Collection<ClassRef> refs) {
         for (AnnotationRef annotationRef : annotations) {
-            refs.addAll(annotationRef.getReferences());
+            annotationRef.collectReferences(refs);
         }
 
         if (typeRef instanceof ClassRef) {
-            ClassRef classRef = (ClassRef) typeRef;
-            refs.addAll(classRef.getReferences());
+            ((ClassRef) typeRef).collectReferences(refs);
         }
         for (AnnotationRef a : getAnnotations()) {
-            refs.addAll(a.getClassRef().getReferences());
+            a.getClassRef().collectReferences(refs);
         }
 
         if (getAttributes().containsKey(ALSO_IMPORT)) {
@@ -80,7 +83,6 @@ public class Property extends ModifierSupport {
                 refs.addAll((Collection<? extends ClassRef>) obj);
             }
         }
-        return refs;
     }
 
     @Override
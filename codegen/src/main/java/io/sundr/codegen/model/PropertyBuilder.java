@@ -18,10 +18,16 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 public class PropertyBuilder extends PropertyFluentImpl<PropertyBuilder> implements VisitableBuilder<Property,PropertyBuilder>{
 
     PropertyFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableProperty source;
 
     public PropertyBuilder(){
             this(true);
@@ -45,6 +51,7 @@ public class PropertyBuilder extends PropertyFluentImpl<PropertyBuilder> impleme
             fluent.withName(instance.getName()); 
             fluent.withModifiers(instance.getModifiers()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableProperty ? (EditableProperty) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public PropertyBuilder(Property instance){
@@ -57,12 +64,23 @@ public class PropertyBuilder extends PropertyFluentImpl<PropertyBuilder> impleme
             this.withName(instance.getName()); 
             this.withModifiers(instance.getModifiers()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableProperty ? (EditableProperty) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableProperty build(){
-            EditableProperty buildable = new EditableProperty(fluent.getAnnotations(),fluent.getTypeRef(),fluent.getName(),fluent.getModifiers(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableProperty(fluent.getAnnotations(),fluent.getTypeRef(),fluent.getName(),fluent.getModifiers(),fluent.getAttributes());
+            }
+            List<AnnotationRef> annotations = Sharing.list(fluent.getAnnotations(), source.getAnnotations());
+            TypeRef typeRef = fluent.getTypeRef();
+            String name = fluent.getName();
+            int modifiers = fluent.getModifiers();
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (annotations == source.getAnnotations() && typeRef == source.getTypeRef() && name == source.getName() && modifiers == source.getModifiers() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableProperty(annotations,typeRef,name,modifiers,attributes);
     }
 
     public boolean equals(Object o){
@@ -76,6 +94,10 @@ public class PropertyBuilder extends PropertyFluentImpl<PropertyBuilder> impleme
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
@@ -23,6 +23,7 @@ import io.sundr.builder.VisitableBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSupportFluentImpl<A> implements PropertyFluent<A>{
 
@@ -64,11 +65,15 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     }
 
     public A removeFromAnnotations(AnnotationRef... items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     public A removeAllFromAnnotations(Collection<AnnotationRef> items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     
@@ -105,7 +110,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     }
 
     public A withAnnotations(List<AnnotationRef> annotations){
-            if (this.annotations != null) { _visitables.get("annotations").removeAll(this.annotations);}
+            if (this.annotations != null) { removeSame(_visitables.get("annotations"), this.annotations);}
             if (annotations != null) {this.annotations = new ArrayList<AnnotationRefBuilder>(); for (AnnotationRef item : annotations){this.addToAnnotations(item);}} else { this.annotations = new ArrayList<AnnotationRefBuilder>();} return (A) this;
     }
 
@@ -282,6 +287,10 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(annotations, typeRef, name, super.hashCode());
+    }
+
 
     public class AnnotationsNestedImpl<N> extends AnnotationRefFluentImpl<PropertyFluent.AnnotationsNested<N>> implements PropertyFluent.AnnotationsNested<N>,Nested<N>{
 
@@ -0,0 +1,62 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural sharing for builders that copy an instance.
+ * Children are built first, and as unchanged children build to the instance they were copied from,
+ * a value that only contains the same instances as the source can be replaced by the value of the source.
+ */
+final class Sharing {
+
+    private Sharing() {
+    }
+
+    /**
+     * Returns the source list, if the built list contains the same instances in the same order.
+     */
+    static <T> List<T> list(List<T> built, List<T> source) {
+        if (built == source || source == null || built == null || built.size() != source.size()) {
+            return built;
+        }
+        for (int i = 0; i < built.size(); i++) {
+            if (built.get(i) != source.get(i)) {
+                return built;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Returns the source map, if the built map maps the same keys to the same instances.
+     */
+    static <K, V> Map<K, V> map(Map<K, V> built, Map<K, V> source) {
+        if (built == source || source == null || built == null || built.size() != source.size()) {
+            return built;
+        }
+        for (Map.Entry<K, V> entry : built.entrySet()) {
+            V value = source.get(entry.getKey());
+            if (value != entry.getValue() || (value == null && !source.containsKey(entry.getKey()))) {
+                return built;
+            }
+        }
+        return source;
+    }
+}
@@ -19,6 +19,7 @@ package io.sundr.codegen.model;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 import io.sundr.builder.BaseFluent;
 import io.sundr.builder.Builder;
@@ -53,11 +54,15 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
     }
 
     public A removeFromTypes(TypeDef... items){
-            for (TypeDef item : items) {TypeDefBuilder builder = new TypeDefBuilder(item);_visitables.remove(builder);this.types.remove(builder);} return (A)this;
+            List<TypeDefBuilder> builders = new ArrayList<TypeDefBuilder>();
+            for (TypeDef item : items) {builders.add(new TypeDefBuilder(item));}
+            removeEqual(_visitables.get("types"), builders);if (this.types != null) {removeEqual(this.types, builders);} return (A)this;
     }
 
     public A removeAllFromTypes(Collection<TypeDef> items){
-            for (TypeDef item : items) {TypeDefBuilder builder = new TypeDefBuilder(item);_visitables.remove(builder);this.types.remove(builder);} return (A)this;
+            List<TypeDefBuilder> builders = new ArrayList<TypeDefBuilder>();
+            for (TypeDef item : items) {builders.add(new TypeDefBuilder(item));}
+            removeEqual(_visitables.get("types"), builders);if (this.types != null) {removeEqual(this.types, builders);} return (A)this;
     }
 
 
@@ -91,7 +96,7 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
     }
 
     public A withTypes(List<TypeDef> types){
-            _visitables.get("types").removeAll(this.types);
+            removeSame(_visitables.get("types"), this.types);
             this.types.clear();
             if (types != null) {for (TypeDef item : types){this.addToTypes(item);}} return (A) this;
     }
@@ -120,6 +125,10 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(types);
+    }
+
 
     public class TypesNestedImpl<N> extends TypeDefFluentImpl<TypesNested<N>> implements TypesNested<N>,Nested<N>{
 
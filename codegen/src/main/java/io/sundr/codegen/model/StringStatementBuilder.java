@@ -16,12 +16,17 @@
 
 package io.sundr.codegen.model;
 
+import io.sundr.Provider;
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Objects;
+
 public class StringStatementBuilder extends StringStatementFluentImpl<StringStatementBuilder> implements VisitableBuilder<StringStatement,StringStatementBuilder>{
 
     StringStatementFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableStringStatement source;
 
     public StringStatementBuilder(){
             this(true);
@@ -41,6 +46,7 @@ public class StringStatementBuilder extends StringStatementFluentImpl<StringStat
     public StringStatementBuilder(StringStatementFluent<?> fluent,StringStatement instance,Boolean validationEnabled){
             this.fluent = fluent; 
             fluent.withProvider(instance.getProvider()); 
+            this.source = instance instanceof EditableStringStatement ? (EditableStringStatement) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public StringStatementBuilder(StringStatement instance){
@@ -49,12 +55,19 @@ public class StringStatementBuilder extends StringStatementFluentImpl<StringStat
     public StringStatementBuilder(StringStatement instance,Boolean validationEnabled){
             this.fluent = this; 
             this.withProvider(instance.getProvider()); 
+            this.source = instance instanceof EditableStringStatement ? (EditableStringStatement) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableStringStatement build(){
-            EditableStringStatement buildable = new EditableStringStatement(fluent.getProvider());
-            return buildable;
+            if (source == null) {
+                return new EditableStringStatement(fluent.getProvider());
+            }
+            Provider<String> provider = fluent.getProvider();
+            if (provider == source.getProvider()) {
+                return source;
+            }
+            return new EditableStringStatement(provider);
     }
 
     public boolean equals(Object o){
@@ -68,6 +81,10 @@ public class StringStatementBuilder extends StringStatementFluentImpl<StringStat
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
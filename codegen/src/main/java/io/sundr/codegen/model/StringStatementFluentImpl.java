@@ -19,6 +19,8 @@ package io.sundr.codegen.model;
 import io.sundr.Provider;
 import io.sundr.builder.BaseFluent;
 
+import java.util.Objects;
+
 public class StringStatementFluentImpl<A extends StringStatementFluent<A>> extends BaseFluent<A> implements StringStatementFluent<A>{
 
     private Provider<String> provider;
@@ -49,6 +51,10 @@ public class StringStatementFluentImpl<A extends StringStatementFluent<A>> exten
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(provider);
+    }
+
 
 
 
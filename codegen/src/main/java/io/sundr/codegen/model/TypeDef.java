@@ -16,6 +16,7 @@
 
 package io.sundr.codegen.model;
 
+import io.sundr.codegen.DefinitionRepository;
 import io.sundr.codegen.utils.StringUtils;
 
 import java.util.ArrayList;
@@ -59,6 +60,9 @@ public class TypeDef extends ModifierSupport {
     private final TypeDef outerType;
     private final List<TypeDef> innerTypes;
 
+    private volatile List<ClassRef> references;
+    private volatile Imports imports;
+
     public TypeDef(Kind kind, String packageName, String name, List<String> comments, List<AnnotationRef> annotations, List<ClassRef> extendsList, List<ClassRef> implementsList, List<TypeParamDef> parameters, List<Property> properties, List<Method> constructors, List<Method> methods, TypeDef outerType, List<TypeDef> innerTypes, int modifiers, Map<AttributeKey, Object> attributes) {
         super(modifiers, attributes);
         this.kind = kind != null ? kind : Kind.CLASS;
@@ -316,8 +320,19 @@ public class TypeDef extends ModifierSupport {
                 .build();
     }
 
+    /**
+     * Returns the imports of the type. They depend on the definitions the references resolve to, so they are only
+     * cached while the current repository stays the same and all the referenced types are registered in it.
+     */
     public Set<String> getImports() {
-        final Set<String> imports = new LinkedHashSet<String>();
+        DefinitionRepository repository = DefinitionRepository.getRepository();
+        long version = repository.getVersion();
+        Imports cached = this.imports;
+        if (cached != null && cached.repository == repository && cached.version == version) {
+            return cached.names;
+        }
+
+        Set<String> imports = new LinkedHashSet<String>();
         for (ClassRef ref : getReferenceMap().values()) {
             TypeDef definition = ref.getDefinition();
             if (definition.getPackageName() == null ||
@@ -329,16 +344,40 @@ public class TypeDef extends ModifierSupport {
                 imports.add(ref.getDefinition().getFullyQualifiedName());
             }
         }
+        imports = Collections.unmodifiableSet(imports);
+        if (isResolved(repository)) {
+            this.imports = new Imports(repository, version, imports);
+        }
         return imports;
     }
 
+    private boolean isResolved(DefinitionRepository repository) {
+        for (ClassRef ref : getReferences()) {
+            if (repository.getDefinition(ref.getFullyQualifiedName()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Imports {
+        private final DefinitionRepository repository;
+        private final long version;
+        private final Set<String> names;
+
+        private Imports(DefinitionRepository repository, long version, Set<String> names) {
+            this.repository = repository;
+            this.version = version;
+            this.names = names;
+        }
+    }
 
     /**
      * Create a mapping from class name to {@link ClassRef}.
      */
     private Map<String, ClassRef> getReferenceMap() {
         Map<String, ClassRef> mapping = new HashMap<String, ClassRef>();
-        List<ClassRef> refs = getReferences();
+        List<ClassRef> refs = new ArrayList<ClassRef>(getReferences());
 
         //It's best to have predictable order, so that we can generate uniform code.
         Collections.sort(refs, new Comparator<ClassRef>() {
@@ -357,53 +396,59 @@ public class TypeDef extends ModifierSupport {
         return mapping;
     }
 
+    /**
+     * Returns the classes referenced by the type. The references are computed once, as the type is immutable.
+     */
     public List<ClassRef> getReferences() {
-        final List<ClassRef> refs = new ArrayList<ClassRef>();
-
-        for (AnnotationRef a : annotations) {
-            refs.addAll(a.getReferences());
-        }
-
-        for (ClassRef i : implementsList) {
-            refs.addAll(i.getReferences());
-        }
+        List<ClassRef> references = this.references;
+        if (references == null) {
+            Set<ClassRef> refs = new LinkedHashSet<ClassRef>();
+            for (AnnotationRef a : annotations) {
+                a.collectReferences(refs);
+            }
 
-        for (ClassRef e : extendsList) {
-            refs.addAll(e.getReferences());
-        }
+            for (ClassRef i : implementsList) {
+                i.collectReferences(refs);
+            }
 
-        for (Property property : properties) {
-            refs.addAll(property.getReferences());
-        }
+            for (ClassRef e : extendsList) {
+                e.collectReferences(refs);
+            }
 
-        for (Method method : constructors) {
-            refs.addAll(method.getReferences());
-        }
+            for (Property property : properties) {
+                property.collectReferences(refs);
+            }
 
+            for (Method method : constructors) {
+                method.collectReferences(refs);
+            }
 
-        for (Method method : methods) {
-            refs.addAll(method.getReferences());
-        }
+            for (Method method : methods) {
+                method.collectReferences(refs);
+            }
 
-        for (TypeParamDef typeParamDef : parameters) {
-            for (ClassRef bound : typeParamDef.getBounds()) {
-                refs.addAll(bound.getReferences());
+            for (TypeParamDef typeParamDef : parameters) {
+                for (ClassRef bound : typeParamDef.getBounds()) {
+                    bound.collectReferences(refs);
+                }
             }
-        }
 
-        for (TypeDef innerType : innerTypes) {
-            refs.addAll(innerType.getReferences());
-        }
+            for (TypeDef innerType : innerTypes) {
+                refs.addAll(innerType.getReferences());
+            }
 
-        if (getAttributes().containsKey(ALSO_IMPORT)) {
-            Object obj = getAttributes().get(ALSO_IMPORT);
-            if (obj instanceof ClassRef) {
-                refs.add((ClassRef) obj);
-            } else if (obj instanceof Collection) {
-                refs.addAll((Collection<? extends ClassRef>) obj);
+            if (getAttributes().containsKey(ALSO_IMPORT)) {
+                Object obj = getAttributes().get(ALSO_IMPORT);
+                if (obj instanceof ClassRef) {
+                    refs.add((ClassRef) obj);
+                } else if (obj instanceof Collection) {
+                    refs.addAll((Collection<? extends ClassRef>) obj);
+                }
             }
+            references = Collections.unmodifiableList(new ArrayList<ClassRef>(refs));
+            this.references = references;
         }
-        return refs;
+        return references;
     }
 
 
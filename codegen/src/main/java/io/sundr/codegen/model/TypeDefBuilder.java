@@ -18,10 +18,16 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 public class TypeDefBuilder extends TypeDefFluentImpl<TypeDefBuilder> implements VisitableBuilder<TypeDef,TypeDefBuilder>{
 
     TypeDefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableTypeDef source;
 
     public TypeDefBuilder(){
             this(true);
@@ -55,6 +61,7 @@ public class TypeDefBuilder extends TypeDefFluentImpl<TypeDefBuilder> implements
             fluent.withInnerTypes(instance.getInnerTypes()); 
             fluent.withModifiers(instance.getModifiers()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeDef ? (EditableTypeDef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public TypeDefBuilder(TypeDef instance){
@@ -77,12 +84,33 @@ public class TypeDefBuilder extends TypeDefFluentImpl<TypeDefBuilder> implements
             this.withInnerTypes(instance.getInnerTypes()); 
             this.withModifiers(instance.getModifiers()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeDef ? (EditableTypeDef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableTypeDef build(){
-            EditableTypeDef buildable = new EditableTypeDef(fluent.getKind(),fluent.getPackageName(),fluent.getName(),fluent.getComments(),fluent.getAnnotations(),fluent.getExtendsList(),fluent.getImplementsList(),fluent.getParameters(),fluent.getProperties(),fluent.getConstructors(),fluent.getMethods(),fluent.getOuterType(),fluent.getInnerTypes(),fluent.getModifiers(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableTypeDef(fluent.getKind(),fluent.getPackageName(),fluent.getName(),fluent.getComments(),fluent.getAnnotations(),fluent.getExtendsList(),fluent.getImplementsList(),fluent.getParameters(),fluent.getProperties(),fluent.getConstructors(),fluent.getMethods(),fluent.getOuterType(),fluent.getInnerTypes(),fluent.getModifiers(),fluent.getAttributes());
+            }
+            Kind kind = fluent.getKind();
+            String packageName = fluent.getPackageName();
+            String name = fluent.getName();
+            List<String> comments = Sharing.list(fluent.getComments(), source.getComments());
+            List<AnnotationRef> annotations = Sharing.list(fluent.getAnnotations(), source.getAnnotations());
+            List<ClassRef> extendsList = Sharing.list(fluent.getExtendsList(), source.getExtendsList());
+            List<ClassRef> implementsList = Sharing.list(fluent.getImplementsList(), source.getImplementsList());
+            List<TypeParamDef> parameters = Sharing.list(fluent.getParameters(), source.getParameters());
+            List<Property> properties = Sharing.list(fluent.getProperties(), source.getProperties());
+            List<Method> constructors = Sharing.list(fluent.getConstructors(), source.getConstructors());
+            List<Method> methods = Sharing.list(fluent.getMethods(), source.getMethods());
+            TypeDef outerType = fluent.getOuterType();
+            List<TypeDef> innerTypes = Sharing.list(fluent.getInnerTypes(), source.getInnerTypes());
+            int modifiers = fluent.getModifiers();
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (kind == source.getKind() && packageName == source.getPackageName() && name == source.getName() && comments == source.getComments() && annotations == source.getAnnotations() && extendsList == source.getExtendsList() && implementsList == source.getImplementsList() && parameters == source.getParameters() && properties == source.getProperties() && constructors == source.getConstructors() && methods == source.getMethods() && outerType == source.getOuterType() && innerTypes == source.getInnerTypes() && modifiers == source.getModifiers() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableTypeDef(kind,packageName,name,comments,annotations,extendsList,implementsList,parameters,properties,constructors,methods,outerType,innerTypes,modifiers,attributes);
     }
 
     public boolean equals(Object o){
@@ -96,6 +124,10 @@ public class TypeDefBuilder extends TypeDefFluentImpl<TypeDefBuilder> implements
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
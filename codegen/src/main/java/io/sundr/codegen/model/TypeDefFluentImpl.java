@@ -22,6 +22,7 @@ import io.sundr.builder.Predicate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSupportFluentImpl<A> implements TypeDefFluent<A>{
 
@@ -173,7 +174,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withComments(List<String> comments){
-            if (this.comments != null) { _visitables.get("comments").removeAll(this.comments);}
+            if (this.comments != null) { removeSame(_visitables.get("comments"), this.comments);}
             if (comments != null) {this.comments = new ArrayList<String>(); for (String item : comments){this.addToComments(item);}} else { this.comments = new ArrayList<String>();} return (A) this;
     }
 
@@ -222,11 +223,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromAnnotations(AnnotationRef... items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     public A removeAllFromAnnotations(Collection<AnnotationRef> items){
-            for (AnnotationRef item : items) {AnnotationRefBuilder builder = new AnnotationRefBuilder(item);_visitables.get("annotations").remove(builder);if (this.annotations != null) {this.annotations.remove(builder);}} return (A)this;
+            List<AnnotationRefBuilder> builders = new ArrayList<AnnotationRefBuilder>();
+            for (AnnotationRef item : items) {builders.add(new AnnotationRefBuilder(item));}
+            removeEqual(_visitables.get("annotations"), builders);if (this.annotations != null) {removeEqual(this.annotations, builders);} return (A)this;
     }
 
     
@@ -263,7 +268,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withAnnotations(List<AnnotationRef> annotations){
-            if (this.annotations != null) { _visitables.get("annotations").removeAll(this.annotations);}
+            if (this.annotations != null) { removeSame(_visitables.get("annotations"), this.annotations);}
             if (annotations != null) {this.annotations = new ArrayList<AnnotationRefBuilder>(); for (AnnotationRef item : annotations){this.addToAnnotations(item);}} else { this.annotations = new ArrayList<AnnotationRefBuilder>();} return (A) this;
     }
 
@@ -337,11 +342,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromExtendsList(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("extendsList").remove(builder);if (this.extendsList != null) {this.extendsList.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("extendsList"), builders);if (this.extendsList != null) {removeEqual(this.extendsList, builders);} return (A)this;
     }
 
     public A removeAllFromExtendsList(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("extendsList").remove(builder);if (this.extendsList != null) {this.extendsList.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("extendsList"), builders);if (this.extendsList != null) {removeEqual(this.extendsList, builders);} return (A)this;
     }
 
     
@@ -378,7 +387,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withExtendsList(List<ClassRef> extendsList){
-            if (this.extendsList != null) { _visitables.get("extendsList").removeAll(this.extendsList);}
+            if (this.extendsList != null) { removeSame(_visitables.get("extendsList"), this.extendsList);}
             if (extendsList != null) {this.extendsList = new ArrayList<ClassRefBuilder>(); for (ClassRef item : extendsList){this.addToExtendsList(item);}} else { this.extendsList = new ArrayList<ClassRefBuilder>();} return (A) this;
     }
 
@@ -452,11 +461,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromImplementsList(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("implementsList").remove(builder);if (this.implementsList != null) {this.implementsList.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("implementsList"), builders);if (this.implementsList != null) {removeEqual(this.implementsList, builders);} return (A)this;
     }
 
     public A removeAllFromImplementsList(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("implementsList").remove(builder);if (this.implementsList != null) {this.implementsList.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("implementsList"), builders);if (this.implementsList != null) {removeEqual(this.implementsList, builders);} return (A)this;
     }
 
     
@@ -493,7 +506,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withImplementsList(List<ClassRef> implementsList){
-            if (this.implementsList != null) { _visitables.get("implementsList").removeAll(this.implementsList);}
+            if (this.implementsList != null) { removeSame(_visitables.get("implementsList"), this.implementsList);}
             if (implementsList != null) {this.implementsList = new ArrayList<ClassRefBuilder>(); for (ClassRef item : implementsList){this.addToImplementsList(item);}} else { this.implementsList = new ArrayList<ClassRefBuilder>();} return (A) this;
     }
 
@@ -567,11 +580,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromParameters(TypeParamDef... items){
-            for (TypeParamDef item : items) {TypeParamDefBuilder builder = new TypeParamDefBuilder(item);_visitables.get("parameters").remove(builder);if (this.parameters != null) {this.parameters.remove(builder);}} return (A)this;
+            List<TypeParamDefBuilder> builders = new ArrayList<TypeParamDefBuilder>();
+            for (TypeParamDef item : items) {builders.add(new TypeParamDefBuilder(item));}
+            removeEqual(_visitables.get("parameters"), builders);if (this.parameters != null) {removeEqual(this.parameters, builders);} return (A)this;
     }
 
     public A removeAllFromParameters(Collection<TypeParamDef> items){
-            for (TypeParamDef item : items) {TypeParamDefBuilder builder = new TypeParamDefBuilder(item);_visitables.get("parameters").remove(builder);if (this.parameters != null) {this.parameters.remove(builder);}} return (A)this;
+            List<TypeParamDefBuilder> builders = new ArrayList<TypeParamDefBuilder>();
+            for (TypeParamDef item : items) {builders.add(new TypeParamDefBuilder(item));}
+            removeEqual(_visitables.get("parameters"), builders);if (this.parameters != null) {removeEqual(this.parameters, builders);} return (A)this;
     }
 
     
@@ -608,7 +625,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withParameters(List<TypeParamDef> parameters){
-            if (this.parameters != null) { _visitables.get("parameters").removeAll(this.parameters);}
+            if (this.parameters != null) { removeSame(_visitables.get("parameters"), this.parameters);}
             if (parameters != null) {this.parameters = new ArrayList<TypeParamDefBuilder>(); for (TypeParamDef item : parameters){this.addToParameters(item);}} else { this.parameters = new ArrayList<TypeParamDefBuilder>();} return (A) this;
     }
 
@@ -682,11 +699,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromProperties(Property... items){
-            for (Property item : items) {PropertyBuilder builder = new PropertyBuilder(item);_visitables.get("properties").remove(builder);if (this.properties != null) {this.properties.remove(builder);}} return (A)this;
+            List<PropertyBuilder> builders = new ArrayList<PropertyBuilder>();
+            for (Property item : items) {builders.add(new PropertyBuilder(item));}
+            removeEqual(_visitables.get("properties"), builders);if (this.properties != null) {removeEqual(this.properties, builders);} return (A)this;
     }
 
     public A removeAllFromProperties(Collection<Property> items){
-            for (Property item : items) {PropertyBuilder builder = new PropertyBuilder(item);_visitables.get("properties").remove(builder);if (this.properties != null) {this.properties.remove(builder);}} return (A)this;
+            List<PropertyBuilder> builders = new ArrayList<PropertyBuilder>();
+            for (Property item : items) {builders.add(new PropertyBuilder(item));}
+            removeEqual(_visitables.get("properties"), builders);if (this.properties != null) {removeEqual(this.properties, builders);} return (A)this;
     }
 
     
@@ -723,7 +744,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withProperties(List<Property> properties){
-            if (this.properties != null) { _visitables.get("properties").removeAll(this.properties);}
+            if (this.properties != null) { removeSame(_visitables.get("properties"), this.properties);}
             if (properties != null) {this.properties = new ArrayList<PropertyBuilder>(); for (Property item : properties){this.addToProperties(item);}} else { this.properties = new ArrayList<PropertyBuilder>();} return (A) this;
     }
 
@@ -797,11 +818,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromConstructors(Method... items){
-            for (Method item : items) {MethodBuilder builder = new MethodBuilder(item);_visitables.get("constructors").remove(builder);if (this.constructors != null) {this.constructors.remove(builder);}} return (A)this;
+            List<MethodBuilder> builders = new ArrayList<MethodBuilder>();
+            for (Method item : items) {builders.add(new MethodBuilder(item));}
+            removeEqual(_visitables.get("constructors"), builders);if (this.constructors != null) {removeEqual(this.constructors, builders);} return (A)this;
     }
 
     public A removeAllFromConstructors(Collection<Method> items){
-            for (Method item : items) {MethodBuilder builder = new MethodBuilder(item);_visitables.get("constructors").remove(builder);if (this.constructors != null) {this.constructors.remove(builder);}} return (A)this;
+            List<MethodBuilder> builders = new ArrayList<MethodBuilder>();
+            for (Method item : items) {builders.add(new MethodBuilder(item));}
+            removeEqual(_visitables.get("constructors"), builders);if (this.constructors != null) {removeEqual(this.constructors, builders);} return (A)this;
     }
 
     
@@ -838,7 +863,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withConstructors(List<Method> constructors){
-            if (this.constructors != null) { _visitables.get("constructors").removeAll(this.constructors);}
+            if (this.constructors != null) { removeSame(_visitables.get("constructors"), this.constructors);}
             if (constructors != null) {this.constructors = new ArrayList<MethodBuilder>(); for (Method item : constructors){this.addToConstructors(item);}} else { this.constructors = new ArrayList<MethodBuilder>();} return (A) this;
     }
 
@@ -912,11 +937,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromMethods(Method... items){
-            for (Method item : items) {MethodBuilder builder = new MethodBuilder(item);_visitables.get("methods").remove(builder);if (this.methods != null) {this.methods.remove(builder);}} return (A)this;
+            List<MethodBuilder> builders = new ArrayList<MethodBuilder>();
+            for (Method item : items) {builders.add(new MethodBuilder(item));}
+            removeEqual(_visitables.get("methods"), builders);if (this.methods != null) {removeEqual(this.methods, builders);} return (A)this;
     }
 
     public A removeAllFromMethods(Collection<Method> items){
-            for (Method item : items) {MethodBuilder builder = new MethodBuilder(item);_visitables.get("methods").remove(builder);if (this.methods != null) {this.methods.remove(builder);}} return (A)this;
+            List<MethodBuilder> builders = new ArrayList<MethodBuilder>();
+            for (Method item : items) {builders.add(new MethodBuilder(item));}
+            removeEqual(_visitables.get("methods"), builders);if (this.methods != null) {removeEqual(this.methods, builders);} return (A)this;
     }
 
     
@@ -953,7 +982,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withMethods(List<Method> methods){
-            if (this.methods != null) { _visitables.get("methods").removeAll(this.methods);}
+            if (this.methods != null) { removeSame(_visitables.get("methods"), this.methods);}
             if (methods != null) {this.methods = new ArrayList<MethodBuilder>(); for (Method item : methods){this.addToMethods(item);}} else { this.methods = new ArrayList<MethodBuilder>();} return (A) this;
     }
 
@@ -1069,11 +1098,15 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A removeFromInnerTypes(TypeDef... items){
-            for (TypeDef item : items) {TypeDefBuilder builder = new TypeDefBuilder(item);_visitables.get("innerTypes").remove(builder);if (this.innerTypes != null) {this.innerTypes.remove(builder);}} return (A)this;
+            List<TypeDefBuilder> builders = new ArrayList<TypeDefBuilder>();
+            for (TypeDef item : items) {builders.add(new TypeDefBuilder(item));}
+            removeEqual(_visitables.get("innerTypes"), builders);if (this.innerTypes != null) {removeEqual(this.innerTypes, builders);} return (A)this;
     }
 
     public A removeAllFromInnerTypes(Collection<TypeDef> items){
-            for (TypeDef item : items) {TypeDefBuilder builder = new TypeDefBuilder(item);_visitables.get("innerTypes").remove(builder);if (this.innerTypes != null) {this.innerTypes.remove(builder);}} return (A)this;
+            List<TypeDefBuilder> builders = new ArrayList<TypeDefBuilder>();
+            for (TypeDef item : items) {builders.add(new TypeDefBuilder(item));}
+            removeEqual(_visitables.get("innerTypes"), builders);if (this.innerTypes != null) {removeEqual(this.innerTypes, builders);} return (A)this;
     }
 
     
@@ -1110,7 +1143,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
 
     public A withInnerTypes(List<TypeDef> innerTypes){
-            if (this.innerTypes != null) { _visitables.get("innerTypes").removeAll(this.innerTypes);}
+            if (this.innerTypes != null) { removeSame(_visitables.get("innerTypes"), this.innerTypes);}
             if (innerTypes != null) {this.innerTypes = new ArrayList<TypeDefBuilder>(); for (TypeDef item : innerTypes){this.addToInnerTypes(item);}} else { this.innerTypes = new ArrayList<TypeDefBuilder>();} return (A) this;
     }
 
@@ -1181,6 +1214,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(kind, packageName, name, comments, annotations, extendsList, implementsList, parameters, properties, constructors, methods, outerType, innerTypes, super.hashCode());
+    }
+
 
     public class AnnotationsNestedImpl<N> extends AnnotationRefFluentImpl<TypeDefFluent.AnnotationsNested<N>> implements TypeDefFluent.AnnotationsNested<N>,Nested<N>{
 
@@ -18,10 +18,16 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 public class TypeParamDefBuilder extends TypeParamDefFluentImpl<TypeParamDefBuilder> implements VisitableBuilder<TypeParamDef,TypeParamDefBuilder>{
 
     TypeParamDefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableTypeParamDef source;
 
     public TypeParamDefBuilder(){
             this(true);
@@ -43,6 +49,7 @@ public class TypeParamDefBuilder extends TypeParamDefFluentImpl<TypeParamDefBuil
             fluent.withName(instance.getName()); 
             fluent.withBounds(instance.getBounds()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeParamDef ? (EditableTypeParamDef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public TypeParamDefBuilder(TypeParamDef instance){
@@ -53,12 +60,21 @@ public class TypeParamDefBuilder extends TypeParamDefFluentImpl<TypeParamDefBuil
             this.withName(instance.getName()); 
             this.withBounds(instance.getBounds()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeParamDef ? (EditableTypeParamDef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableTypeParamDef build(){
-            EditableTypeParamDef buildable = new EditableTypeParamDef(fluent.getName(),fluent.getBounds(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableTypeParamDef(fluent.getName(),fluent.getBounds(),fluent.getAttributes());
+            }
+            String name = fluent.getName();
+            List<ClassRef> bounds = Sharing.list(fluent.getBounds(), source.getBounds());
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (name == source.getName() && bounds == source.getBounds() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableTypeParamDef(name,bounds,attributes);
     }
 
     public boolean equals(Object o){
@@ -72,6 +88,10 @@ public class TypeParamDefBuilder extends TypeParamDefFluentImpl<TypeParamDefBuil
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
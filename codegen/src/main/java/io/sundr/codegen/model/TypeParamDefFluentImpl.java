@@ -22,6 +22,7 @@ import io.sundr.builder.Predicate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends AttributeSupportFluentImpl<A> implements TypeParamDefFluent<A>{
 
@@ -84,11 +85,15 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
     }
 
     public A removeFromBounds(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromBounds(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     
@@ -125,7 +130,7 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
     }
 
     public A withBounds(List<ClassRef> bounds){
-            if (this.bounds != null) { _visitables.get("bounds").removeAll(this.bounds);}
+            if (this.bounds != null) { removeSame(_visitables.get("bounds"), this.bounds);}
             if (bounds != null) {this.bounds = new ArrayList<ClassRefBuilder>(); for (ClassRef item : bounds){this.addToBounds(item);}} else { this.bounds = new ArrayList<ClassRefBuilder>();} return (A) this;
     }
 
@@ -185,6 +190,10 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(name, bounds, super.hashCode());
+    }
+
 
     public class BoundsNestedImpl<N> extends ClassRefFluentImpl<TypeParamDefFluent.BoundsNested<N>> implements TypeParamDefFluent.BoundsNested<N>,Nested<N>{
 
@@ -18,10 +18,15 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Map;
+import java.util.Objects;
+
 public class TypeParamRefBuilder extends TypeParamRefFluentImpl<TypeParamRefBuilder> implements VisitableBuilder<TypeParamRef,TypeParamRefBuilder>{
 
     TypeParamRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableTypeParamRef source;
 
     public TypeParamRefBuilder(){
             this(true);
@@ -43,6 +48,7 @@ public class TypeParamRefBuilder extends TypeParamRefFluentImpl<TypeParamRefBuil
             fluent.withName(instance.getName()); 
             fluent.withDimensions(instance.getDimensions()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeParamRef ? (EditableTypeParamRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public TypeParamRefBuilder(TypeParamRef instance){
@@ -53,12 +59,21 @@ public class TypeParamRefBuilder extends TypeParamRefFluentImpl<TypeParamRefBuil
             this.withName(instance.getName()); 
             this.withDimensions(instance.getDimensions()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableTypeParamRef ? (EditableTypeParamRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableTypeParamRef build(){
-            EditableTypeParamRef buildable = new EditableTypeParamRef(fluent.getName(),fluent.getDimensions(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableTypeParamRef(fluent.getName(),fluent.getDimensions(),fluent.getAttributes());
+            }
+            String name = fluent.getName();
+            int dimensions = fluent.getDimensions();
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (name == source.getName() && dimensions == source.getDimensions() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableTypeParamRef(name,dimensions,attributes);
     }
 
     public boolean equals(Object o){
@@ -72,6 +87,10 @@ public class TypeParamRefBuilder extends TypeParamRefFluentImpl<TypeParamRefBuil
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
@@ -16,6 +16,8 @@
 
 package io.sundr.codegen.model;
 
+import java.util.Objects;
+
 public class TypeParamRefFluentImpl<A extends TypeParamRefFluent<A>> extends TypeRefFluentImpl<A> implements TypeParamRefFluent<A>{
 
     private String name;
@@ -75,6 +77,10 @@ public class TypeParamRefFluentImpl<A extends TypeParamRefFluent<A>> extends Typ
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(name, dimensions, super.hashCode());
+    }
+
 
 
 
@@ -16,6 +16,8 @@
 
 package io.sundr.codegen.model;
 
+import java.util.Objects;
+
 public class TypeRefFluentImpl<A extends TypeRefFluent<A>> extends AttributeSupportFluentImpl<A> implements TypeRefFluent<A>{
 
 
@@ -33,6 +35,10 @@ public class TypeRefFluentImpl<A extends TypeRefFluent<A>> extends AttributeSupp
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(super.hashCode());
+    }
+
 
 
 
@@ -18,10 +18,15 @@ package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
 
+import java.util.Map;
+import java.util.Objects;
+
 public class VoidRefBuilder extends VoidRefFluentImpl<VoidRefBuilder> implements VisitableBuilder<VoidRef,VoidRefBuilder>{
 
     VoidRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableVoidRef source;
 
     public VoidRefBuilder(){
             this(true);
@@ -41,6 +46,7 @@ public class VoidRefBuilder extends VoidRefFluentImpl<VoidRefBuilder> implements
     public VoidRefBuilder(VoidRefFluent<?> fluent,VoidRef instance,Boolean validationEnabled){
             this.fluent = fluent; 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableVoidRef ? (EditableVoidRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public VoidRefBuilder(VoidRef instance){
@@ -49,12 +55,19 @@ public class VoidRefBuilder extends VoidRefFluentImpl<VoidRefBuilder> implements
     public VoidRefBuilder(VoidRef instance,Boolean validationEnabled){
             this.fluent = this; 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableVoidRef ? (EditableVoidRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableVoidRef build(){
-            EditableVoidRef buildable = new EditableVoidRef(fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableVoidRef(fluent.getAttributes());
+            }
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableVoidRef(attributes);
     }
 
     public boolean equals(Object o){
@@ -68,6 +81,10 @@ public class VoidRefBuilder extends VoidRefFluentImpl<VoidRefBuilder> implements
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
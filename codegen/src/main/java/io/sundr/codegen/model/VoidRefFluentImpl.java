@@ -16,6 +16,8 @@
 
 package io.sundr.codegen.model;
 
+import java.util.Objects;
+
 public class VoidRefFluentImpl<A extends VoidRefFluent<A>> extends TypeRefFluentImpl<A> implements VoidRefFluent<A>{
 
 
@@ -33,6 +35,10 @@ public class VoidRefFluentImpl<A extends VoidRefFluent<A>> extends TypeRefFluent
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(super.hashCode());
+    }
+
 
 
 
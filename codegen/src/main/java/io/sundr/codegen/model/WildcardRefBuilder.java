@@ -1,6 +1,10 @@
 package io.sundr.codegen.model;
 
 import io.sundr.builder.VisitableBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.lang.Object;
 import java.lang.Boolean;
 
@@ -8,6 +12,8 @@ public class WildcardRefBuilder extends WildcardRefFluentImpl<WildcardRefBuilder
 
     WildcardRefFluent<?> fluent;
     Boolean validationEnabled;
+    //The instance this builder copies, if any.
+    EditableWildcardRef source;
 
     public WildcardRefBuilder(){
             this(true);
@@ -29,6 +35,7 @@ public class WildcardRefBuilder extends WildcardRefFluentImpl<WildcardRefBuilder
             fluent.withBoundKind(instance.getBoundKind()); 
             fluent.withBounds(instance.getBounds()); 
             fluent.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableWildcardRef ? (EditableWildcardRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
     public WildcardRefBuilder(WildcardRef instance){
@@ -39,12 +46,21 @@ public class WildcardRefBuilder extends WildcardRefFluentImpl<WildcardRefBuilder
             this.withBoundKind(instance.getBoundKind()); 
             this.withBounds(instance.getBounds()); 
             this.withAttributes(instance.getAttributes()); 
+            this.source = instance instanceof EditableWildcardRef ? (EditableWildcardRef) instance : null; 
             this.validationEnabled = validationEnabled; 
     }
 
     public EditableWildcardRef build(){
-            EditableWildcardRef buildable = new EditableWildcardRef(fluent.getBoundKind(),fluent.getBounds(),fluent.getAttributes());
-            return buildable;
+            if (source == null) {
+                return new EditableWildcardRef(fluent.getBoundKind(),fluent.getBounds(),fluent.getAttributes());
+            }
+            WildcardRef.BoundKind boundKind = fluent.getBoundKind();
+            List<TypeRef> bounds = Sharing.list(fluent.getBounds(), source.getBounds());
+            Map<AttributeKey,Object> attributes = Sharing.map(fluent.getAttributes(), source.attributes());
+            if (boundKind == source.getBoundKind() && bounds == source.getBounds() && attributes == source.attributes()) {
+                return source;
+            }
+            return new EditableWildcardRef(boundKind,bounds,attributes);
     }
 
     public boolean equals(Object o){
@@ -58,6 +74,10 @@ public class WildcardRefBuilder extends WildcardRefFluentImpl<WildcardRefBuilder
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(fluent != this ? fluent : null, validationEnabled, super.hashCode());
+    }
+
 
 
 
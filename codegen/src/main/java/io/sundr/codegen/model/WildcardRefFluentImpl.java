@@ -7,10 +7,10 @@ import java.util.ArrayList;
 import java.lang.String;
 import io.sundr.builder.Predicate;
 import java.lang.Deprecated;
-import java.util.Iterator;
 import java.util.List;
 import java.lang.Boolean;
 import java.util.Collection;
+import java.util.Objects;
 import java.lang.Object;
 
 public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeRefFluentImpl<A> implements WildcardRefFluent<A>{
@@ -100,38 +100,41 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromBounds(TypeRef... items){
-            for (TypeRef item : items) {if (item instanceof PrimitiveRef){removeFromPrimitiveRefBounds((PrimitiveRef)item);}
- else if (item instanceof VoidRef){removeFromVoidRefBounds((VoidRef)item);}
- else if (item instanceof WildcardRef){removeFromWildcardRefBounds((WildcardRef)item);}
- else if (item instanceof ClassRef){removeFromClassRefBounds((ClassRef)item);}
- else if (item instanceof TypeParamRef){removeFromTypeParamRefBounds((TypeParamRef)item);}
-
-            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); _visitables.get("bounds").remove(builder);this.bounds.remove(builder); }
-            } return (A)this;
+            List<VisitableBuilder<? extends TypeRef,?>> builders = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (TypeRef item : items) {if (item instanceof PrimitiveRef){builders.add(new PrimitiveRefBuilder((PrimitiveRef)item));}
+ else if (item instanceof VoidRef){builders.add(new VoidRefBuilder((VoidRef)item));}
+ else if (item instanceof WildcardRef){builders.add(new WildcardRefBuilder((WildcardRef)item));}
+ else if (item instanceof ClassRef){builders.add(new ClassRefBuilder((ClassRef)item));}
+ else if (item instanceof TypeParamRef){builders.add(new TypeParamRefBuilder((TypeParamRef)item));}
+
+            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromBounds(Collection<TypeRef> items){
-            for (TypeRef item : items) {if (item instanceof PrimitiveRef){removeFromPrimitiveRefBounds((PrimitiveRef)item);}
- else if (item instanceof VoidRef){removeFromVoidRefBounds((VoidRef)item);}
- else if (item instanceof WildcardRef){removeFromWildcardRefBounds((WildcardRef)item);}
- else if (item instanceof ClassRef){removeFromClassRefBounds((ClassRef)item);}
- else if (item instanceof TypeParamRef){removeFromTypeParamRefBounds((TypeParamRef)item);}
-
-            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); _visitables.get("bounds").remove(builder);this.bounds.remove(builder); }
-            } return (A)this;
+            List<VisitableBuilder<? extends TypeRef,?>> builders = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (TypeRef item : items) {if (item instanceof PrimitiveRef){builders.add(new PrimitiveRefBuilder((PrimitiveRef)item));}
+ else if (item instanceof VoidRef){builders.add(new VoidRefBuilder((VoidRef)item));}
+ else if (item instanceof WildcardRef){builders.add(new WildcardRefBuilder((WildcardRef)item));}
+ else if (item instanceof ClassRef){builders.add(new ClassRefBuilder((ClassRef)item));}
+ else if (item instanceof TypeParamRef){builders.add(new TypeParamRefBuilder((TypeParamRef)item));}
+
+            else {  VisitableBuilder<? extends TypeRef,?> builder = builderOf(item); builders.add(builder); }
+            }
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -169,7 +172,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A withBounds(List<TypeRef> bounds){
-            if (this.bounds != null) { _visitables.get("bounds").removeAll(this.bounds);}
+            if (this.bounds != null) { removeSame(_visitables.get("bounds"), this.bounds);}
             if (bounds != null) {this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef,?>>(); for (TypeRef item : bounds){this.addToBounds(item);}} else { this.bounds = null;} return (A) this;
     }
 
@@ -206,24 +209,27 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromPrimitiveRefBounds(PrimitiveRef... items){
-            for (PrimitiveRef item : items) {PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<PrimitiveRefBuilder> builders = new ArrayList<PrimitiveRefBuilder>();
+            for (PrimitiveRef item : items) {builders.add(new PrimitiveRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromPrimitiveRefBounds(Collection<PrimitiveRef> items){
-            for (PrimitiveRef item : items) {PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<PrimitiveRefBuilder> builders = new ArrayList<PrimitiveRefBuilder>();
+            for (PrimitiveRef item : items) {builders.add(new PrimitiveRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromPrimitiveRefBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -263,24 +269,27 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromVoidRefBounds(VoidRef... items){
-            for (VoidRef item : items) {VoidRefBuilder builder = new VoidRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<VoidRefBuilder> builders = new ArrayList<VoidRefBuilder>();
+            for (VoidRef item : items) {builders.add(new VoidRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromVoidRefBounds(Collection<VoidRef> items){
-            for (VoidRef item : items) {VoidRefBuilder builder = new VoidRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<VoidRefBuilder> builders = new ArrayList<VoidRefBuilder>();
+            for (VoidRef item : items) {builders.add(new VoidRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromVoidRefBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -320,24 +329,27 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromWildcardRefBounds(WildcardRef... items){
-            for (WildcardRef item : items) {WildcardRefBuilder builder = new WildcardRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<WildcardRefBuilder> builders = new ArrayList<WildcardRefBuilder>();
+            for (WildcardRef item : items) {builders.add(new WildcardRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromWildcardRefBounds(Collection<WildcardRef> items){
-            for (WildcardRef item : items) {WildcardRefBuilder builder = new WildcardRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<WildcardRefBuilder> builders = new ArrayList<WildcardRefBuilder>();
+            for (WildcardRef item : items) {builders.add(new WildcardRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromWildcardRefBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -377,24 +389,27 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromClassRefBounds(ClassRef... items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromClassRefBounds(Collection<ClassRef> items){
-            for (ClassRef item : items) {ClassRefBuilder builder = new ClassRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<ClassRefBuilder> builders = new ArrayList<ClassRefBuilder>();
+            for (ClassRef item : items) {builders.add(new ClassRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromClassRefBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -434,24 +449,27 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
 
     public A removeFromTypeParamRefBounds(TypeParamRef... items){
-            for (TypeParamRef item : items) {TypeParamRefBuilder builder = new TypeParamRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<TypeParamRefBuilder> builders = new ArrayList<TypeParamRefBuilder>();
+            for (TypeParamRef item : items) {builders.add(new TypeParamRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeAllFromTypeParamRefBounds(Collection<TypeParamRef> items){
-            for (TypeParamRef item : items) {TypeParamRefBuilder builder = new TypeParamRefBuilder(item);_visitables.get("bounds").remove(builder);if (this.bounds != null) {this.bounds.remove(builder);}} return (A)this;
+            List<TypeParamRefBuilder> builders = new ArrayList<TypeParamRefBuilder>();
+            for (TypeParamRef item : items) {builders.add(new TypeParamRefBuilder(item));}
+            removeEqual(_visitables.get("bounds"), builders);if (this.bounds != null) {removeEqual(this.bounds, builders);} return (A)this;
     }
 
     public A removeMatchingFromTypeParamRefBounds(Predicate<VisitableBuilder<? extends TypeRef,?>> predicate){
             if (bounds == null) return (A) this;
-            final Iterator<VisitableBuilder<? extends TypeRef,?>> each = bounds.iterator();
-            final List visitables = _visitables.get("bounds");
-            while (each.hasNext()) {
-              VisitableBuilder<? extends TypeRef,?> builder = each.next();
+            final List<VisitableBuilder<? extends TypeRef,?>> removed = new ArrayList<VisitableBuilder<? extends TypeRef,?>>();
+            for (VisitableBuilder<? extends TypeRef,?> builder : bounds) {
               if (predicate.apply(builder)) {
-                visitables.remove(builder);
-                each.remove();
+                removed.add(builder);
               }
             }
+            removeSame(_visitables.get("bounds"), removed);
+            removeSame(bounds, removed);
             return (A)this;
     }
 
@@ -477,6 +495,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
             return true;
     }
 
+    public int hashCode(){
+            return Objects.hash(boundKind, bounds, super.hashCode());
+    }
+
 
     public class PrimitiveRefBoundsNestedImpl<N> extends PrimitiveRefFluentImpl<WildcardRefFluent.PrimitiveRefBoundsNested<N>> implements WildcardRefFluent.PrimitiveRefBoundsNested<N>,Nested<N>{
 
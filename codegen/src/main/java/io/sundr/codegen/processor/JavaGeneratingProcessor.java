@@ -16,26 +16,131 @@
 
 package io.sundr.codegen.processor;
 
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.cache.TypeDefCache;
 import io.sundr.codegen.functions.Sources;
 import io.sundr.codegen.generator.CodeGeneratorBuilder;
 import io.sundr.codegen.generator.CodeGeneratorContext;
+import io.sundr.codegen.model.ClassRefBuilder;
 import io.sundr.codegen.model.TypeDef;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.FilerException;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
 import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
+import javax.tools.Diagnostic;
 import javax.tools.StandardLocation;
 
-import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public abstract class JavaGeneratingProcessor extends AbstractProcessor {
 
     private static final String SOURCE_SUFFIX = ".java";
 
+    public static final String CLASSREF_CACHE_SIZE_OPTION = "sundrio.classRefCache.maximumSize";
+    public static final String CLASSREF_CACHE_WEAK_VALUES_OPTION = "sundrio.classRefCache.weakValues";
+    public static final String GENERATION_THREADS_OPTION = "sundrio.generation.threads";
+    public static final String TYPEDEF_CACHE_DIRECTORY_OPTION = TypeDefCache.DIRECTORY_PROPERTY;
+
     protected CodeGeneratorContext context = new CodeGeneratorContext();
+    protected int generationThreads = 1;
+
+    private final Map<String, Set<Element>> originatingElements = new HashMap<String, Set<Element>>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        //Each compilation gets its own context, so that compilations running in the same JVM don't share state.
+        CodegenContext.create(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        Map<String, String> options = processingEnv.getOptions();
+        //The caches belong to the context of this compilation, so configuring them doesn't affect other compilations.
+        if (options.containsKey(CLASSREF_CACHE_SIZE_OPTION) || options.containsKey(CLASSREF_CACHE_WEAK_VALUES_OPTION)) {
+            ClassRefBuilder.configureCache(getIntOption(options, CLASSREF_CACHE_SIZE_OPTION, ClassRefBuilder.DEFAULT_CACHE_SIZE),
+                    Boolean.parseBoolean(options.get(CLASSREF_CACHE_WEAK_VALUES_OPTION)));
+        }
+
+        String typeDefCacheDirectory = options.get(TYPEDEF_CACHE_DIRECTORY_OPTION);
+        if (typeDefCacheDirectory != null && !typeDefCacheDirectory.isEmpty()) {
+            TypeDefCache.configure(new File(typeDefCacheDirectory));
+        }
+
+        int threads = getIntOption(options, GENERATION_THREADS_OPTION, generationThreads);
+        generationThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the value of an integer option, reporting a warning and using the default value if it's not a number.
+     * @param options       The processor options.
+     * @param name          The name of the option.
+     * @param defaultValue  The value to use if the option is not set or invalid.
+     * @return              The value of the option.
+     */
+    private int getIntOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Invalid value '" + value + "' for option " + name + ", expected an integer. Using " + defaultValue + " instead.");
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new HashSet<String>(super.getSupportedOptions());
+        options.add(CLASSREF_CACHE_SIZE_OPTION);
+        options.add(CLASSREF_CACHE_WEAK_VALUES_OPTION);
+        options.add(GENERATION_THREADS_OPTION);
+        options.add(TYPEDEF_CACHE_DIRECTORY_OPTION);
+        return options;
+    }
+
+    /**
+     * Records the elements that caused the specified type to be generated.
+     * These are passed to the {@link javax.annotation.processing.Filer} when the source file is created,
+     * so that build tools can track which sources need to be regenerated on incremental compilation.
+     * @param fullyQualifiedName    The fully qualified name of the generated type.
+     * @param elements              The originating elements.
+     */
+    protected void addOriginatingElements(String fullyQualifiedName, Collection<? extends Element> elements) {
+        Set<Element> existing = originatingElements.get(fullyQualifiedName);
+        if (existing == null) {
+            existing = new LinkedHashSet<Element>();
+            originatingElements.put(fullyQualifiedName, existing);
+        }
+        existing.addAll(elements);
+    }
+
+    /**
+     * Returns the elements that caused the specified type to be generated.
+     * @param fullyQualifiedName    The fully qualified name of the type.
+     * @return                      The originating elements, or an empty array if none are known.
+     */
+    protected Element[] getOriginatingElements(String fullyQualifiedName) {
+        Set<Element> elements = originatingElements.get(fullyQualifiedName);
+        return elements != null ? elements.toArray(new Element[elements.size()]) : new Element[0];
+    }
 
     /**
      * Generates a source file from the specified {@link io.sundr.codegen.model.TypeDef}.
@@ -47,7 +152,7 @@ public abstract class JavaGeneratingProcessor extends AbstractProcessor {
         try {
             generateFromResources(model, processingEnv
                     .getFiler()
-                    .createSourceFile(model.getFullyQualifiedName()), resourceName);
+                    .createSourceFile(model.getFullyQualifiedName(), getOriginatingElements(model.getFullyQualifiedName())), resourceName);
         } catch (FilerException e) {
             //TODO: Need to avoid dublicate interfaces here.
         }
@@ -78,6 +183,74 @@ public abstract class JavaGeneratingProcessor extends AbstractProcessor {
         }
     }
 
+    /**
+     * Generates a source file for each of the specified {@link io.sundr.codegen.model.TypeDef}.
+     * When more than one generation thread is configured, the sources are rendered concurrently,
+     * each with its own context, and then handed to the {@link javax.annotation.processing.Filer} in order.
+     *
+     * @param models                    The models of the classes to generate.
+     * @param resourceName              The template to use.
+     * @throws IOException              If it fails to create a source file.
+     */
+    public void generateFromResources(Collection<TypeDef> models, final String resourceName) throws IOException {
+        if (generationThreads <= 1 || models.size() <= 1) {
+            for (TypeDef model : models) {
+                generateFromResources(model, resourceName);
+            }
+            return;
+        }
+
+        List<TypeDef> toGenerate = new ArrayList<TypeDef>();
+        for (TypeDef model : models) {
+            if (classExists(model)) {
+                System.err.println("Skipping: " + model.getFullyQualifiedName()+ ". Class already exists.");
+            } else {
+                toGenerate.add(model);
+            }
+        }
+        if (toGenerate.isEmpty()) {
+            return;
+        }
+
+        //Compile the template once, before it's shared by the workers.
+        context.getTemplate(null, resourceName, null);
+        //The workers need to see the definitions of this compilation.
+        final CodegenContext codegenContext = CodegenContext.current();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(generationThreads, toGenerate.size()));
+        try {
+            List<Future<String>> rendered = new ArrayList<Future<String>>();
+            for (final TypeDef model : toGenerate) {
+                rendered.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        if (codegenContext == null) {
+                            return render(context.fork(), model, resourceName);
+                        }
+                        return codegenContext.call(new Callable<String>() {
+                            @Override
+                            public String call() throws Exception {
+                                return render(context.fork(), model, resourceName);
+                            }
+                        });
+                    }
+                }));
+            }
+
+            for (int i = 0; i < toGenerate.size(); i++) {
+                TypeDef model = toGenerate.get(i);
+                String source = get(rendered.get(i));
+                System.err.println("Generating: "+model.getFullyQualifiedName());
+                try (Writer writer = processingEnv.getFiler().createSourceFile(model.getFullyQualifiedName(), getOriginatingElements(model.getFullyQualifiedName())).openWriter()) {
+                    writer.write(source);
+                } catch (FilerException e) {
+                    //TODO: Need to avoid dublicate interfaces here.
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Generates a source file from the specified {@link io.sundr.codegen.model.TypeDef}.
      *
@@ -95,7 +268,7 @@ public abstract class JavaGeneratingProcessor extends AbstractProcessor {
             System.err.println("Skipping: " + newModel.getFullyQualifiedName()+ ". Class already exists.");
             return;
         }
-        generateFromStringTemplate(model, parameters, processingEnv.getFiler().createSourceFile(newModel.getFullyQualifiedName()), content);
+        generateFromStringTemplate(model, parameters, processingEnv.getFiler().createSourceFile(newModel.getFullyQualifiedName(), getOriginatingElements(model.getFullyQualifiedName())), content);
     }
 
     /**
@@ -179,13 +352,45 @@ public abstract class JavaGeneratingProcessor extends AbstractProcessor {
                     .build()
                     .generate();
 
-            ByteArrayInputStream bis = new ByteArrayInputStream(writer.toString().getBytes());
-            return Sources.FROM_INPUTSTEAM_TO_SINGLE_TYPEDEF.apply(bis);
+            //Parse the rendered buffer in place.
+            return Sources.FROM_CHARSEQUENCE_TO_SINGLE_TYPEDEF.apply(writer.getBuffer());
         } catch (IOException e) {
             return null;
         }
     }
 
+    private static <T> String render(CodeGeneratorContext context, T model, String resourceName) throws IOException {
+        try (StringWriter writer = new StringWriter()) {
+            new CodeGeneratorBuilder<T>()
+                    .withContext(context)
+                    .withModel(model)
+                    .withWriter(writer)
+                    .withTemplateResource(resourceName)
+                    .build()
+                    .generate();
+            return writer.toString();
+        }
+    }
+
+    private static String get(Future<String> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
     /**
      * Checks if class already exists.
      * @param typeDef   The type definition to check if exists.
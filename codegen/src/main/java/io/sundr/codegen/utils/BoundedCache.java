@@ -0,0 +1,187 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A thread safe cache, that evicts the least recently used entries once it grows past its maximum size.
+ * Values may optionally be weakly referenced, so that they can be garbage collected even if they are still cached.
+ * The cache is split into segments, each guarded by its own lock, to avoid a single point of contention.
+ * @param <K>   The key type.
+ * @param <V>   The value type.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final int maximumSize;
+    private final boolean weakValues;
+    private final List<Segment> segments;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a new cache.
+     * @param maximumSize   The maximum number of entries. A non-positive value disables eviction by size.
+     * @param weakValues    Whether values should be weakly referenced.
+     */
+    public BoundedCache(int maximumSize, boolean weakValues) {
+        this.maximumSize = maximumSize;
+        this.weakValues = weakValues;
+        this.segments = new ArrayList<Segment>(SEGMENTS);
+        int segmentSize = maximumSize > 0 ? Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS) : 0;
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new Segment(segmentSize));
+        }
+    }
+
+    /**
+     * Returns the value cached for the specified key, or null if there is none.
+     * @param key   The key.
+     * @return      The value or null.
+     */
+    public V get(K key) {
+        V value = segmentFor(key).get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value cached for the specified key, or caches and returns the one created by the supplier.
+     * The supplier is called without holding any lock, as creating a value may recursively use the cache.
+     * @param key       The key.
+     * @param supplier  The supplier of the value.
+     * @return          The cached value.
+     */
+    public V computeIfAbsent(K key, Supplier<V> supplier) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        return segmentFor(key).putIfAbsent(key, supplier.get());
+    }
+
+    /**
+     * Removes all entries. The statistics are not reset.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public boolean isWeakValues() {
+        return weakValues;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache{size=" + size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "}";
+    }
+
+    private Segment segmentFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments.get(h & (SEGMENTS - 1));
+    }
+
+    private final class Segment {
+
+        private final LinkedHashMap<K, Object> entries;
+
+        private Segment(final int maximumSize) {
+            this.entries = new LinkedHashMap<K, Object>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Object> eldest) {
+                    if (maximumSize > 0 && size() > maximumSize) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized V get(K key) {
+            Object value = entries.get(key);
+            if (value instanceof Reference) {
+                V referent = ((Reference<V>) value).get();
+                if (referent == null) {
+                    entries.remove(key);
+                    evictions.incrementAndGet();
+                }
+                return referent;
+            }
+            return (V) value;
+        }
+
+        private synchronized V putIfAbsent(K key, V value) {
+            V existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, weakValues ? new WeakReference<V>(value) : value);
+            return value;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.utils;
+
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * A {@link Reader} over a {@link CharSequence}, that reads the characters in place instead of copying them to a string.
+ */
+class CharSequenceReader extends Reader {
+
+    private final CharSequence chars;
+    private final int length;
+    private int position;
+
+    CharSequenceReader(CharSequence chars) {
+        this.chars = chars;
+        this.length = chars.length();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= length) {
+            return -1;
+        }
+        int n = Math.min(len, length - position);
+        int end = position + n;
+        if (chars instanceof String) {
+            ((String) chars).getChars(position, end, cbuf, off);
+        } else if (chars instanceof StringBuilder) {
+            ((StringBuilder) chars).getChars(position, end, cbuf, off);
+        } else if (chars instanceof StringBuffer) {
+            ((StringBuffer) chars).getChars(position, end, cbuf, off);
+        } else if (chars instanceof CharBuffer) {
+            CharBuffer buffer = ((CharBuffer) chars).duplicate();
+            buffer.position(buffer.position() + position);
+            buffer.get(cbuf, off, n);
+        } else {
+            for (int i = position; i < end; i++) {
+                cbuf[off++] = chars.charAt(i);
+            }
+        }
+        position = end;
+        return n;
+    }
+
+    @Override
+    public int read() {
+        return position < length ? chars.charAt(position++) : -1;
+    }
+
+    @Override
+    public long skip(long n) {
+        int skipped = (int) Math.min(Math.max(n, 0), length - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+    }
+}
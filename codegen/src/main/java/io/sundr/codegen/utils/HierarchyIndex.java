@@ -0,0 +1,174 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.utils;
+
+import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.model.Property;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeRef;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import static io.sundr.codegen.model.TypeDef.OBJECT;
+
+/**
+ * Caches the hierarchy, the inherited properties and the parents of registered definitions, by fully qualified name.
+ * Only the definitions currently registered in the {@link DefinitionRepository} are cached, as they are the ones that
+ * references resolve to. Results that depend on types that are not registered yet are not cached, as registering them
+ * changes the result. Each repository keeps its own index, which is dropped as soon as the repository replaces a definition.
+ */
+final class HierarchyIndex {
+
+    private final DefinitionRepository repository;
+    private final long version;
+    private final ConcurrentMap<String, Set<TypeDef>> hierarchies = new ConcurrentHashMap<String, Set<TypeDef>>();
+    private final ConcurrentMap<String, List<Property>> properties = new ConcurrentHashMap<String, List<Property>>();
+    private final ConcurrentMap<String, List<TypeDef>> parents = new ConcurrentHashMap<String, List<TypeDef>>();
+
+    private HierarchyIndex(DefinitionRepository repository) {
+        this.repository = repository;
+        this.version = repository.getVersion();
+    }
+
+    /**
+     * @return  The index for the current version of the current repository.
+     */
+    static HierarchyIndex getIndex() {
+        DefinitionRepository current = DefinitionRepository.getRepository();
+        Map<Class<?>, HierarchyIndex> indexes = current.getCache(HierarchyIndex.class, ConcurrentHashMap::new);
+        HierarchyIndex index = indexes.get(HierarchyIndex.class);
+        if (index == null || index.version != current.getVersion()) {
+            index = new HierarchyIndex(current);
+            indexes.put(HierarchyIndex.class, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the specified type along with all the types it extends.
+     * @param typeDef   The type.
+     * @return          An unmodifiable set with the hierarchy, which is empty for {@link Object}.
+     */
+    Set<TypeDef> getHierarchy(TypeDef typeDef) {
+        if (OBJECT.equals(typeDef)) {
+            return Collections.emptySet();
+        }
+        if (!isRegistered(typeDef)) {
+            return computeHierarchy(typeDef);
+        }
+        //The hierarchy of a type is computed from the hierarchy of its super types, so it can't be computed atomically.
+        Set<TypeDef> hierarchy = hierarchies.get(typeDef.getFullyQualifiedName());
+        if (hierarchy == null) {
+            hierarchy = computeHierarchy(typeDef);
+            if (isResolved(hierarchy)) {
+                hierarchies.putIfAbsent(typeDef.getFullyQualifiedName(), hierarchy);
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns the properties of the specified type, including the inherited ones.
+     * @param typeDef   The type.
+     * @return          An unmodifiable list with the properties.
+     */
+    List<Property> getProperties(TypeDef typeDef) {
+        if (!isRegistered(typeDef)) {
+            return computeProperties(getHierarchy(typeDef));
+        }
+        List<Property> result = properties.get(typeDef.getFullyQualifiedName());
+        if (result == null) {
+            Set<TypeDef> hierarchy = getHierarchy(typeDef);
+            result = computeProperties(hierarchy);
+            if (isResolved(hierarchy)) {
+                properties.putIfAbsent(typeDef.getFullyQualifiedName(), result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the registered definitions of the interfaces and the super classes of the specified type.
+     * @param typeDef   The type.
+     * @return          An unmodifiable list with the definitions, which contains null for types that are not registered.
+     */
+    List<TypeDef> getParents(TypeDef typeDef) {
+        if (!isRegistered(typeDef)) {
+            return computeParents(typeDef);
+        }
+        List<TypeDef> result = parents.get(typeDef.getFullyQualifiedName());
+        if (result == null) {
+            result = computeParents(typeDef);
+            if (!result.contains(null)) {
+                parents.putIfAbsent(typeDef.getFullyQualifiedName(), result);
+            }
+        }
+        return result;
+    }
+
+    private Set<TypeDef> computeHierarchy(TypeDef typeDef) {
+        Set<TypeDef> hierarchy = new HashSet<>();
+        hierarchy.add(typeDef);
+        hierarchy.addAll(typeDef.getExtendsList().stream().flatMap(s -> getHierarchy(s.getDefinition()).stream()).collect(Collectors.toSet()));
+        return Collections.unmodifiableSet(hierarchy);
+    }
+
+    private List<Property> computeProperties(Set<TypeDef> hierarchy) {
+        return Collections.unmodifiableList(hierarchy
+                .stream()
+                .flatMap(h -> h.getProperties().stream())
+                .collect(Collectors.toList()));
+    }
+
+    private List<TypeDef> computeParents(TypeDef typeDef) {
+        List<TypeDef> result = new ArrayList<>();
+        for (TypeRef ref : typeDef.getImplementsList()) {
+            result.add(repository.getDefinition(ref));
+        }
+        for (TypeRef ref : typeDef.getExtendsList()) {
+            result.add(repository.getDefinition(ref));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Checks if all the types of a hierarchy are registered, as stubs of missing types are replaced once they get registered.
+     */
+    private boolean isResolved(Set<TypeDef> hierarchy) {
+        for (TypeDef type : hierarchy) {
+            if (!isRegistered(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the type is the registered definition for its name, as only those can be cached.
+     */
+    private boolean isRegistered(TypeDef typeDef) {
+        return typeDef == repository.getDefinition(typeDef.getFullyQualifiedName());
+    }
+}
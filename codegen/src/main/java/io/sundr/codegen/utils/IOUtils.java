@@ -17,14 +17,28 @@
 package io.sundr.codegen.utils;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import javax.tools.FileObject;
 
 public class IOUtils {
 
+    //Smaller files are cheaper to read than to map.
+    private static final long MAPPING_THRESHOLD = 64 * 1024;
+    private static final int BUFFER_SIZE = 8192;
+
     /**
      * Closes multiple {@link Closeable} objects swallowing exceptions.
      * @param cloasebales   The {@link Closeable} objects.
@@ -43,5 +57,72 @@ public class IOUtils {
         }
     }
 
+    /**
+     * Reads and decodes the specified file, using the default charset.
+     * Large files are memory-mapped, so that the content is only copied when decoded.
+     * @param file  The file.
+     * @return      The decoded content.
+     */
+    public static CharBuffer read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer bytes;
+            if (size >= MAPPING_THRESHOLD) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    //read until the buffer is full
+                }
+                bytes.flip();
+            }
+            return Charset.defaultCharset().decode(bytes);
+        }
+    }
 
+    /**
+     * Reads and decodes the resource at the specified url, using the default charset.
+     * File urls are read via {@link #read(File)}, anything else is read from the stream into a single buffer.
+     * @param url   The url.
+     * @return      The decoded content.
+     */
+    public static CharBuffer read(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return read(new File(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                //fall back to the stream
+            }
+        }
+        try (InputStream is = url.openStream()) {
+            return read(is);
+        }
+    }
+
+    /**
+     * Reads and decodes the specified stream, using the default charset. The stream is not closed.
+     * @param is    The stream.
+     * @return      The decoded content.
+     */
+    public static CharBuffer read(InputStream is) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count = 0;
+        int read;
+        while ((read = is.read(buffer, count, buffer.length - count)) >= 0) {
+            count += read;
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        return Charset.defaultCharset().decode(ByteBuffer.wrap(buffer, 0, count));
+    }
+
+    /**
+     * Creates a {@link Reader} over the specified characters, without copying them.
+     * @param chars The characters.
+     * @return      The reader.
+     */
+    public static Reader reader(CharSequence chars) {
+        return new CharSequenceReader(chars);
+    }
 }
@@ -18,10 +18,8 @@ package io.sundr.codegen.utils;
 
 import io.sundr.Function;
 
-import java.io.BufferedReader;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -150,25 +148,11 @@ public final class StringUtils {
     }
 
     public static String loadResource(String resourceName) throws IOException {
-        InputStream is = null;
-        BufferedReader in = null;
-        try {
-            is = StringUtils.class.getClassLoader().getResourceAsStream(resourceName);
-            in = new BufferedReader(new InputStreamReader(is));
-            String line = null;
-            StringBuffer sb = new StringBuffer();
-            while ((line = in.readLine()) != null) {
-                sb.append(line).append("\n");
-            }
-            return sb.toString();
-        } finally {
-            if (in != null) {
-                in.close();
-            }
-            if (is != null) {
-                is.close();
-            }
+        URL url = StringUtils.class.getClassLoader().getResource(resourceName);
+        if (url == null) {
+            throw new FileNotFoundException("Resource: [" + resourceName + "] not found.");
         }
+        return loadResource(url);
     }
 
     public static final String loadResourceQuietly(URL resourceUrl) {
@@ -180,25 +164,39 @@ public final class StringUtils {
     }
 
     public static String loadResource(URL resourceUrl) throws IOException {
-        InputStream is = null;
-        BufferedReader in = null;
-        try {
-            is = resourceUrl.openStream();
-            in = new BufferedReader(new InputStreamReader(is));
-            String line = null;
-            StringBuffer sb = new StringBuffer();
-            while ((line = in.readLine()) != null) {
-                sb.append(line).append("\n");
-            }
-            return sb.toString();
-        } finally {
-            if (in != null) {
-                in.close();
-            }
-            if (is != null) {
-                is.close();
+        return toLines(IOUtils.read(resourceUrl));
+    }
+
+    /**
+     * Converts the line terminators to new lines and terminates the last line, as reading line by line would.
+     * @param chars The characters.
+     * @return      The string with the normalized lines.
+     */
+    private static String toLines(CharSequence chars) {
+        int length = chars.length();
+        int index = 0;
+        while (index < length && chars.charAt(index) != '\r') {
+            index++;
+        }
+        if (index == length && (length == 0 || chars.charAt(length - 1) == '\n')) {
+            return chars.toString();
+        }
+        StringBuilder sb = new StringBuilder(length + 1).append(chars, 0, index);
+        for (int i = index; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c == '\r') {
+                sb.append('\n');
+                if (i + 1 < length && chars.charAt(i + 1) == '\n') {
+                    i++;
+                }
+            } else {
+                sb.append(c);
             }
         }
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n') {
+            sb.append('\n');
+        }
+        return sb.toString();
     }
 
     /**
@@ -33,7 +33,6 @@ import io.sundr.codegen.model.TypeRef;
 
 import javax.lang.model.element.Modifier;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -41,10 +40,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-
-import static io.sundr.codegen.model.TypeDef.OBJECT;
-
 
 public final class TypeUtils {
 
@@ -422,28 +417,19 @@ public final class TypeUtils {
     /**
      * All properties (including inherited).
      * @param typeDef   The type.
-     * @return          A list with all properties.
+     * @return          An unmodifiable list with all properties.
      */
     public static List<Property> allProperties(TypeDef typeDef) {
-        return unrollHierarchy(typeDef)
-                .stream()
-                .flatMap(h -> h.getProperties().stream())
-                .collect(Collectors.toList());
+        return HierarchyIndex.getIndex().getProperties(typeDef);
     }
 
     /**
      * Unrolls the hierararchy of a specified type.
      * @param typeDef       The specified type.
-     * @return              A set that contains all the hierarching (including the specified type).
+     * @return              An unmodifiable set that contains all the hierarching (including the specified type).
      */
     public static Set<TypeDef> unrollHierarchy(TypeDef typeDef) {
-        if (OBJECT.equals(typeDef)) {
-            return new HashSet<>();
-        }
-        Set<TypeDef> hierarchy = new HashSet<>();
-        hierarchy.add(typeDef);
-        hierarchy.addAll(typeDef.getExtendsList().stream().flatMap(s -> unrollHierarchy(s.getDefinition()).stream()).collect(Collectors.toSet()));
-        return hierarchy;
+        return HierarchyIndex.getIndex().getHierarchy(typeDef);
     }
 
     /***
@@ -464,24 +450,27 @@ public final class TypeUtils {
     }
 
     public static void visitParents(TypeDef type, List<TypeDef> types) {
-        visitParents(type, types, new ArrayList<>());
+        visitParents(type, types, new HashSet<>());
     }
 
     public static void visitParents(TypeDef type, List<TypeDef> types, List<TypeDef> visited) {
+        Set<TypeDef> visitedSet = new HashSet<>(visited);
+        int size = types.size();
+        visitParents(type, types, visitedSet);
+        //Keep the visited list up to date for callers that reuse it.
+        visited.addAll(types.subList(size, types.size()));
+    }
+
+    private static void visitParents(TypeDef type, List<TypeDef> types, Set<TypeDef> visited) {
         if (type == null || JAVA_LANG_OBJECT.equals(type.getFullyQualifiedName())) {
             return;
         }
 
-        if (visited.contains(type)) {
+        if (!visited.add(type)) {
             return;
         }
 
-        visited.add(type);
-        List<TypeRef> allRefs = new ArrayList<>();
-        allRefs.addAll(type.getImplementsList());
-        allRefs.addAll(type.getExtendsList());
-        for (TypeRef ref : allRefs) {
-            TypeDef parent = DefinitionRepository.getRepository().getDefinition(ref);
+        for (TypeDef parent : HierarchyIndex.getIndex().getParents(type)) {
             visitParents(parent, types, visited);
         }
         types.add(type);
@@ -0,0 +1,96 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen;
+
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.junit.Test;
+
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class CodegenContextTest {
+
+    @Test
+    public void testContextsDontShareDefinitions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CodegenContext> first = executor.submit(() -> compile("First"));
+            Future<CodegenContext> second = executor.submit(() -> compile("Second"));
+
+            DefinitionRepository firstRepository = first.get().getDefinitionRepository();
+            DefinitionRepository secondRepository = second.get().getDefinitionRepository();
+            assertNotSame(firstRepository, secondRepository);
+            assertNotNull(firstRepository.getDefinition("test.context.First"));
+            assertNull(firstRepository.getDefinition("test.context.Second"));
+            assertNotNull(secondRepository.getDefinition("test.context.Second"));
+            assertNull(secondRepository.getDefinition("test.context.First"));
+
+            //Binding a context makes its repository the current one.
+            TypeDef found = first.get().call(() -> DefinitionRepository.getRepository().getDefinition("test.context.First"));
+            assertNotNull(found);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSameElementsShareContext() {
+        Elements elements = newElements();
+        CodegenContext context = CodegenContext.create(elements, null);
+        assertSame(context, CodegenContext.create(elements, null));
+        assertSame(context, CodegenContext.getContext());
+        assertSame(context.getDefinitionRepository(), DefinitionRepository.getRepository());
+    }
+
+    @Test
+    public void testUnboundThreadDoesntUseOtherContexts() throws Exception {
+        CodegenContext context = CodegenContext.create(newElements(), null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertNull(executor.submit(CodegenContext::current).get());
+            assertNotSame(context.getDefinitionRepository(), executor.submit(DefinitionRepository::getRepository).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRelease() {
+        CodegenContext context = CodegenContext.create(newElements(), null);
+        assertSame(context, CodegenContext.current());
+        CodegenContext.release();
+        assertNull(CodegenContext.current());
+        assertNotSame(context.getDefinitionRepository(), DefinitionRepository.getRepository());
+    }
+
+    private static CodegenContext compile(String name) {
+        CodegenContext context = CodegenContext.create(newElements(), null);
+        DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.context").withName(name).build());
+        return context;
+    }
+
+    private static Elements newElements() {
+        return (Elements) Proxy.newProxyInstance(CodegenContextTest.class.getClassLoader(), new Class[]{Elements.class},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen;
+
+import io.sundr.codegen.model.AttributeKey;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class DefinitionRepositoryTest {
+
+    private static final AttributeKey<Boolean> GENERATED = new AttributeKey<Boolean>("GENERATED", Boolean.class);
+    private static final AttributeKey<Boolean> OTHER = new AttributeKey<Boolean>("OTHER", Boolean.class);
+
+    @Test
+    public void testIndexedQueries() {
+        DefinitionRepository repository = DefinitionRepository.getRepository();
+        TypeDef first = new TypeDefBuilder().withPackageName("test.index").withName("First").build();
+        TypeDef second = new TypeDefBuilder().withPackageName("test.index").withName("Second").build();
+
+        repository.register(first, GENERATED);
+        repository.register(second, GENERATED, OTHER);
+
+        assertEquals(2, repository.getDefinitionsInPackage("test.index").size());
+        assertEquals(2, repository.getDefinitions(GENERATED).size());
+        Set<TypeDef> both = repository.getDefinitions(GENERATED, OTHER);
+        assertEquals(1, both.size());
+        assertEquals("test.index.Second", both.iterator().next().getFullyQualifiedName());
+        assertEquals(1, repository.getDefinitions("GENERATED", "OTHER").size());
+
+        //Replacing a definition updates the indexes.
+        repository.register(second);
+        assertTrue(repository.getDefinitions(OTHER).isEmpty());
+        assertEquals(Collections.emptySet(), repository.getDefinitionsInPackage("test.missing"));
+    }
+
+    @Test
+    public void testReferenceMapUpdates() {
+        DefinitionRepository repository = DefinitionRepository.getRepository();
+        repository.register(new TypeDefBuilder().withPackageName("test.refs.b").withName("Shared").build());
+        repository.updateReferenceMap();
+        Map<String, String> before = repository.getReferenceMap();
+        assertEquals("test.refs.b.Shared", before.get("Shared"));
+
+        //The lowest fully qualified name wins, custom mappings override definitions.
+        repository.register(new TypeDefBuilder().withPackageName("test.refs.a").withName("Shared").build());
+        repository.putCustomMapping("Custom", "test.refs.Custom");
+        assertEquals("test.refs.b.Shared", repository.getReferenceMap().get("Shared"));
+        repository.updateReferenceMap();
+        assertEquals("test.refs.a.Shared", repository.getReferenceMap().get("Shared"));
+        assertEquals("test.refs.Custom", repository.getReferenceMap().get("Custom"));
+        assertEquals("test.refs.b.Shared", before.get("Shared"));
+
+        repository.removeCustomMapping("Custom");
+        repository.updateReferenceMap();
+        assertFalse(repository.getReferenceMap().containsKey("Custom"));
+    }
+}
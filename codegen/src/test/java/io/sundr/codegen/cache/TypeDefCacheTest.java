@@ -0,0 +1,183 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.cache;
+
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.converters.ClassWithArray;
+import io.sundr.codegen.converters.SimpleClass;
+import io.sundr.codegen.functions.ClassTo;
+import io.sundr.codegen.model.AttributeKey;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.junit.Test;
+
+import javax.lang.model.util.Elements;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class TypeDefCacheTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        TypeDefCache.configure(directory);
+        try {
+            TypeDefCache cache = TypeDefCache.getCache();
+            assertNull(cache.get(Map.class));
+
+            TypeDef typeDef = ClassTo.TYPEDEF.apply(Map.class);
+            cache.put(Map.class, typeDef, Collections.<Class>singletonList(Map.Entry.class));
+
+            TypeDefCache.Entry entry = cache.get(Map.class);
+            assertNotNull(entry);
+            assertEquals(Arrays.asList(Map.Entry.class.getName()), entry.getReferences());
+
+            TypeDef cached = entry.getTypeDef();
+            assertEquals(typeDef.toString(), cached.toString());
+            assertEquals(typeDef.getParameters().toString(), cached.getParameters().toString());
+            assertEquals(typeDef.getMethods().toString(), cached.getMethods().toString());
+            assertEquals(typeDef.getProperties().toString(), cached.getProperties().toString());
+        } finally {
+            TypeDefCache.configure(null);
+        }
+    }
+
+    @Test
+    public void testChecksumMismatchIsAMiss() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        TypeDefCache cache = new TypeDefCache(directory, "generator");
+        cache.put(SimpleClass.class, ClassTo.TYPEDEF.apply(SimpleClass.class), Collections.<Class>emptyList());
+        assertNotNull(cache.get(SimpleClass.class));
+
+        Path file = entryOf(directory, SimpleClass.class);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(in.readInt());
+            out.writeUTF(in.readUTF());
+            out.writeUTF("0" + in.readUTF().substring(1).replace('0', '1'));
+            byte[] remaining = new byte[in.available()];
+            in.readFully(remaining);
+            out.write(remaining);
+        }
+        Files.write(file, bytes.toByteArray());
+        assertNull(cache.get(SimpleClass.class));
+    }
+
+    @Test
+    public void testCorruptEntryIsAMiss() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        TypeDefCache cache = new TypeDefCache(directory, "generator");
+        cache.put(SimpleClass.class, ClassTo.TYPEDEF.apply(SimpleClass.class), Collections.<Class>emptyList());
+
+        Path file = entryOf(directory, SimpleClass.class);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length / 2));
+        assertNull(cache.get(SimpleClass.class));
+    }
+
+    @Test
+    public void testEntriesAreKeyedByGenerator() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        new TypeDefCache(directory, "first").put(SimpleClass.class, ClassTo.TYPEDEF.apply(SimpleClass.class), Collections.<Class>emptyList());
+        assertNull(new TypeDefCache(directory, "second").get(SimpleClass.class));
+        assertNotNull(new TypeDefCache(directory, "first").get(SimpleClass.class));
+    }
+
+    @Test
+    public void testUnsupportedModelIsNotCached() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        TypeDefCache cache = new TypeDefCache(directory, "generator");
+        TypeDef typeDef = new TypeDefBuilder(ClassTo.TYPEDEF.apply(SimpleClass.class))
+                .addToAttributes(new AttributeKey<Object>("custom", Object.class), new Object())
+                .build();
+        cache.put(SimpleClass.class, typeDef, Collections.<Class>emptyList());
+        assertNull(cache.get(SimpleClass.class));
+    }
+
+    @Test
+    public void testCachedModelsAreRegistered() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        //Converting the class in a new compilation stores it in the cache.
+        CodegenContext first = newContext();
+        TypeDefCache cache = first.call(() -> {
+            TypeDefCache.configure(directory);
+            ClassTo.TYPEDEF.apply(SimpleClass.class);
+            return TypeDefCache.getCache();
+        });
+        TypeDefCache.Entry entry = cache.get(SimpleClass.class);
+        assertNotNull(entry);
+
+        //Mark the entry, so that we can tell it's been used.
+        cache.put(SimpleClass.class, new TypeDefBuilder(entry.getTypeDef()).withComments("cached").build(),
+                Collections.<Class>singletonList(ClassWithArray.class));
+
+        CodegenContext context = newContext();
+        TypeDef typeDef = context.call(() -> {
+            TypeDefCache.configure(directory);
+            return ClassTo.TYPEDEF.apply(SimpleClass.class);
+        });
+        assertEquals(Collections.singletonList("cached"), typeDef.getComments());
+        DefinitionRepository repository = context.getDefinitionRepository();
+        assertSame(typeDef, repository.getDefinition(SimpleClass.class.getName()));
+        assertNotNull(repository.getDefinition(ClassWithArray.class.getName()));
+    }
+
+    @Test
+    public void testCacheIsConfiguredPerCompilation() throws Exception {
+        File directory = Files.createTempDirectory("typedefs").toFile();
+        CodegenContext first = newContext();
+        first.call(() -> {
+            TypeDefCache.configure(directory);
+            return null;
+        });
+
+        //An other compilation in the same JVM doesn't use the directory of the first one.
+        CodegenContext second = newContext();
+        assertNull(second.call(TypeDefCache::getCache));
+        TypeDef typeDef = second.call(() -> ClassTo.TYPEDEF.apply(SimpleClass.class));
+        assertNotNull(typeDef);
+        assertNull(entryOf(directory, SimpleClass.class));
+        assertEquals(directory, first.call(TypeDefCache::getCache).getDirectory());
+    }
+
+    private static Path entryOf(File directory, Class type) throws Exception {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(p -> p.getFileName().toString().equals(type.getName() + ".typedef")).findFirst().orElse(null);
+        }
+    }
+
+    private static CodegenContext newContext() {
+        CodegenContext context = CodegenContext.create((Elements) Proxy.newProxyInstance(TypeDefCacheTest.class.getClassLoader(), new Class[]{Elements.class},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null), null);
+        CodegenContext.release();
+        return context;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.directives;
+
+import io.sundr.codegen.Constants;
+import io.sundr.codegen.generator.CodeGeneratorBuilder;
+import io.sundr.codegen.model.Kind;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.junit.Test;
+
+import javax.lang.model.element.Modifier;
+import java.io.StringWriter;
+
+import static io.sundr.codegen.model.Attributeable.INIT;
+import static io.sundr.codegen.utils.TypeUtils.modifiersToInt;
+import static org.junit.Assert.*;
+
+/**
+ * Compares the output of the class, method and field directives with the output they had when blocks were buffered.
+ */
+public class DirectivesTest {
+
+    private static final String TEMPLATE = "templates/directives.vm";
+    private static final String EMPTY_BLOCKS_TEMPLATE = "templates/empty-blocks.vm";
+
+    @Test
+    public void testClass() throws Exception {
+        assertEquals(PERSON, render(person(), TEMPLATE));
+    }
+
+    @Test
+    public void testInterface() throws Exception {
+        assertEquals(NAMED, render(named(), TEMPLATE));
+    }
+
+    @Test
+    public void testEmptyBlocks() throws Exception {
+        assertEquals(EMPTY_PERSON, render(person(), EMPTY_BLOCKS_TEMPLATE));
+        assertEquals(EMPTY_NAMED, render(named(), EMPTY_BLOCKS_TEMPLATE));
+    }
+
+    @Test
+    public void testClassBlockThatFails() throws Exception {
+        //The block is streamed, so what it rendered before failing is kept and the class is still closed.
+        StringWriter writer = new StringWriter();
+        new CodeGeneratorBuilder<TypeDef>()
+                .withModel(named())
+                .withWriter(writer)
+                .withTemplateContent("#class ($model)before#set($missing = $model.methods.get(5))after#end")
+                .build()
+                .generate();
+        assertEquals("public interface Named{\nbefore\n}\n", writer.toString());
+    }
+
+    private static TypeDef person() {
+        TypeDef listener = new TypeDefBuilder()
+                .withKind(Kind.INTERFACE)
+                .withPackageName("test.golden")
+                .withName("Listener")
+                .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                .addNewMethod()
+                    .withName("onChange")
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(Constants.VOID)
+                .endMethod()
+                .build();
+
+        return new TypeDefBuilder()
+                .withPackageName("test.golden")
+                .withName("Person")
+                .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.ABSTRACT))
+                .addNewProperty()
+                    .withName("name")
+                    .withTypeRef(Constants.STRING_REF)
+                    .withModifiers(modifiersToInt(Modifier.PRIVATE))
+                    .addToAttributes(INIT, "John")
+                .endProperty()
+                .addNewProperty()
+                    .withName("nick")
+                    .withTypeRef(Constants.STRING_REF)
+                    .withModifiers(modifiersToInt(Modifier.PRIVATE))
+                    .addToAttributes(INIT, "\"Doe\"")
+                .endProperty()
+                .addNewProperty()
+                    .withName("age")
+                    .withTypeRef(Constants.INT_REF)
+                    .withModifiers(modifiersToInt(Modifier.PRIVATE))
+                .endProperty()
+                .addNewProperty()
+                    .withName("count")
+                    .withTypeRef(Constants.INT_REF)
+                    .withModifiers(modifiersToInt(Modifier.PRIVATE))
+                    .addToAttributes(INIT, "0")
+                .endProperty()
+                .addNewConstructor()
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                    .withNewBlock()
+                        .addNewStringStatementStatement("this.age = 1;")
+                    .endBlock()
+                .endConstructor()
+                .addNewMethod()
+                    .withName("getName")
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(Constants.STRING_REF)
+                    .withNewBlock()
+                        .addNewStringStatementStatement("return name;")
+                    .endBlock()
+                .endMethod()
+                .addNewMethod()
+                    .withName("reset")
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(Constants.VOID)
+                    .withNewBlock()
+                    .endBlock()
+                .endMethod()
+                .addNewMethod()
+                    .withName("describe")
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.ABSTRACT))
+                    .withReturnType(Constants.STRING_REF)
+                    .withNewBlock()
+                        .addNewStringStatementStatement("return null;")
+                    .endBlock()
+                .endMethod()
+                .addToInnerTypes(listener)
+                .build();
+    }
+
+    private static TypeDef named() {
+        return new TypeDefBuilder()
+                .withKind(Kind.INTERFACE)
+                .withPackageName("test.golden")
+                .withName("Named")
+                .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                .addNewMethod()
+                    .withName("getName")
+                    .withModifiers(modifiersToInt(Modifier.PUBLIC))
+                    .withReturnType(Constants.STRING_REF)
+                    .withNewBlock()
+                        .addNewStringStatementStatement("return null;")
+                    .endBlock()
+                .endMethod()
+                .build();
+    }
+
+    private static String render(TypeDef model, String template) throws Exception {
+        StringWriter writer = new StringWriter();
+        new CodeGeneratorBuilder<TypeDef>()
+                .withModel(model)
+                .withWriter(writer)
+                .withTemplateResource(template)
+                .build()
+                .generate();
+        return writer.toString();
+    }
+
+    private static final String PERSON = "package test.golden;\n"
+            + "\n"
+            + "import java.lang.String;\n"
+            + "\n"
+            + "public abstract class Person{\n"
+            + "\n"
+            + "    private String name = \"John\";\n"
+            + "    private String nick = \"Doe\";\n"
+            + "    private int age;\n"
+            + "    private int count = 0;\n"
+            + "\n"
+            + "    public Person(){\n"
+            + "            this.age = 1;\n"
+            + "    }\n"
+            + "\n"
+            + "    public String getName(){\n"
+            + "            return name;\n"
+            + "    }\n"
+            + "\n"
+            + "    public void reset(){\n"
+            + "    }\n"
+            + "\n"
+            + "    public abstract String describe();\n"
+            + "\n"
+            + "    public interface Listener{\n"
+            + "\n"
+            + "        \n"
+            + "    public void onChange();\n"
+            + "}\n"
+            + "\n"
+            + "\n"
+            + "}\n";
+
+    private static final String NAMED = "package test.golden;\n"
+            + "\n"
+            + "import java.lang.String;\n"
+            + "\n"
+            + "public interface Named{\n"
+            + "\n"
+            + "\n"
+            + "    public String getName();\n"
+            + "\n"
+            + "\n"
+            + "\n"
+            + "}\n";
+
+    private static final String EMPTY_PERSON = "public abstract class Person{\n"
+            + "    public String getName();    public void reset();    public abstract String describe();\n"
+            + "}\n";
+
+    private static final String EMPTY_NAMED = "public interface Named{\n"
+            + "    public String getName();\n"
+            + "}\n";
+}
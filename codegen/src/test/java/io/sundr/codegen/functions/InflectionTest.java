@@ -0,0 +1,55 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.functions;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class InflectionTest {
+
+    /**
+     * Checks {@link Pluralize} and {@link Singularize} against the results recorded from the regular expression based implementation.
+     * Each line of the golden file contains a word, its plural and its singular, separated by tabs.
+     */
+    @Test
+    public void testGoldenFile() throws Exception {
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("/inflections.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t", -1);
+                assertEquals("Plural of " + parts[0], parts[1], Pluralize.FUNCTION.apply(parts[0]));
+                assertEquals("Singular of " + parts[0], parts[2], Singularize.FUNCTION.apply(parts[0]));
+                //Cached results must be the same.
+                assertEquals(parts[1], Pluralize.FUNCTION.apply(parts[0]));
+                count++;
+            }
+        }
+        assertTrue(count > 1000);
+    }
+
+    @Test
+    public void testTrailingLineTerminator() {
+        assertEquals("box\n", Singularize.FUNCTION.apply("boxes\n"));
+        assertEquals("vertices\n", Pluralize.FUNCTION.apply("vertex\n"));
+    }
+}
@@ -18,12 +18,25 @@ package io.sundr.codegen.functions;
 
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.TypeDeclaration;
+import io.sundr.codegen.DefinitionRepository;
 import io.sundr.codegen.model.TypeDef;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 public class PareserTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testParser() throws Exception {
 
@@ -36,4 +49,47 @@ public class PareserTest {
             System.out.print(typeDef);
         }
     }
+
+    @Test
+    public void testParseAllFromClasspath() throws Exception {
+        List<TypeDef> typeDefs = Sources.FROM_CLASSPATH_TO_TYPEDEFS.apply(Arrays.asList(
+                "io/sundr/builder/Visitor.java",
+                "io/sundr/builder/BaseFluent.java",
+                "io/sundr/builder/Builder.java"));
+
+        Assert.assertEquals(3, typeDefs.size());
+        //Sources are converted in the order of their names.
+        Assert.assertEquals("io.sundr.builder.BaseFluent", typeDefs.get(0).getFullyQualifiedName());
+        Assert.assertEquals("io.sundr.builder.Builder", typeDefs.get(1).getFullyQualifiedName());
+        Assert.assertEquals("io.sundr.builder.Visitor", typeDefs.get(2).getFullyQualifiedName());
+        for (TypeDef typeDef : typeDefs) {
+            Assert.assertSame(typeDef, DefinitionRepository.getRepository().getDefinition(typeDef.getFullyQualifiedName()));
+        }
+    }
+
+    @Test
+    public void testParseAllFromDirectory() throws Exception {
+        File root = folder.newFolder("sources");
+        for (int i = 0; i < 20; i++) {
+            write(new File(root, "test/parse/Type" + i + ".java"), "package test.parse; public class Type" + i + " { private String name; } class Hidden" + i + " { }");
+        }
+        write(new File(root, "test/parse/README.txt"), "Not a source.");
+
+        List<TypeDef> typeDefs = Sources.FROM_DIRECTORY_TO_TYPEDEFS.apply(root);
+        Assert.assertEquals(40, typeDefs.size());
+        //Type10.java sorts before Type2.java, and each source keeps the order of its types.
+        Assert.assertEquals("test.parse.Type0", typeDefs.get(0).getFullyQualifiedName());
+        Assert.assertEquals("test.parse.Hidden0", typeDefs.get(1).getFullyQualifiedName());
+        Assert.assertEquals("test.parse.Type1", typeDefs.get(2).getFullyQualifiedName());
+        Assert.assertEquals("test.parse.Type10", typeDefs.get(4).getFullyQualifiedName());
+        Assert.assertEquals(1, typeDefs.get(4).getProperties().size());
+        Assert.assertNotNull(DefinitionRepository.getRepository().getDefinition("test.parse.Hidden19"));
+    }
+
+    private static void write(File file, String content) throws Exception {
+        file.getParentFile().mkdirs();
+        try (OutputStream os = new FileOutputStream(file)) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.generator;
+
+import org.apache.velocity.Template;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class CodeGeneratorContextTest {
+
+    @Test
+    public void testTemplatesAreCompiledOnce() throws Exception {
+        CodeGeneratorContext context = new CodeGeneratorContext();
+        Template first = context.getTemplate(null, null, "Hello $model");
+        Template second = context.getTemplate(null, null, "Hello $model");
+        Template other = context.getTemplate(null, null, "Bye $model");
+        assertSame(first, second);
+        assertNotSame(first, other);
+
+        StringWriter writer = new StringWriter();
+        Set directives = Collections.emptySet();
+        new CodeGenerator<String>(context, "World", new String[0], writer, null, null, "Hello $model", directives).generate();
+        assertEquals("Hello World", writer.toString());
+    }
+}
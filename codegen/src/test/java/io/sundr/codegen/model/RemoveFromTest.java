@@ -0,0 +1,61 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class RemoveFromTest {
+
+    static final TypeRef INT = new PrimitiveRefBuilder().withName("int").build();
+
+    @Test
+    public void testEqualBuildersHaveEqualHashCodes() {
+        Property property = new PropertyBuilder().withName("count").withTypeRef(INT).build();
+        PropertyBuilder first = new PropertyBuilder(property);
+        PropertyBuilder second = new PropertyBuilder(property);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testRemoveManyFromProperties() {
+        List<Property> properties = new ArrayList<Property>();
+        for (int i = 0; i < 10000; i++) {
+            properties.add(new PropertyBuilder().withName("p" + i).withTypeRef(INT).build());
+        }
+        TypeDefBuilder builder = new TypeDefBuilder().withName("Many").withProperties(properties);
+
+        List<Property> odd = new ArrayList<Property>();
+        for (int i = 1; i < properties.size(); i += 2) {
+            odd.add(properties.get(i));
+        }
+        builder.removeAllFromProperties(odd);
+
+        List<Property> remaining = builder.buildProperties();
+        assertEquals(5000, remaining.size());
+        assertEquals("p0", remaining.get(0).getName());
+        assertEquals("p9998", remaining.get(4999).getName());
+
+        builder.withProperties(properties.subList(0, 10));
+        assertEquals(10, builder.buildProperties().size());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.model;
+
+import io.sundr.builder.TypedVisitor;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SharingTest {
+
+    static final TypeDef STRING = new TypeDefBuilder().withPackageName("java.lang").withName("String").build();
+
+    TypeDef type = new TypeDefBuilder()
+            .withPackageName("test.sharing")
+            .withName("Shared")
+            .addNewProperty()
+                .withName("name")
+                .withTypeRef(STRING.toReference())
+            .endProperty()
+            .addNewProperty()
+                .withName("count")
+                .withTypeRef(new PrimitiveRefBuilder().withName("int").build())
+            .endProperty()
+            .addNewMethod()
+                .withName("getName")
+                .withReturnType(STRING.toReference())
+                .withNewBlock()
+                    .addNewStringStatementStatement("return name;")
+                .endBlock()
+            .endMethod()
+            .build();
+
+    @Test
+    public void testUnchangedCopyIsShared() {
+        assertSame(type, new TypeDefBuilder(type).build());
+    }
+
+    @Test
+    public void testOnlyEditedBranchesAreRebuilt() {
+        TypeDef renamed = new TypeDefBuilder(type).withName("Renamed").build();
+        assertNotSame(type, renamed);
+        assertEquals("Renamed", renamed.getName());
+        assertSame(type.getProperties(), renamed.getProperties());
+        assertSame(type.getMethods(), renamed.getMethods());
+
+        TypeDef edited = new TypeDefBuilder(type).editFirstProperty().withName("label").endProperty().build();
+        assertEquals("label", edited.getProperties().get(0).getName());
+        assertNotSame(type.getProperties(), edited.getProperties());
+        assertSame(type.getProperties().get(1), edited.getProperties().get(1));
+        assertSame(type.getMethods(), edited.getMethods());
+        assertEquals("name", type.getProperties().get(0).getName());
+    }
+
+    @Test
+    public void testVisitedBranchesAreRebuilt() {
+        TypeDef visited = new TypeDefBuilder(type).accept(new TypedVisitor<PrimitiveRefBuilder>() {
+            @Override
+            public void visit(PrimitiveRefBuilder builder) {
+                builder.withName("long");
+            }
+        }).build();
+
+        assertEquals("long", ((PrimitiveRef) visited.getProperties().get(1).getTypeRef()).getName());
+        assertSame(type.getProperties().get(0), visited.getProperties().get(0));
+        assertEquals("int", ((PrimitiveRef) type.getProperties().get(1).getTypeRef()).getName());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.model;
+
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.DefinitionRepository;
+import org.junit.Test;
+
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class TypeDefTest {
+
+    @Test
+    public void testImportsFollowDefinitionsRegisteredLater() throws Exception {
+        //A reference created in the scope of an other compilation, which carries a stub of the nested type.
+        CodegenContext other = CodegenContext.create(newElements(), null);
+        CodegenContext.release();
+        ClassRef inner = other.call(() -> new TypeDefBuilder().withPackageName("test.imports.Outer").withName("Inner").build().toReference());
+
+        TypeDef owner = new TypeDefBuilder()
+                .withPackageName("test.imports.Outer")
+                .withName("Owner")
+                .addNewProperty()
+                    .withName("inner")
+                    .withTypeRef(inner)
+                .endProperty()
+                .build();
+        assertEquals(Collections.emptySet(), owner.getImports());
+
+        TypeDef outer = new TypeDefBuilder().withPackageName("test.imports").withName("Outer").build();
+        DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.imports").withOuterType(outer).withName("Inner").build());
+        assertEquals(Collections.singleton("test.imports.Outer.Inner"), owner.getImports());
+        //Once all the references are registered, the imports are reused.
+        assertSame(owner.getImports(), owner.getImports());
+    }
+
+    @Test
+    public void testImportsFollowReplacedDefinitions() {
+        TypeDef target = DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.replaced").withName("Target").build());
+        TypeDef owner = new TypeDefBuilder()
+                .withPackageName("test.replaced")
+                .withName("Owner")
+                .addNewProperty()
+                    .withName("target")
+                    .withTypeRef(target.toReference())
+                .endProperty()
+                .build();
+        assertEquals(Collections.emptySet(), owner.getImports());
+
+        TypeDef outer = new TypeDefBuilder().withPackageName("test").withName("replaced").build();
+        DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test").withOuterType(outer).withName("Target").build());
+        assertEquals(Collections.singleton("test.replaced.Target"), owner.getImports());
+    }
+
+    private static Elements newElements() {
+        return (Elements) Proxy.newProxyInstance(TypeDefTest.class.getClassLoader(), new Class[]{Elements.class},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.processor;
+
+import io.sundr.codegen.CodegenContext;
+import io.sundr.codegen.model.ClassRefBuilder;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class JavaGeneratingProcessorTest {
+
+    private final List<String> messages = new ArrayList<String>();
+
+    @After
+    public void tearDown() {
+        CodegenContext.release();
+    }
+
+    @Test
+    public void testInvalidOptionsAreReported() {
+        Map<String, String> options = new HashMap<String, String>();
+        options.put(JavaGeneratingProcessor.CLASSREF_CACHE_SIZE_OPTION, "lots");
+        options.put(JavaGeneratingProcessor.GENERATION_THREADS_OPTION, "two");
+
+        TestProcessor processor = new TestProcessor();
+        processor.init(newProcessingEnvironment(options));
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(0).contains(JavaGeneratingProcessor.CLASSREF_CACHE_SIZE_OPTION));
+        assertTrue(messages.get(1).contains(JavaGeneratingProcessor.GENERATION_THREADS_OPTION));
+        assertEquals(ClassRefBuilder.DEFAULT_CACHE_SIZE, ClassRefBuilder.getCache().getMaximumSize());
+        assertEquals(1, processor.generationThreads);
+    }
+
+    @Test
+    public void testCacheIsConfiguredPerCompilation() {
+        Map<String, String> options = new HashMap<String, String>();
+        options.put(JavaGeneratingProcessor.CLASSREF_CACHE_SIZE_OPTION, "10");
+        new TestProcessor().init(newProcessingEnvironment(options));
+        CodegenContext first = CodegenContext.current();
+        assertEquals(10, ClassRefBuilder.getCache().getMaximumSize());
+
+        //A compilation that starts later doesn't reconfigure the cache of the first one.
+        new TestProcessor().init(newProcessingEnvironment(new HashMap<String, String>()));
+        assertEquals(ClassRefBuilder.DEFAULT_CACHE_SIZE, ClassRefBuilder.getCache().getMaximumSize());
+        assertNotSame(first, CodegenContext.current());
+        CodegenContext.release();
+        assertEquals(Integer.valueOf(10), call(first));
+    }
+
+    @Test
+    public void testConcurrentGenerationWhenAllClassesExist() throws Exception {
+        Map<String, String> options = new HashMap<String, String>();
+        options.put(JavaGeneratingProcessor.GENERATION_THREADS_OPTION, "2");
+        TestProcessor processor = new TestProcessor();
+        processor.init(newProcessingEnvironment(options));
+
+        //Both classes are on the classpath, so there is nothing left to generate.
+        List<TypeDef> models = Arrays.asList(
+                new TypeDefBuilder().withPackageName("java.lang").withName("String").build(),
+                new TypeDefBuilder().withPackageName("java.util").withName("List").build());
+        processor.generateFromResources(models, "templates/directives.vm");
+        assertTrue(messages.isEmpty());
+    }
+
+    private static Integer call(CodegenContext context) {
+        try {
+            return context.call(() -> ClassRefBuilder.getCache().getMaximumSize());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ProcessingEnvironment newProcessingEnvironment(Map<String, String> options) {
+        final Elements elements = proxy(Elements.class);
+        final Messager messager = (Messager) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Messager.class},
+                (p, method, args) -> messages.add(String.valueOf(args[1])));
+        return (ProcessingEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{ProcessingEnvironment.class},
+                (p, method, args) -> {
+                    switch (method.getName()) {
+                        case "getOptions":
+                            return options;
+                        case "getMessager":
+                            return messager;
+                        case "getElementUtils":
+                            return elements;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static <T> T proxy(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(JavaGeneratingProcessorTest.class.getClassLoader(), new Class[]{type},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null));
+    }
+
+    private static class TestProcessor extends JavaGeneratingProcessor {
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.codegen.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        BoundedCache<String, String> cache = new BoundedCache<>(100, false);
+        assertEquals("one", cache.computeIfAbsent("1", () -> "one"));
+        assertEquals("one", cache.computeIfAbsent("1", () -> "uno"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("1"));
+    }
+
+    @Test
+    public void testEviction() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(32, false);
+        for (int i = 0; i < 1000; i++) {
+            cache.computeIfAbsent(i, () -> 0);
+        }
+        assertTrue(cache.size() <= 32);
+        assertEquals(1000 - cache.size(), cache.getEvictions());
+    }
+}
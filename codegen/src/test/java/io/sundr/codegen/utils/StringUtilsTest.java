@@ -16,13 +16,25 @@
 
 package io.sundr.codegen.utils;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
 
 import static io.sundr.codegen.utils.StringUtils.*;
 import static org.junit.Assert.*;
 
 public class StringUtilsTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testCompact() throws Exception {
         assertEquals("withDefaultContact", compact("withDefaultContactContact"));
@@ -52,4 +64,44 @@ public class StringUtilsTest {
         assertEquals("$_Dog", capitalizeFirst("$_dog"));
         assertEquals("1Dog", capitalizeFirst("1dog"));
     }
+
+    @Test
+    public void testLoadResourceNormalizesLines() throws Exception {
+        assertEquals("", load(""));
+        assertEquals("a\n", load("a"));
+        assertEquals("a\nb\n", load("a\nb\n"));
+        assertEquals("a\nb\n\nc\n", load("a\r\nb\r\rc"));
+        assertEquals("\n\n", load("\n\n"));
+    }
+
+    @Test
+    public void testLoadLargeResource() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 200 * 1024; i++) {
+            sb.append("line ").append(i).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        assertEquals(sb.toString().replace("\r\n", "\n"), load(sb.toString()));
+    }
+
+    @Test
+    public void testCharSequenceReader() throws Exception {
+        StringBuilder sb = new StringBuilder("some characters");
+        char[] buffer = new char[4];
+        StringBuilder result = new StringBuilder();
+        try (Reader reader = IOUtils.reader(sb)) {
+            int read;
+            while ((read = reader.read(buffer, 0, buffer.length)) >= 0) {
+                result.append(buffer, 0, read);
+            }
+        }
+        assertEquals("some characters", result.toString());
+    }
+
+    private String load(String content) throws IOException {
+        File file = folder.newFile();
+        try (OutputStream os = new FileOutputStream(file)) {
+            os.write(content.getBytes(Charset.defaultCharset()));
+        }
+        return loadResource(file.toURI().toURL());
+    }
 }
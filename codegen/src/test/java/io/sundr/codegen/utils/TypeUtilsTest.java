@@ -16,10 +16,19 @@
 
 package io.sundr.codegen.utils;
 
+import io.sundr.codegen.CodegenContext;
 import io.sundr.codegen.Constants;
+import io.sundr.codegen.DefinitionRepository;
+import io.sundr.codegen.model.ClassRef;
+import io.sundr.codegen.model.PropertyBuilder;
+import io.sundr.codegen.model.TypeDef;
+import io.sundr.codegen.model.TypeDefBuilder;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.lang.model.util.Elements;
+import java.lang.reflect.Proxy;
+
 import static org.junit.Assert.*;
 
 public class TypeUtilsTest {
@@ -29,4 +38,74 @@ public class TypeUtilsTest {
         Assert.assertTrue(TypeUtils.isBoolean(Constants.BOOLEAN_REF));
         Assert.assertTrue(TypeUtils.isBoolean(Constants.PRIMITIVE_BOOLEAN_REF));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void allPropertiesFollowsReplacedDefinitions() {
+        TypeDef base = new TypeDefBuilder().withPackageName("test.hierarchy").withName("Base")
+                .addToProperties(new PropertyBuilder().withName("first").withTypeRef(Constants.STRING_REF).build())
+                .build();
+        DefinitionRepository.getRepository().register(base);
+        TypeDef child = DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.hierarchy").withName("Child")
+                .addToExtendsList(base.toInternalReference())
+                .build());
+
+        assertEquals(2, TypeUtils.unrollHierarchy(child).size());
+        assertEquals(1, TypeUtils.allProperties(child).size());
+
+        DefinitionRepository.getRepository().register(new TypeDefBuilder(base)
+                .addToProperties(new PropertyBuilder().withName("second").withTypeRef(Constants.STRING_REF).build())
+                .build());
+        assertEquals(2, TypeUtils.allProperties(child).size());
+    }
+
+    @Test
+    public void allPropertiesFollowsBasesRegisteredLater() throws Exception {
+        TypeDef base = new TypeDefBuilder().withPackageName("test.hierarchy.late").withName("Base")
+                .addToProperties(new PropertyBuilder().withName("first").withTypeRef(Constants.STRING_REF).build())
+                .build();
+        //References register their definition, so create the one to the base in the scope of an other compilation.
+        CodegenContext other = CodegenContext.create(newElements(), null);
+        CodegenContext.release();
+        ClassRef baseRef = other.call(() -> new TypeDefBuilder(base).withProperties().build().toInternalReference());
+        ClassRef otherRef = other.call(() -> new TypeDefBuilder().withPackageName("test.hierarchy.late").withName("Other").build().toInternalReference());
+
+        TypeDef child = DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.hierarchy.late").withName("Child")
+                .addToExtendsList(baseRef)
+                .addToImplementsList(otherRef)
+                .build());
+
+        assertEquals(0, TypeUtils.allProperties(child).size());
+        assertNull(HierarchyIndex.getIndex().getParents(child).get(0));
+
+        DefinitionRepository.getRepository().register(base);
+        TypeDef otherDef = DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.hierarchy.late").withName("Other").build());
+        assertEquals(1, TypeUtils.allProperties(child).size());
+        assertTrue(TypeUtils.unrollHierarchy(child).contains(base));
+        assertSame(otherDef, HierarchyIndex.getIndex().getParents(child).get(0));
+    }
+
+    @Test
+    public void hierarchyIndexIsKeptPerRepository() throws Exception {
+        CodegenContext first = CodegenContext.create(newElements(), null);
+        CodegenContext second = CodegenContext.create(newElements(), null);
+        CodegenContext.release();
+
+        HierarchyIndex index = first.call(HierarchyIndex::getIndex);
+        assertNotSame(index, second.call(HierarchyIndex::getIndex));
+        //Using an other compilation in between doesn't drop the index.
+        assertSame(index, first.call(HierarchyIndex::getIndex));
+
+        //Replacing a definition does.
+        first.call(() -> DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.hierarchy.index").withName("Type").build()));
+        assertSame(index, first.call(HierarchyIndex::getIndex));
+        first.call(() -> DefinitionRepository.getRepository().register(new TypeDefBuilder().withPackageName("test.hierarchy.index").withName("Type")
+                .addToProperties(new PropertyBuilder().withName("name").withTypeRef(Constants.STRING_REF).build())
+                .build()));
+        assertNotSame(index, first.call(HierarchyIndex::getIndex));
+    }
+
+    private static Elements newElements() {
+        return (Elements) Proxy.newProxyInstance(TypeUtilsTest.class.getClassLoader(), new Class[]{Elements.class},
+                (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0] : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null);
+    }
+}
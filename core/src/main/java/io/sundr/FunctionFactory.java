@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FunctionFactory<X,Y> implements Function<X,Y> {
 
@@ -34,7 +35,15 @@ public class FunctionFactory<X,Y> implements Function<X,Y> {
     private final Stack<X> ownStack;
     private static final Stack globalStack = new Stack();
 
+    //Used instead of the stacks, when running concurrently.
+    private final ThreadLocal<Map<X, int[]>> ownLevels;
+    private static final ThreadLocal<int[]> globalDepth = ThreadLocal.withInitial(() -> new int[1]);
+
     public FunctionFactory(Map<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Function<X, Boolean> fallbackPredicate, int maximumRecursionLevel, int maximumNestingDepth, Stack<X> ownStack) {
+        this(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack, null);
+    }
+
+    public FunctionFactory(Map<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Function<X, Boolean> fallbackPredicate, int maximumRecursionLevel, int maximumNestingDepth, Stack<X> ownStack, ThreadLocal<Map<X, int[]>> ownLevels) {
         this.cache = cache;
         this.function = function;
         this.fallback = fallback;
@@ -42,10 +51,15 @@ public class FunctionFactory<X,Y> implements Function<X,Y> {
         this.maximumRecursionLevel = maximumRecursionLevel;
         this.maximumNestingDepth = maximumNestingDepth;
         this.ownStack = ownStack;
+        this.ownLevels = ownLevels;
     }
 
 
     public Y apply(X item) {
+        if (ownLevels != null) {
+            return applyConcurrently(item);
+        }
+
         Y result;
         synchronized (function) {
             ownStack.push(item);
@@ -73,6 +87,47 @@ public class FunctionFactory<X,Y> implements Function<X,Y> {
         }
     }
 
+    /**
+     * Applies the function without any locking.
+     * The recursion level and nesting depth are tracked per thread using counters.
+     * @param item  The function argument.
+     * @return      The result.
+     */
+    private Y applyConcurrently(X item) {
+        Y result = cache != null && item != null ? cache.get(item) : null;
+        if (result != null) {
+            return result;
+        }
+
+        Map<X, int[]> levels = ownLevels.get();
+        int[] level = levels.get(item);
+        if (level == null) {
+            level = new int[1];
+            levels.put(item, level);
+        }
+        int[] depth = globalDepth.get();
+        level[0]++;
+        depth[0]++;
+        try {
+            boolean recursionLevelExceeded = level[0] > maximumRecursionLevel && maximumRecursionLevel > 0;
+            boolean nestringDeptExceeded = depth[0] > maximumNestingDepth && maximumNestingDepth > 0;
+            boolean predicateMatched = fallbackPredicate != null && fallbackPredicate.apply(item);
+            if ((recursionLevelExceeded || nestringDeptExceeded || predicateMatched) && fallback != null) {
+                return fallback.apply(item);
+            }
+            result = function.apply(item);
+            if (item != null && result != null) {
+                cacheIfEnabled(item, result);
+            }
+            return result;
+        } finally {
+            depth[0]--;
+            if (--level[0] == 0) {
+                levels.remove(item);
+            }
+        }
+    }
+
     private void cacheIfEnabled(X item, Y result) {
         if (cache != null) {
             cache.put(item, result);
@@ -84,23 +139,63 @@ public class FunctionFactory<X,Y> implements Function<X,Y> {
         return new FunctionFactory<X, Y>(new HashMap<X, Y>(), function, null, null, 0, 0, new Stack<X>());
     }
 
+    /**
+     * Creates a function that caches its results in the specified map.
+     * @param cache     The map to use as a cache.
+     * @param function  The function to cache.
+     * @return          The caching function.
+     */
+    public static <X, Y> FunctionFactory<X, Y> cache(Map<X, Y> cache, Function<X, Y> function) {
+        return new FunctionFactory<X, Y>(cache, function, null, null, 0, 0, new Stack<X>());
+    }
+
     public static <X, Y> FunctionFactory<X, Y> wrap(Function<X, Y> function) {
         return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, new Stack<X>());
     }
 
+    /**
+     * Creates a thread safe function that caches its results.
+     * Unlike {@link #cache(Function)} the function is not guarded by a lock, so it may be applied from multiple threads in parallel.
+     * @param function  The function to cache.
+     * @return          The caching function.
+     */
+    public static <X, Y> FunctionFactory<X, Y> concurrentCache(Function<X, Y> function) {
+        return new FunctionFactory<X, Y>(new ConcurrentHashMap<X, Y>(), function, null, null, 0, 0, null, ThreadLocal.withInitial(HashMap::new));
+    }
+
+    /**
+     * Creates a thread safe function that caches its results in the specified map, which needs to be thread safe too.
+     * @param cache     The map to use as a cache.
+     * @param function  The function to cache.
+     * @return          The caching function.
+     */
+    public static <X, Y> FunctionFactory<X, Y> concurrentCache(Map<X, Y> cache, Function<X, Y> function) {
+        return new FunctionFactory<X, Y>(cache, function, null, null, 0, 0, null, ThreadLocal.withInitial(HashMap::new));
+    }
+
+    /**
+     * Creates a thread safe function that adds recursion and nesting protection to the specified function.
+     * Unlike {@link #wrap(Function)} the function is not guarded by a lock, so it may be applied from multiple threads in parallel.
+     * @param function  The function to wrap.
+     * @return          The wrapping function.
+     */
+    public static <X, Y> FunctionFactory<X, Y> concurrentWrap(Function<X, Y> function) {
+        return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, null, ThreadLocal.withInitial(HashMap::new));
+    }
+
     public FunctionFactory<X,Y> withFallback(Function<X,Y> fallback) {
-        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack);
+        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack, ownLevels);
     }
 
     public FunctionFactory<X,Y> withMaximumRecursionLevel(int maximumRecursionLevel) {
-        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack);
+        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack, ownLevels);
     }
 
     public FunctionFactory<X,Y> withMaximumNestingDepth(int maximumNestingDepth) {
-        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack);
+        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack, ownLevels);
     }
 
     public FunctionFactory<X,Y> withFallbackPredicate(Function<X,Boolean> fallbackPredicate) {
-        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack);
+        return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth, ownStack, ownLevels);
     }
 }
@@ -16,16 +16,20 @@
 
 package io.sundr.builder;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 
 public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F> {
 
-    private static final String VISIT = "visit";
-
     public final VisitableMap _visitables = new VisitableMap();
 
 
@@ -90,46 +94,106 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
     }
 
 
-    private static <V, F> Boolean canVisit(V visitor, F fluent) {
-        if (visitor instanceof TypedVisitor) {
-            if (!((TypedVisitor) visitor).getType().isAssignableFrom(fluent.getClass())) {
-                return false;
-            }
+    /**
+     * Removes one equal element per item from the list, like calling {@link List#remove(Object)} for each item would.
+     * The items are indexed by their hash code, so the list is traversed once regardless of the number of items.
+     * The index only lives for the duration of the call, as the hash code of a builder changes whenever the builder is edited.
+     * A single item is removed with {@link List#remove(Object)}, which is still a linear scan with deep equality.
+     * @param list  The list to remove from.
+     * @param items The items to remove.
+     * @return      True if the list was modified.
+     */
+    public static boolean removeEqual(List<?> list, Collection<?> items) {
+        if (list == null || items == null || list.isEmpty() || items.isEmpty()) {
+            return false;
+        }
+        if (items.size() == 1) {
+            return list.remove(items.iterator().next());
         }
 
-        if (visitor instanceof PathAwareTypedVisitor) {
-            PathAwareTypedVisitor pathAwareTypedVisitor = (PathAwareTypedVisitor) visitor;
-            Class parentType = pathAwareTypedVisitor.getParentType();
-            Class actaulParentType = pathAwareTypedVisitor.getActualParentType();
-            if (!parentType.isAssignableFrom(actaulParentType)) {
-                return false;
-            }
+        Map<Object, Integer> pending = new HashMap<Object, Integer>();
+        for (Object item : items) {
+            Integer count = pending.get(item);
+            pending.put(item, count == null ? 1 : count + 1);
         }
 
-        return hasCompatibleVisitMethod(visitor, fluent);
+        BitSet marked = new BitSet(list.size());
+        int index = 0;
+        for (Object element : list) {
+            Integer count = pending.get(element);
+            if (count != null) {
+                if (count == 1) {
+                    pending.remove(element);
+                } else {
+                    pending.put(element, count - 1);
+                }
+                marked.set(index);
+            }
+            index++;
+        }
+        return removeMarked(list, marked);
     }
 
     /**
-     * Checks if the specified visitor has a visit method compatible with the specified fluent.
-     * @param visitor
-     * @param fluent
-     * @param <V>
-     * @param <F>
-     * @return
+     * Removes every occurrence of the specified instances from the list, in a single traversal.
+     * Removing k instances from a list of n elements takes O(n + k), which is also what keeping an index from instance
+     * to position would cost, as removing an element shifts the position of every element after it.
+     * @param list  The list to remove from.
+     * @param items The instances to remove.
+     * @return      True if the list was modified.
      */
-    private static <V,F> Boolean hasCompatibleVisitMethod(V visitor, F fluent) {
-        for (Method method : visitor.getClass().getMethods()) {
-            if (!method.getName().equals(VISIT) || method.getParameterTypes().length != 1) {
-                continue;
+    public static boolean removeSame(List<?> list, Collection<?> items) {
+        if (list == null || items == null || list.isEmpty() || items.isEmpty()) {
+            return false;
+        }
+
+        Map<Object, Boolean> instances = new IdentityHashMap<Object, Boolean>();
+        for (Object item : items) {
+            instances.put(item, Boolean.TRUE);
+        }
+
+        BitSet marked = new BitSet(list.size());
+        int index = 0;
+        for (Object element : list) {
+            if (instances.containsKey(element)) {
+                marked.set(index);
             }
-            Class visitorType = method.getParameterTypes()[0];
-            if (visitorType.isAssignableFrom(fluent.getClass())) {
-                return true;
-            } else {
-                return false;
+            index++;
+        }
+        return removeMarked(list, marked);
+    }
+
+    private static Boolean removeMarked(List<?> list, BitSet marked) {
+        if (marked.isEmpty()) {
+            return false;
+        }
+        if (list instanceof RandomAccess) {
+            List<Object> target = (List<Object>) list;
+            int size = target.size();
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!marked.get(i)) {
+                    if (kept != i) {
+                        target.set(kept, target.get(i));
+                    }
+                    kept++;
+                }
+            }
+            target.subList(kept, size).clear();
+        } else {
+            Iterator<?> each = list.iterator();
+            for (int i = 0; each.hasNext(); i++) {
+                each.next();
+                if (marked.get(i)) {
+                    each.remove();
+                }
             }
         }
-        return false;
+        return true;
+    }
+
+    private static <V, F> Boolean canVisit(V visitor, F fluent) {
+        return VisitorDispatch.canVisit(visitor, fluent);
     }
 
     public F accept(Visitor visitor) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.util.Arrays;
+
+/**
+ * A growable buffer of long values.
+ * Fluents use it to hold long array properties, so that adding elements doesn't box them.
+ */
+public class LongArrayBuffer {
+
+    private long[] items = new long[0];
+    private int size;
+
+    public long get(int index) {
+        checkIndex(index, size);
+        return items[index];
+    }
+
+    public void add(long item) {
+        grow(size + 1);
+        items[size++] = item;
+    }
+
+    public void add(int index, long item) {
+        checkIndex(index, size + 1);
+        grow(size + 1);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = item;
+        size++;
+    }
+
+    public void addAll(long[] items) {
+        grow(size + items.length);
+        System.arraycopy(items, 0, this.items, size, items.length);
+        size += items.length;
+    }
+
+    public void set(int index, long item) {
+        checkIndex(index, size);
+        items[index] = item;
+    }
+
+    /**
+     * Removes the first occurrence of the specified value.
+     * @param item  The value to remove.
+     * @return      True if the value was found.
+     */
+    public boolean removeValue(long item) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == item) {
+                System.arraycopy(items, i + 1, items, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(items, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LongArrayBuffer that = (LongArrayBuffer) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (items[i] != that.items[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + (int) (items[i] ^ (items[i] >>> 32));
+        }
+        return result;
+    }
+
+    private void grow(int capacity) {
+        if (capacity > items.length) {
+            items = Arrays.copyOf(items, Math.max(capacity, items.length + (items.length >> 1) + 8));
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+}
@@ -23,12 +23,21 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class TypedVisitor<V> implements Visitor<V> {
 
+    private static final ClassValue<Map<Class, List<Class>>> TYPE_ARGUMENTS = new ClassValue<Map<Class, List<Class>>>() {
+        @Override
+        protected Map<Class, List<Class>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<Class, List<Class>>();
+        }
+    };
+
     public Class<V> getType() {
         return (Class<V>) getTypeArguments(TypedVisitor.class, getClass()).get(0);
     }
@@ -62,12 +71,23 @@ public abstract class TypedVisitor<V> implements Visitor<V> {
 
     /**
      * Get the actual type arguments a child class has used to extend a generic base class.
+     * The type arguments are resolved once per pair of classes.
      *
      * @param baseClass the base class
      * @param childClass the child class
      * @return a list of the raw classes for the actual type arguments.
      */
     static <T> List<Class> getTypeArguments(Class<T> baseClass, Class<? extends T> childClass) {
+        Map<Class, List<Class>> resolved = TYPE_ARGUMENTS.get(childClass);
+        List<Class> typeArguments = resolved.get(baseClass);
+        if (typeArguments == null) {
+            typeArguments = resolveTypeArguments(baseClass, childClass);
+            resolved.put(baseClass, typeArguments);
+        }
+        return typeArguments;
+    }
+
+    private static <T> List<Class> resolveTypeArguments(Class<T> baseClass, Class<? extends T> childClass) {
         Map<Type, Type> resolvedTypes = new LinkedHashMap<Type, Type>();
         Type type = childClass;
         // start walking up the inheritance hierarchy until we hit baseClass
@@ -109,6 +129,6 @@ public abstract class TypedVisitor<V> implements Visitor<V> {
             }
             typeArgumentsAsClasses.add(getClass(baseType));
         }
-        return typeArgumentsAsClasses;
+        return Collections.unmodifiableList(typeArgumentsAsClasses);
     }
 }
@@ -16,22 +16,66 @@
 
 package io.sundr.builder;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
-public class VisitableMap extends HashMap<String, List<Visitable>> implements Iterable<Visitable> {
+/**
+ * Holds the {@link Visitable} children of a fluent, grouped by property.
+ * Properties are kept in the order they were first populated and each property keeps the insertion order of its children.
+ * Iteration walks the underlying lists in place, and looking up a property that has no children does not modify the map.
+ */
+public class VisitableMap extends LinkedHashMap<String, List<Visitable>> implements Iterable<Visitable> {
+
+    private List[] snapshot = new List[0];
 
+    /**
+     * Returns the children of the specified property.
+     * If the property has no children, a view is returned that attaches itself to the map on the first modification.
+     * @param key   The property name.
+     * @return      The list of children.
+     */
     @Override
     public List<Visitable> get(Object key) {
-        if (!containsKey(key)) {
-           put(String.valueOf(key), new ArrayList());
+        List<Visitable> list = super.get(key);
+        if (list != null) {
+            return list;
         }
-        return super.get(key);
+        final String name = String.valueOf(key);
+        return new AbstractList<Visitable>() {
+            @Override
+            public Visitable get(int index) {
+                return detached(name).get(index);
+            }
+
+            @Override
+            public int size() {
+                return detached(name).size();
+            }
+
+            @Override
+            public Visitable set(int index, Visitable element) {
+                return detached(name).set(index, element);
+            }
+
+            @Override
+            public void add(int index, Visitable element) {
+                attached(name).add(index, element);
+            }
+
+            @Override
+            public Visitable remove(int index) {
+                return detached(name).remove(index);
+            }
+        };
     }
 
     public List<Visitable> aggregate()  {
@@ -44,17 +88,83 @@ public class VisitableMap extends HashMap<String, List<Visitable>> implements It
 
     @Override
     public Iterator<Visitable> iterator() {
-       return aggregate().iterator();
+        final List[] lists = lists();
+        return new Iterator<Visitable>() {
+            private int listIndex = 0;
+            private int itemIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (listIndex < lists.length) {
+                    if (itemIndex < lists[listIndex].size()) {
+                        return true;
+                    }
+                    listIndex++;
+                    itemIndex = 0;
+                }
+                return false;
+            }
+
+            @Override
+            public Visitable next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (Visitable) lists[listIndex].get(itemIndex++);
+            }
+        };
     }
 
     @Override
     public void forEach(Consumer<? super Visitable> action) {
-        aggregate().forEach(action);
+        for (List list : lists()) {
+            for (int i = 0; i < list.size(); i++) {
+                action.accept((Visitable) list.get(i));
+            }
+        }
     }
 
     @Override
     public Spliterator<Visitable> spliterator() {
-        return aggregate().spliterator();
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    private List<Visitable> detached(String name) {
+        List<Visitable> list = super.get(name);
+        return list != null ? list : Collections.<Visitable>emptyList();
+    }
+
+    private List<Visitable> attached(String name) {
+        List<Visitable> list = super.get(name);
+        if (list == null) {
+            list = new ArrayList<Visitable>();
+            put(name, list);
+        }
+        return list;
     }
 
+    /**
+     * Returns the per property lists in iteration order.
+     * The array is reused for as long as the map holds the same lists, so that children can be traversed in place
+     * even if a visitor modifies the map during the traversal.
+     * @return  An array of the per property lists.
+     */
+    private List[] lists() {
+        List[] current = snapshot;
+        if (current.length == size()) {
+            int index = 0;
+            for (List<Visitable> list : values()) {
+                if (current[index] != list) {
+                    break;
+                }
+                index++;
+            }
+            if (index == current.length) {
+                return current;
+            }
+        }
+        current = values().toArray(new List[size()]);
+        snapshot = current;
+        return current;
+    }
 }
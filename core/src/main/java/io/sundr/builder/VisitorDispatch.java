@@ -0,0 +1,95 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides if a {@link Visitor} can visit a {@link Visitable}.
+ * The reflective lookup of the visit method is performed once per visitor class and the outcome
+ * for each visitable class is kept in a table, so that subsequent visits are simple lookups.
+ */
+public final class VisitorDispatch {
+
+    private static final String VISIT = "visit";
+
+    private static final ClassValue<Map<Class, Boolean>> DISPATCH_TABLES = new ClassValue<Map<Class, Boolean>>() {
+        @Override
+        protected Map<Class, Boolean> computeValue(Class<?> visitorType) {
+            return new ConcurrentHashMap<Class, Boolean>();
+        }
+    };
+
+    private VisitorDispatch() {
+        //Utility Class
+    }
+
+    /**
+     * Checks if the specified visitor can visit the specified fluent.
+     * @param visitor   The visitor.
+     * @param fluent    The fluent.
+     * @return          True if the visitor is compatible with the fluent, false otherwise.
+     */
+    public static <V, F> Boolean canVisit(V visitor, F fluent) {
+        if (visitor instanceof TypedVisitor) {
+            if (!((TypedVisitor) visitor).getType().isAssignableFrom(fluent.getClass())) {
+                return false;
+            }
+        }
+
+        if (visitor instanceof PathAwareTypedVisitor) {
+            PathAwareTypedVisitor pathAwareTypedVisitor = (PathAwareTypedVisitor) visitor;
+            Class parentType = pathAwareTypedVisitor.getParentType();
+            Class actaulParentType = pathAwareTypedVisitor.getActualParentType();
+            if (!parentType.isAssignableFrom(actaulParentType)) {
+                return false;
+            }
+        }
+
+        return hasCompatibleVisitMethod(visitor.getClass(), fluent.getClass());
+    }
+
+    /**
+     * Checks if the specified visitor type has a visit method compatible with the specified fluent type.
+     * The result is computed once per pair of types.
+     * @param visitorType   The visitor type.
+     * @param fluentType    The fluent type.
+     * @return              True if a compatible visit method exists, false otherwise.
+     */
+    public static Boolean hasCompatibleVisitMethod(Class visitorType, Class fluentType) {
+        Map<Class, Boolean> table = DISPATCH_TABLES.get(visitorType);
+        Boolean result = table.get(fluentType);
+        if (result == null) {
+            result = findCompatibleVisitMethod(visitorType, fluentType);
+            table.put(fluentType, result);
+        }
+        return result;
+    }
+
+    private static Boolean findCompatibleVisitMethod(Class visitorType, Class fluentType) {
+        for (Method method : visitorType.getMethods()) {
+            if (!method.getName().equals(VISIT) || method.getParameterTypes().length != 1 || method.isBridge()) {
+                continue;
+            }
+            Class visitType = method.getParameterTypes()[0];
+            return visitType.isAssignableFrom(fluentType);
+        }
+        return false;
+    }
+}
@@ -19,6 +19,13 @@ package io.sundr;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class FunctionFactoryTest
 {
 
@@ -33,6 +40,16 @@ public class FunctionFactoryTest
         }
     }).withMaximumRecursionLevel(10);
 
+    private static final Function<String, String> CONCURRENT_TEST_FUNCTION = FunctionFactory.concurrentCache(new Function<String, String>() {
+        public String apply(String item) {
+            return "R" + CONCURRENT_TEST_FUNCTION.apply(item);
+        }
+    }).withFallback( new Function<String, String>() {
+        public String apply(String item) {
+            return "overflow";
+        }
+    }).withMaximumRecursionLevel(10);
+
 
     @Test
     public void testCachingWithOverflowProtection() {
@@ -43,4 +60,25 @@ public class FunctionFactoryTest
         result = TEST_FUNCTION.apply("");
         Assert.assertEquals(expectedResult, result);
     }
+
+    @Test
+    public void testConcurrentCachingWithOverflowProtection() throws Exception {
+        final String expectedResult = "RRRRRRRRRRoverflow";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    public String call() {
+                        return CONCURRENT_TEST_FUNCTION.apply("");
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                Assert.assertEquals(expectedResult, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+public class BaseFluentTest {
+
+    @Test
+    public void testRemoveEqual() {
+        List<String> list = new ArrayList<String>(Arrays.asList("a", "b", "a", "c", "a", "d"));
+        Assert.assertTrue(BaseFluent.removeEqual(list, Arrays.asList("a", "a", "d", "e")));
+        Assert.assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        List<String> linked = new LinkedList<String>(Arrays.asList("a", "b", "a", "c"));
+        Assert.assertTrue(BaseFluent.removeEqual(linked, Arrays.asList("a", "c")));
+        Assert.assertEquals(Arrays.asList("b", "a"), linked);
+
+        Assert.assertFalse(BaseFluent.removeEqual(list, Arrays.asList("x", "y")));
+        Assert.assertEquals(Arrays.asList("b", "c", "a"), list);
+    }
+
+    @Test
+    public void testRemoveSame() {
+        String first = new String("a");
+        String second = new String("a");
+        List<String> list = new ArrayList<String>(Arrays.asList(first, second, first, "b"));
+        Assert.assertTrue(BaseFluent.removeSame(list, Arrays.asList(first)));
+        Assert.assertEquals(2, list.size());
+        Assert.assertSame(second, list.get(0));
+        Assert.assertFalse(BaseFluent.removeSame(list, Arrays.asList(new String("b"))));
+    }
+}
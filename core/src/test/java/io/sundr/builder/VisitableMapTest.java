@@ -0,0 +1,70 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class VisitableMapTest {
+
+    static class Item extends BaseFluent<Item> {
+    }
+
+    @Test
+    public void testLookupDoesNotModify() {
+        VisitableMap map = new VisitableMap();
+        Assert.assertTrue(map.get("items").isEmpty());
+        Assert.assertFalse(map.get("items").remove(new Item()));
+        Assert.assertTrue(map.isEmpty());
+
+        Item item = new Item();
+        map.get("items").add(item);
+        Assert.assertEquals(1, map.size());
+        Assert.assertEquals(Arrays.asList(item), map.get("items"));
+    }
+
+    @Test
+    public void testIterationOrder() {
+        VisitableMap map = new VisitableMap();
+        Item first = new Item();
+        Item second = new Item();
+        Item third = new Item();
+        map.get("b").add(first);
+        map.get("a").add(second);
+        map.get("b").add(third);
+
+        final List<Visitable> visited = new ArrayList<Visitable>();
+        for (Visitable v : map) {
+            visited.add(v);
+        }
+        Assert.assertEquals(Arrays.asList(first, third, second), visited);
+
+        map.get("b").remove(first);
+        visited.clear();
+        map.forEach(new Consumer<Visitable>() {
+            public void accept(Visitable v) {
+                visited.add(v);
+            }
+        });
+        Assert.assertEquals(Arrays.asList(third, second), visited);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class VisitorDispatchTest {
+
+    static class FooFluent extends BaseFluent<FooFluent> {
+    }
+
+    static class BarFluent extends BaseFluent<BarFluent> {
+    }
+
+    @Test
+    public void testVisitorDispatch() {
+        Visitor<FooFluent> visitor = new Visitor<FooFluent>() {
+            public void visit(FooFluent element) {
+            }
+        };
+
+        Assert.assertTrue(VisitorDispatch.canVisit(visitor, new FooFluent()));
+        Assert.assertFalse(VisitorDispatch.canVisit(visitor, new BarFluent()));
+        //Second lookup is served from the dispatch table.
+        Assert.assertTrue(VisitorDispatch.canVisit(visitor, new FooFluent()));
+        Assert.assertFalse(VisitorDispatch.canVisit(visitor, new BarFluent()));
+    }
+
+    @Test
+    public void testTypedVisitorDispatch() {
+        final int[] visits = new int[1];
+        TypedVisitor<BarFluent> visitor = new TypedVisitor<BarFluent>() {
+            public void visit(BarFluent element) {
+                visits[0]++;
+            }
+        };
+
+        Assert.assertEquals(BarFluent.class, visitor.getType());
+        new FooFluent().accept(visitor);
+        new BarFluent().accept(visitor);
+        new BarFluent().accept(visitor);
+        Assert.assertEquals(2, visits[0]);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.examples.arrays;
+
+import io.sundr.builder.annotations.Buildable;
+
+@Buildable(primitiveBuffersEnabled = true)
+public class Series {
+
+    private final String name;
+    private final int[] counts;
+    private final long[] timestamps;
+    private final double[] values;
+    private final boolean[] flags;
+
+    public Series(String name, int[] counts, long[] timestamps, double[] values, boolean[] flags) {
+        this.name = name;
+        this.counts = counts;
+        this.timestamps = timestamps;
+        this.values = values;
+        this.flags = flags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    public boolean[] getFlags() {
+        return flags;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.examples.arrays;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SeriesTest {
+
+    @Test
+    public void testBuildFromPrimitives() {
+        SeriesBuilder builder = new SeriesBuilder().withName("load");
+        for (int i = 0; i < 1000; i++) {
+            builder.addToCounts(i).addToTimestamps(1000L * i).addToValues(i / 2.0).addToFlags(i % 2 == 0);
+        }
+        Series series = builder.build();
+
+        assertEquals(1000, series.getCounts().length);
+        assertEquals(999, series.getCounts()[999]);
+        assertEquals(999000L, series.getTimestamps()[999]);
+        assertEquals(499.5, series.getValues()[999], 0);
+        assertFalse(series.getFlags()[999]);
+    }
+
+    @Test
+    public void testEditAndRemove() {
+        Series series = new SeriesBuilder()
+                .withCounts(1, 2, 3, 2)
+                .addToCounts(0, 0)
+                .setToCounts(1, 5)
+                .removeFromCounts(2)
+                .build();
+
+        assertArrayEquals(new int[]{0, 5, 3, 2}, series.getCounts());
+        assertArrayEquals(new long[0], series.getTimestamps());
+        assertFalse(new SeriesBuilder(series).hasValues());
+        assertTrue(new SeriesBuilder(series).hasCounts());
+    }
+
+    @Test
+    public void testEquality() {
+        SeriesBuilder first = new SeriesBuilder().withValues(0.5, Double.NaN).withFlags(true);
+        SeriesBuilder second = new SeriesBuilder().addAllToValues(Arrays.asList(0.5, Double.NaN)).addToFlags(true);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, second.addToFlags(false));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.examples.shapes;
+
+import io.sundr.builder.annotations.Buildable;
+
+import java.util.List;
+import java.util.Map;
+
+@Buildable(unmodifiableCollectionsEnabled = true)
+public class Palette {
+
+    private final String name;
+    private final List<String> colors;
+    private final Map<String, String> labels;
+    private final List<Shape> samples;
+
+    public Palette(String name, List<String> colors, Map<String, String> labels, List<Shape> samples) {
+        this.name = name;
+        this.colors = colors;
+        this.labels = labels;
+        this.samples = samples;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getColors() {
+        return colors;
+    }
+
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    public List<Shape> getSamples() {
+        return samples;
+    }
+}
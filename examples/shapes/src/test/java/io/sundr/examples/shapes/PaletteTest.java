@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.examples.shapes;
+
+import io.sundr.examples.shapes.v1.CircleBuilder;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PaletteTest {
+
+    @Test
+    public void testCollectionsAreHandedOutWithoutCopying() {
+        PaletteBuilder builder = new PaletteBuilder()
+                .withName("primary")
+                .addToColors("red", "green")
+                .addToLabels("owner", "me");
+
+        Palette first = builder.build();
+        Palette second = builder.build();
+
+        assertSame(first.getColors(), second.getColors());
+        assertSame(first.getLabels(), second.getLabels());
+        assertSame(first.getColors(), builder.getColors());
+    }
+
+    @Test
+    public void testHandedOutCollectionsAreUnmodifiable() {
+        Palette palette = new PaletteBuilder().addToColors("red").addToLabels("owner", "me").build();
+
+        try {
+            palette.getColors().add("blue");
+            fail("Expected an unmodifiable list.");
+        } catch (UnsupportedOperationException e) {
+            //expected
+        }
+        try {
+            palette.getLabels().clear();
+            fail("Expected an unmodifiable map.");
+        } catch (UnsupportedOperationException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void testEditingAfterBuildCopies() {
+        PaletteBuilder builder = new PaletteBuilder().addToColors("red", "green").addToLabels("owner", "me");
+        Palette first = builder.build();
+
+        builder.addToColors("blue").removeFromLabels("owner").addToLabels("owner", "you").withColors("black", "white");
+        Palette second = builder.addToColors("grey").build();
+
+        assertEquals(2, first.getColors().size());
+        assertEquals("me", first.getLabels().get("owner"));
+        assertEquals(3, second.getColors().size());
+        assertEquals("you", second.getLabels().get("owner"));
+
+        Palette edited = new PaletteBuilder(second).removeFromColors("grey").build();
+        assertEquals(3, second.getColors().size());
+        assertEquals(2, edited.getColors().size());
+    }
+
+    @Test
+    public void testBuildableCollectionsAreBuilt() {
+        Palette palette = new PaletteBuilder().addToSamples(new CircleBuilder<Integer>().withX(1).withY(2).withRadius(3).build()).build();
+        assertEquals(1, palette.getSamples().size());
+    }
+}
@@ -16,11 +16,17 @@
 
 package io.sundr.examples.validation;
 
+import io.sundr.builder.ValidationUtils;
 import org.junit.Test;
 
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
 import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
 
 public class AddressValidationTest {
 
@@ -79,4 +85,84 @@ public class AddressValidationTest {
                 .withZipCode("1234")
                 .build();
     }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testDeferredValidation() {
+        ValidationUtils.deferValidation(new Supplier<Address>() {
+            public Address get() {
+                return new AddressBuilder().withStreet("Sesame")
+                        .withNumber(0)
+                        .build();
+            }
+        });
+    }
+
+    @Test
+    public void testDeferredValidationWithExplicitlySkippingValidation() {
+        ValidationUtils.deferValidation(new Supplier<Address>() {
+            public Address get() {
+                return new AddressBuilder(false).withStreet("Sesame")
+                        .withNumber(0)
+                        .build();
+            }
+        });
+    }
+
+    @Test
+    public void testDeferredValidationSkipsObjectsThatAreNotReturned() {
+        ValidationUtils.deferValidation(new Supplier<Address>() {
+            public Address get() {
+                new AddressBuilder().withStreet("Sesame").withNumber(0).build();
+                return new AddressBuilder().withStreet("Sesame").withNumber(1).build();
+            }
+        });
+    }
+
+    @Test
+    public void testDeferredValidationValidatesTheResultOnce() {
+        try {
+            ValidationUtils.deferValidation(new Supplier<Address>() {
+                public Address get() {
+                    new AddressBuilder().withStreet("Sesame").withNumber(0).build();
+                    Address address = new AddressBuilder(validator).withNumber(1).build();
+                    ValidationUtils.validate(address, validator);
+                    return address;
+                }
+            });
+        } catch (ConstraintViolationException e) {
+            assertEquals(1, e.getConstraintViolations().size());
+            return;
+        }
+        throw new AssertionError("Expected constraint violations");
+    }
+
+    @Test
+    public void testExplicitValidationWhileDeferred() {
+        final Address invalid = new AddressBuilder(false).withStreet("Sesame").withNumber(0).build();
+        ValidationUtils.deferValidation(new Supplier<Address>() {
+            public Address get() {
+                try {
+                    ValidationUtils.validate(invalid);
+                } catch (ConstraintViolationException e) {
+                    return null;
+                }
+                throw new AssertionError("Expected constraint violations");
+            }
+        });
+    }
+
+    @Test
+    public void testValidateAllInParallel() {
+        List<Address> addresses = new ArrayList<Address>();
+        for (int i = 0; i < 100; i++) {
+            addresses.add(new AddressBuilder(false).withStreet("Sesame").withNumber(i % 10).withZipCode("1234").build());
+        }
+        try {
+            ValidationUtils.validateAll(addresses, validator, true);
+        } catch (ConstraintViolationException e) {
+            assertEquals(10, e.getConstraintViolations().size());
+            return;
+        }
+        throw new AssertionError("Expected constraint violations");
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.sundr.examples.validation;
+
+import io.sundr.builder.ValidationUtils;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PersonValidationTest {
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testWithInvalidAddress() {
+        new PersonBuilder().withName("John")
+                .withNewAddress().withStreet("Sesame").withNumber(0).endAddress()
+                .build();
+    }
+
+    @Test
+    public void testDeferredValidationWithValidAddress() {
+        ValidationUtils.deferValidation(new Supplier<Person>() {
+            public Person get() {
+                return new PersonBuilder().withName("John")
+                        .withNewAddress().withStreet("Sesame").withNumber(1).endAddress()
+                        .build();
+            }
+        });
+    }
+
+    @Test
+    public void testDeferredValidationValidatesNestedObjectsOnce() {
+        try {
+            ValidationUtils.deferValidation(new Supplier<Person>() {
+                public Person get() {
+                    return new PersonBuilder().withName("John")
+                            .withNewAddress().withStreet("Sesame").withNumber(0).endAddress()
+                            .build();
+                }
+            });
+        } catch (ConstraintViolationException e) {
+            //The address is only validated through the person, not on its own too.
+            assertEquals(1, e.getConstraintViolations().size());
+            ConstraintViolation<?> violation = e.getConstraintViolations().iterator().next();
+            assertTrue(Person.class.isAssignableFrom(violation.getRootBeanClass()));
+            assertEquals("address.number", violation.getPropertyPath().toString());
+            return;
+        }
+        throw new AssertionError("Expected constraint violations");
+    }
+
+    @Test
+    public void testDeferredValidationSkipsObjectsNotReachedFromTheResult() {
+        ValidationUtils.deferValidation(new Supplier<Person>() {
+            public Person get() {
+                new AddressBuilder().withStreet("Sesame").withNumber(0).build();
+                return new PersonBuilder().withName("John")
+                        .withNewAddress().withStreet("Sesame").withNumber(1).endAddress()
+                        .build();
+            }
+        });
+    }
+}
@@ -36,10 +36,7 @@ import java.util.TreeSet;
 
 import io.sundr.codegen.generator.CodeGeneratorBuilder;
 import io.sundr.maven.filter.ArtifactFilter;
-import io.sundr.maven.filter.CompositeFilter;
-import io.sundr.maven.filter.ExcludesFilter;
 import io.sundr.maven.filter.Filters;
-import io.sundr.maven.filter.IncludesFilter;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
@@ -266,10 +263,7 @@ public class GenerateBomMojo extends AbstractSundrioMojo {
     private void applyOverrides(BomConfig config, Map<Artifact, Dependency> dependencies) {
         if (config.getOverrides() != null) {
             for (VersionOverride override : config.getOverrides()) {
-                List<ArtifactFilter> filters = new LinkedList<ArtifactFilter>();
-                filters.add(new IncludesFilter(override.getDependencies().getIncludes()));
-                filters.add(new ExcludesFilter(override.getDependencies().getExcludes()));
-                CompositeFilter filter = new CompositeFilter(filters);
+                ArtifactFilter filter = Filters.createOverrideFilter(override);
 
                 for (Map.Entry<Artifact, Dependency> entry : dependencies.entrySet()) {
                     if (filter.apply(entry.getKey()) != null) {
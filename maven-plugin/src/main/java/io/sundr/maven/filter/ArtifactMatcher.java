@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.maven.filter;
+
+import org.apache.maven.artifact.Artifact;
+import org.codehaus.plexus.util.SelectorUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches artifacts against a set of rules, that are parsed once.
+ * Rules with a literal groupId and artifactId are indexed by them, so that an artifact is only checked
+ * against the rules of its own groupId and artifactId and against the rules that use wildcards.
+ */
+public class ArtifactMatcher {
+
+    private static final String ANY = "*";
+
+    private final Set<String> unconditional = new HashSet<String>();
+    private final Map<String, List<String>> exact = new HashMap<String, List<String>>();
+    private final List<String> wildcards = new ArrayList<String>();
+    private boolean matchesAll;
+
+    public ArtifactMatcher(Set<String> rules) {
+        for (String rule : ArtifactRuleFilter.expand(rules)) {
+            String[] parts = rule.split(":");
+            boolean anyRemainder = ANY.equals(parts[2]) && ANY.equals(parts[3]) && ANY.equals(parts[4]);
+            if (isLiteral(parts[0]) && isLiteral(parts[1])) {
+                String key = parts[0] + ":" + parts[1];
+                if (anyRemainder) {
+                    unconditional.add(key);
+                } else {
+                    List<String> bucket = exact.get(key);
+                    if (bucket == null) {
+                        bucket = new ArrayList<String>();
+                        exact.put(key, bucket);
+                    }
+                    bucket.add(rule);
+                }
+            } else if (anyRemainder && ANY.equals(parts[0]) && ANY.equals(parts[1])) {
+                matchesAll = true;
+            } else {
+                wildcards.add(rule);
+            }
+        }
+    }
+
+    public boolean matches(Artifact artifact) {
+        if (matchesAll) {
+            return true;
+        }
+        String key = artifact.getGroupId() + ":" + artifact.getArtifactId();
+        if (unconditional.contains(key)) {
+            return true;
+        }
+        List<String> candidates = exact.get(key);
+        if (candidates == null && wildcards.isEmpty()) {
+            return false;
+        }
+
+        String coords = key + ":" + artifact.getVersion() + ":" + artifact.getType() + ":" + artifact.getClassifier();
+        if (candidates != null) {
+            for (String candidate : candidates) {
+                if (SelectorUtils.match(candidate, coords)) {
+                    return true;
+                }
+            }
+        }
+        for (String wildcard : wildcards) {
+            if (SelectorUtils.match(wildcard, coords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(String part) {
+        return part.indexOf('*') < 0 && part.indexOf('?') < 0;
+    }
+}
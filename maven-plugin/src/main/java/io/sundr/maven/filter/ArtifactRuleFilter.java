@@ -17,7 +17,6 @@
 package io.sundr.maven.filter;
 
 import org.apache.maven.artifact.Artifact;
-import org.codehaus.plexus.util.SelectorUtils;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -29,21 +28,14 @@ public abstract class ArtifactRuleFilter implements ArtifactFilter {
     private static final String ARTIFACT_FORMAT = "%s:%s:%s:%s:%s";
     private static final Pattern ARTIFACT_PATTERN = Pattern.compile("(?<groupId>[^:]+):(?<artifactId>[^:]+)(:(?<version>[^:]+))?(:(?<type>[^:]+))?(:(?<classifier>[^:]+))?");
 
+    private final ArtifactMatcher matcher;
 
-    static boolean matches(Artifact artifact, Set<String> set) {
-        Set<String> expanded = expand(set);
-        String coords = String.format(ARTIFACT_FORMAT, artifact.getGroupId(),
-                artifact.getArtifactId(),
-                artifact.getVersion(),
-                artifact.getType(),
-                artifact.getClassifier());
+    protected ArtifactRuleFilter(Set<String> rules) {
+        this.matcher = new ArtifactMatcher(rules);
+    }
 
-        for (String e : expanded) {
-            if (SelectorUtils.match(e, coords)) {
-                return true;
-            }
-        }
-        return false;
+    boolean matches(Artifact artifact) {
+        return matcher.matches(artifact);
     }
 
     static Set<String> expand(Set<String> set) {
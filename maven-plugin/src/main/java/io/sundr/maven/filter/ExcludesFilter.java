@@ -22,17 +22,15 @@ import java.util.Set;
 
 public class ExcludesFilter extends ArtifactRuleFilter {
 
-    private final Set<String> includes;
-
-    public ExcludesFilter(Set<String> includes) {
-        this.includes = includes;
+    public ExcludesFilter(Set<String> excludes) {
+        super(excludes);
     }
 
     @Override
     public Artifact apply(Artifact artifact) {
         if (artifact == null) {
             return null;
-        } else if (!matches(artifact, includes)) {
+        } else if (!matches(artifact)) {
             return artifact;
         } else {
             return null;
@@ -18,6 +18,7 @@ package io.sundr.maven.filter;
 
 import io.sundr.maven.BomConfig;
 import io.sundr.maven.BomImport;
+import io.sundr.maven.VersionOverride;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
@@ -86,6 +87,13 @@ public class Filters {
         return new CompositeFilter(filters);
     }
 
+    public static ArtifactFilter createOverrideFilter(VersionOverride override) {
+        final List<ArtifactFilter> filters = new LinkedList<ArtifactFilter>();
+        filters.add(new IncludesFilter(override.getDependencies().getIncludes()));
+        filters.add(new ExcludesFilter(override.getDependencies().getExcludes()));
+        return new CompositeFilter(filters);
+    }
+
     public static Set<Artifact> filter(Set<Artifact> artifacts, ArtifactFilter filter) {
         Set<Artifact> result = new LinkedHashSet<Artifact>();
         for (Artifact artifact : artifacts) {
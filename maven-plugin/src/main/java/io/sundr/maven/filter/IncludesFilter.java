@@ -22,17 +22,15 @@ import java.util.Set;
 
 public class IncludesFilter extends ArtifactRuleFilter {
 
-    private final Set<String> includes;
-
     public IncludesFilter(Set<String> includes) {
-        this.includes = includes;
+        super(includes);
     }
 
     @Override
     public Artifact apply(Artifact artifact) {
         if (artifact == null) {
             return null;
-        } else if (matches(artifact, includes)) {
+        } else if (matches(artifact)) {
             return artifact;
         } else {
             return null;
@@ -0,0 +1,133 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.sundr.maven.filter;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.codehaus.plexus.util.SelectorUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ArtifactMatcherTest {
+
+    private static final List<Artifact> ARTIFACTS = Arrays.asList(
+            artifact("io.sundr", "sundr-core", "1.0", "jar", null),
+            artifact("io.sundr", "sundr-core", "1.0", "jar", "sources"),
+            artifact("io.sundr", "sundr-core", "2.0", "pom", null),
+            artifact("io.sundr", "sundr-codegen", "1.0", "jar", null),
+            artifact("io.sundrio", "sundr-core", "1.0", "jar", null),
+            artifact("org.apache.maven", "maven-core", "3.3.1", "jar", null),
+            artifact("org.apache.maven.plugins", "maven-compiler-plugin", "3.1", "maven-plugin", null));
+
+    @Test
+    public void testMatchAll() {
+        assertSameAsSelector(rules("*:*"));
+        assertTrue(new ArtifactMatcher(rules("*:*")).matches(ARTIFACTS.get(0)));
+    }
+
+    @Test
+    public void testLiteralGroupAndArtifact() {
+        assertSameAsSelector(rules("io.sundr:sundr-core"));
+        ArtifactMatcher matcher = new ArtifactMatcher(rules("io.sundr:sundr-core"));
+        assertTrue(matcher.matches(ARTIFACTS.get(1)));
+        assertFalse(matcher.matches(ARTIFACTS.get(3)));
+        assertFalse(matcher.matches(ARTIFACTS.get(4)));
+    }
+
+    @Test
+    public void testLiteralCoordinates() {
+        assertSameAsSelector(rules("io.sundr:sundr-core:1.0:jar"));
+        ArtifactMatcher matcher = new ArtifactMatcher(rules("io.sundr:sundr-core:1.0:jar"));
+        assertTrue(matcher.matches(ARTIFACTS.get(0)));
+        assertTrue(matcher.matches(ARTIFACTS.get(1)));
+        assertFalse(matcher.matches(ARTIFACTS.get(2)));
+    }
+
+    @Test
+    public void testWildcardGroupId() {
+        assertSameAsSelector(rules("io.sundr*:sundr-core"));
+        assertSameAsSelector(rules("*:sundr-core:1.0"));
+        assertSameAsSelector(rules("org.apache.*:*"));
+        assertSameAsSelector(rules("*:maven-*:*:maven-plugin"));
+        ArtifactMatcher matcher = new ArtifactMatcher(rules("io.sundr*:sundr-core"));
+        assertTrue(matcher.matches(ARTIFACTS.get(4)));
+        assertFalse(matcher.matches(ARTIFACTS.get(3)));
+    }
+
+    @Test
+    public void testSingleCharacterWildcard() {
+        assertSameAsSelector(rules("io.sundr:sundr-co?e"));
+        assertSameAsSelector(rules("io.sundr:sundr-core:?.0"));
+        assertSameAsSelector(rules("io.sundri?:sundr-core"));
+        assertTrue(new ArtifactMatcher(rules("io.sundr:sundr-co?e")).matches(ARTIFACTS.get(0)));
+        assertFalse(new ArtifactMatcher(rules("io.sundri?:sundr-core")).matches(ARTIFACTS.get(0)));
+    }
+
+    @Test
+    public void testNullClassifier() {
+        assertSameAsSelector(rules("io.sundr:sundr-core:1.0:jar:sources"));
+        assertSameAsSelector(rules("io.sundr:sundr-core:*:*:*"));
+        ArtifactMatcher matcher = new ArtifactMatcher(rules("io.sundr:sundr-core:1.0:jar:sources"));
+        assertFalse(matcher.matches(ARTIFACTS.get(0)));
+        assertTrue(matcher.matches(ARTIFACTS.get(1)));
+    }
+
+    @Test
+    public void testMixedRules() {
+        assertSameAsSelector(rules("io.sundr:sundr-codegen", "io.sundr:sundr-core:2.0", "org.apache.*:maven-co?e", "*:*:*:maven-plugin"));
+        assertSameAsSelector(rules());
+    }
+
+    private static void assertSameAsSelector(Set<String> rules) {
+        ArtifactMatcher matcher = new ArtifactMatcher(rules);
+        for (Artifact artifact : ARTIFACTS) {
+            assertEquals(rules + " on " + artifact, selectorMatches(artifact, rules), matcher.matches(artifact));
+        }
+    }
+
+    /**
+     * The matching that {@link ArtifactMatcher} replaced: every expanded rule is checked against the artifact coordinates.
+     */
+    private static boolean selectorMatches(Artifact artifact, Set<String> rules) {
+        String coords = String.format("%s:%s:%s:%s:%s", artifact.getGroupId(), artifact.getArtifactId(),
+                artifact.getVersion(), artifact.getType(), artifact.getClassifier());
+        for (String rule : ArtifactRuleFilter.expand(rules)) {
+            if (SelectorUtils.match(rule, coords)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> rules(String... rules) {
+        return new HashSet<String>(Arrays.asList(rules));
+    }
+
+    private static Artifact artifact(String groupId, String artifactId, String version, String type, String classifier) {
+        return new DefaultArtifact(groupId, artifactId, version, "compile", type, classifier, new DefaultArtifactHandler(type));
+    }
+}